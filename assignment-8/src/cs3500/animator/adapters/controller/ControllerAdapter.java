@@ -22,13 +22,13 @@ import cs3500.animator.provider.model.IModelCanvas;
 import cs3500.animator.provider.model.IModelMotion;
 
 import cs3500.animator.provider.view.AnimatorInteractiveView;
+import cs3500.animator.provider.view.MotionCursor;
 
 import cs3500.animator.util.AnimationBuilder;
 import cs3500.animator.util.AnimationReader;
 
 import cs3500.animator.view.EasyAnimatorView;
 
-import java.awt.Color;
 import java.awt.Toolkit;
 
 import java.awt.event.ActionEvent;
@@ -55,7 +55,7 @@ public class ControllerAdapter extends EasyAnimatorController<AnimatedRectangle,
      */
     public int tick = 0;
 
-    private final IAnimatorModel model;  // Model shapes are stored in
+    private final MotionCursor cursor;  // Cursor over the motions of the model's shapes
     private final AnimatorInteractiveView view;  // View to draw shapes to
 
     private final IModelCanvas canvas;  // Drawing canvas properties
@@ -69,7 +69,7 @@ public class ControllerAdapter extends EasyAnimatorController<AnimatedRectangle,
      * @param view  View to draw shapes to
      */
     public TimerListener(IAnimatorModel model, AnimatorInteractiveView view) {
-      this.model = model;
+      this.cursor = new MotionCursor(model);
       this.view = view;
 
       canvas = model.getCanvas();
@@ -79,18 +79,11 @@ public class ControllerAdapter extends EasyAnimatorController<AnimatedRectangle,
 
     @Override
     public void actionPerformed(ActionEvent e) {
-      // Draw each shape in model
-      for (String shapeId : model.getShapeIds()) {
-        // Find shape's motion corresponding to the current tick, or null if there is none
-        IModelMotion drawable = null;
-        for (IModelMotion motion : model.getShapeIdMotions(shapeId)) {
-          if (motion.getStartTick() <= tick && tick < motion.getEndTick()
-              && (canvas.contains(motion.getStartPosition(), motion.getStartDimension())
-              || canvas.contains(motion.getEndPosition(), motion.getEndDimension()))) {
-            drawable = motion;
-            break;
-          }
-        }
+      // Draw each shape in model, moving the cursor to the shape's motion at the current tick,
+      // which is only searched for after a restart or loop
+      cursor.seek(tick);
+      for (int shape = 0; shape < cursor.getNumShapes(); shape++) {
+        IModelMotion drawable = cursor.getMotion(shape);
 
         // Draw shape based on corresponding motion
         if (drawable != null) {
@@ -101,16 +94,15 @@ public class ControllerAdapter extends EasyAnimatorController<AnimatedRectangle,
           int w = interpDimen.getWidth();
           int h = interpDimen.getHeight();
           ModelColor interpColor = drawable.interpolateColor(tick);
-          int r = interpColor.getRed();
-          int g = interpColor.getGreen();
-          int b = interpColor.getBlue();
+          int rgb = interpColor.getRed() << 16 | interpColor.getGreen() << 8
+              | interpColor.getBlue();
 
-          switch (model.getShapeIdShape(shapeId).getShapeType()) {
+          switch (cursor.getShapeType(shape)) {
             case RECTANGLE:
-              view.drawRect(x, y, w, h, new Color(r, g, b));
+              view.drawRect(x, y, w, h, rgb);
               break;
             case ELLIPSE:
-              view.drawEllipse(x, y, w, h, new Color(r, g, b));
+              view.drawEllipse(x, y, w, h, rgb);
               break;
             default:
               throw new IllegalArgumentException("This shape type is not supported");
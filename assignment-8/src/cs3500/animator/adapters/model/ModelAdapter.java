@@ -21,21 +21,42 @@ import cs3500.animator.provider.model.IModelCanvas;
 import cs3500.animator.provider.model.IModelMotion;
 import cs3500.animator.provider.model.IModelShape;
 
-import java.util.LinkedHashSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import java.util.stream.Collectors;
 
 /**
- * Model adapter for use with provider's implementation of Easy Animator.
+ * Model adapter for use with provider's implementation of Easy Animator. Adapted shapes and motions
+ * are built once and indexed by shape name, then rebuilt only when the delegate's version changes,
+ * so lookups by shape name take constant time.
  */
 public class ModelAdapter implements IAnimatorModel, IModelCanvas {
 
+  // Adapted shape and its adapted motions
+  private static final class Entry {
+
+    private final ShapeAdapter shape;
+    private final List<IModelMotion> motions;
+
+    private Entry(ShapeAdapter shape, List<IModelMotion> motions) {
+      this.shape = shape;
+      this.motions = motions;
+    }
+  }
+
   // Model delegate to interface with
   private final EasyAnimatorModel<AnimatedShape2D, Motion2D> delegate;
 
+  // Adapted shapes keyed by shape name in model order, valid only for the delegate version it was
+  // built from
+  private Map<String, Entry> entries;
+  private long entriesVersion;
+
   /**
    * Instantiates a {@code ModelAdapter} object with the given model delegate.
    *
@@ -67,32 +88,62 @@ public class ModelAdapter implements IAnimatorModel, IModelCanvas {
     throw new UnsupportedOperationException("This adapter is immutable.");
   }
 
+  // Returns the adapted shapes keyed by shape name, rebuilding them if the delegate has changed
+  // since they were built
+  private Map<String, Entry> getEntries() {
+    long version = delegate.getVersion();
+    if (entries == null || entriesVersion != version) {
+      Map<String, Entry> newEntries = new LinkedHashMap<>();
+      for (AnimatedShape2D shape : delegate.getShapes()) {
+        List<IModelMotion> motions = shape.getMotions().stream().map(MotionAdapter::new)
+            .collect(Collectors.toList());
+        newEntries.put(shape.getName(),
+            new Entry(new ShapeAdapter(shape), Collections.unmodifiableList(motions)));
+      }
+
+      entries = newEntries;
+      entriesVersion = version;
+    }
+
+    return entries;
+  }
+
+  // Returns the adapted shape with the given name. Throws an IllegalArgumentException if there is
+  // no such shape.
+  private Entry getEntry(String shapeId) throws IllegalArgumentException {
+    Entry entry = getEntries().get(shapeId);
+    if (entry == null) {
+      throw new IllegalArgumentException("Shape not found.");
+    }
+
+    return entry;
+  }
+
+  /**
+   * Returns an unmodifiable set of the names of the shapes in the model, in model order.
+   *
+   * @return Names of shapes in model
+   */
   @Override
   public Set<String> getShapeIds() {
-    return delegate.getShapes().stream().map(AnimatedShape2D::getName).collect(Collectors
-        .toCollection(LinkedHashSet::new));
+    return Collections.unmodifiableSet(getEntries().keySet());
   }
 
   @Override
   public IModelShape getShapeIdShape(String shapeId) throws IllegalArgumentException {
-    for (AnimatedShape2D shape : delegate.getShapes()) {
-      if (shape.getName().equals(shapeId)) {
-        return new ShapeAdapter(shape);
-      }
-    }
-
-    throw new IllegalArgumentException("Shape not found.");
+    return getEntry(shapeId).shape;
   }
 
+  /**
+   * Returns an unmodifiable list of the adapted motions of the shape with the given name.
+   *
+   * @param shapeId Name of shape
+   * @return Adapted motions of shape
+   * @throws IllegalArgumentException Shape does not exist in model.
+   */
   @Override
   public List<IModelMotion> getShapeIdMotions(String shapeId) throws IllegalArgumentException {
-    for (AnimatedShape2D shape : delegate.getShapes()) {
-      if (shape.getName().equals(shapeId)) {
-        return shape.getMotions().stream().map(MotionAdapter::new).collect(Collectors.toList());
-      }
-    }
-
-    throw new IllegalArgumentException("Shape not found.");
+    return getEntry(shapeId).motions;
   }
 
   @Override
@@ -17,6 +17,14 @@ public class MotionAdapter implements IModelMotion {
 
   private final Motion2D delegate;  // Motion delegate to interface with
 
+  // Start and end states of the delegate, which are adapted once since motions never change
+  private final ModelColor startColor;
+  private final ModelColor endColor;
+  private final ModelDimen startDimension;
+  private final ModelDimen endDimension;
+  private final ModelPosn startPosition;
+  private final ModelPosn endPosition;
+
   /**
    * Instantiates a {@code MotionAdapter} object with the given delegate.
    *
@@ -25,6 +33,15 @@ public class MotionAdapter implements IModelMotion {
    */
   public MotionAdapter(Motion2D delegate) throws NullPointerException {
     this.delegate = Objects.requireNonNull(delegate, "Delegate is null.");
+
+    int startTick = delegate.getStartTick();
+    int endTick = delegate.getEndTick();
+    this.startColor = new ModelColor(delegate.getColor(startTick));
+    this.endColor = new ModelColor(delegate.getColor(endTick));
+    this.startDimension = new ModelDimen(delegate.getDimensions(startTick));
+    this.endDimension = new ModelDimen(delegate.getDimensions(endTick));
+    this.startPosition = new ModelPosn(delegate.getPosition(startTick));
+    this.endPosition = new ModelPosn(delegate.getPosition(endTick));
   }
 
   @Override
@@ -49,32 +66,32 @@ public class MotionAdapter implements IModelMotion {
 
   @Override
   public ModelColor getStartColor() {
-    return new ModelColor(delegate.getColor(delegate.getStartTick()));
+    return startColor;
   }
 
   @Override
   public ModelColor getEndColor() {
-    return new ModelColor(delegate.getColor(delegate.getEndTick()));
+    return endColor;
   }
 
   @Override
   public ModelDimen getStartDimension() {
-    return new ModelDimen(delegate.getDimensions(delegate.getStartTick()));
+    return startDimension;
   }
 
   @Override
   public ModelDimen getEndDimension() {
-    return new ModelDimen(delegate.getDimensions(delegate.getEndTick()));
+    return endDimension;
   }
 
   @Override
   public ModelPosn getStartPosition() {
-    return new ModelPosn(delegate.getPosition(delegate.getStartTick()));
+    return startPosition;
   }
 
   @Override
   public ModelPosn getEndPosition() {
-    return new ModelPosn(delegate.getPosition(delegate.getEndTick()));
+    return endPosition;
   }
 
   @Override
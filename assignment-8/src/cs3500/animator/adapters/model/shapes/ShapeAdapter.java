@@ -35,7 +35,7 @@ public class ShapeAdapter implements IModelShape {
     }
   }
 
-  private final AnimatedShape2D delegate;  // Shape delegate to interface with
+  private final ShapeType type;  // Type of the shape delegate, which never changes
 
   /**
    * Instantiates a {@code ShapeAdapter} object with the given delegate.
@@ -44,17 +44,18 @@ public class ShapeAdapter implements IModelShape {
    * @throws NullPointerException Delegate is null.
    */
   public ShapeAdapter(AnimatedShape2D delegate) throws NullPointerException {
-    this.delegate = Objects.requireNonNull(delegate, "Delegate is null.");
-  }
+    Objects.requireNonNull(delegate, "Delegate is null.");
 
-  @Override
-  public ShapeType getShapeType() {
     TypeDeterminer determiner = new TypeDeterminer();
     try {
       delegate.accept(determiner);
     } catch (Exception ignored) {
     }
+    this.type = determiner.type;
+  }
 
-    return determiner.type;
+  @Override
+  public ShapeType getShapeType() {
+    return type;
   }
 }
@@ -28,6 +28,8 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
   private final int width;      // Width of the animation canvas
   private final int height;     // Height of the animation canvas
 
+  private long version;  // Modification version of this animator, incremented on every change
+
   /**
    * Instantiates a {@code BasicEasyAnimator} object with the given shape list, leftmost
    * <i>x</i>-coordinate, topmost <i>y</i>-coordinate, width, and height.
@@ -190,6 +192,7 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
       foundShape = findShape(shape.getName());
     } catch (IllegalArgumentException e) {
       shapes.add((AnimatedShape2D) shape.clone());
+      version++;
     }
 
     if (foundShape != null) {
@@ -201,6 +204,7 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
   public void removeShape(String shapeName)
       throws NullPointerException, IllegalArgumentException {
     shapes.remove(findShape(shapeName));
+    version++;
   }
 
   @Override
@@ -210,6 +214,7 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
 
     AnimatedShape2D matchingShape = findShape(shapeName);
     matchingShape.addMotion(motion);
+    version++;
   }
 
   @Override
@@ -219,6 +224,7 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
 
     AnimatedShape2D matchingShape = findShape(shapeName);
     matchingShape.removeMotion(motion);
+    version++;
   }
 
   @Override
@@ -252,6 +258,11 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
     return endTick == 0 ? 0 : endTick + 1;
   }
 
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
   @Override
   public List<AnimatedShape2D> getShapes() {
     List<AnimatedShape2D> newShapes = new LinkedList<>();
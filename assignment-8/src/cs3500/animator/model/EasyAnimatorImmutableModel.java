@@ -46,6 +46,15 @@ public interface EasyAnimatorImmutableModel<Shape> {
    */
   int getNumTicks() throws IllegalStateException;
 
+  /**
+   * Returns the modification version of the model. The version changes whenever a shape or motion
+   * is added to or removed from the model, so derived data can be cached against it without
+   * inspecting the model's shapes.
+   *
+   * @return Modification version of model
+   */
+  long getVersion();
+
   /**
    * Returns a copy of the list of shapes contained in the model.
    *
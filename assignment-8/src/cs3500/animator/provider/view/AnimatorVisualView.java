@@ -17,9 +17,6 @@ import java.awt.event.ActionListener;
 
 import java.io.IOException;
 
-import java.util.List;
-import java.util.Set;
-
 import javax.swing.JFrame;
 import javax.swing.JScrollPane;
 import javax.swing.Timer;
@@ -78,26 +75,18 @@ public class AnimatorVisualView extends JFrame implements IVisualView {
     int xOffset = canvas.getPosition().getX();
     int yOffset = canvas.getPosition().getY();
 
+    // Read the shapes and motions once, so each tick only advances the cursor
+    MotionCursor cursor = new MotionCursor(model);
+
     Timer timer = new Timer((int) (1000.0 / speed), new ActionListener() {
       int tick = 0;
 
       @Override
       public void actionPerformed(ActionEvent e) {
-        Set<String> shapeIds = model.getShapeIds();
-
-        for (String shapeId : shapeIds) {
+        cursor.seek(tick);
 
-          List<IModelMotion> motions = model.getShapeIdMotions(shapeId);
-
-          IModelMotion drawable = null;
-          for (IModelMotion motion : motions) {
-            if (motion.getStartTick() <= tick && tick < motion.getEndTick()
-                && (canvas.contains(motion.getStartPosition(), motion.getStartDimension())
-                || canvas.contains(motion.getEndPosition(), motion.getEndDimension()))) {
-              drawable = motion;
-              break;
-            }
-          }
+        for (int shape = 0; shape < cursor.getNumShapes(); shape++) {
+          IModelMotion drawable = cursor.getMotion(shape);
 
           if (drawable != null) {
 
@@ -108,24 +97,23 @@ public class AnimatorVisualView extends JFrame implements IVisualView {
             int w = interpDimen.getWidth();
             int h = interpDimen.getHeight();
             ModelColor interpColor = drawable.interpolateColor(tick);
-            int r = interpColor.getRed();
-            int g = interpColor.getGreen();
-            int b = interpColor.getBlue();
+            int rgb = interpColor.getRed() << 16 | interpColor.getGreen() << 8
+                | interpColor.getBlue();
 
-            switch (model.getShapeIdShape(shapeId).getShapeType()) {
+            switch (cursor.getShapeType(shape)) {
               case RECTANGLE:
-                drawRect(x, y, w, h, new Color(r, g, b));
+                drawRect(x, y, w, h, rgb);
                 break;
               case ELLIPSE:
-                drawEllipse(x, y, w, h, new Color(r, g, b));
+                drawEllipse(x, y, w, h, rgb);
                 break;
               default:
                 throw new IllegalArgumentException("This shape type is not supported");
             }
           }
-
-          refresh();
         }
+
+        refresh();
         tick++;
       }
     });
@@ -135,12 +123,40 @@ public class AnimatorVisualView extends JFrame implements IVisualView {
 
   @Override
   public void drawEllipse(int x, int y, int w, int h, Color color) {
-    panel.drawShape(new ViewEllipse(x, y, w, h, color));
+    panel.drawEllipse(x, y, w, h, color);
+  }
+
+  /**
+   * Draws an ellipse with the given parameters onto the screen, without creating a color unless
+   * it differs from the one drawn in its place last frame.
+   *
+   * @param x   the x coordinate of the top left ellipse bounding box
+   * @param y   the y coordinate of the top left ellipse bounding box
+   * @param w   the width of the ellipse
+   * @param h   the height of the ellipse
+   * @param rgb the color of the ellipse as {@code 0xRRGGBB}
+   */
+  public void drawEllipse(int x, int y, int w, int h, int rgb) {
+    panel.drawEllipse(x, y, w, h, rgb);
   }
 
   @Override
   public void drawRect(int x, int y, int w, int h, Color color) {
-    panel.drawShape(new ViewRectangle(x, y, w, h, color));
+    panel.drawRect(x, y, w, h, color);
+  }
+
+  /**
+   * Draws a rectangle with the given parameters onto the screen, without creating a color unless
+   * it differs from the one drawn in its place last frame.
+   *
+   * @param x   the x coordinate of the top left rectangle bounding box
+   * @param y   the y coordinate of the top left rectangle bounding box
+   * @param w   the width of the rectangle
+   * @param h   the height of the rectangle
+   * @param rgb the color of the rectangle as {@code 0xRRGGBB}
+   */
+  public void drawRect(int x, int y, int w, int h, int rgb) {
+    panel.drawRect(x, y, w, h, rgb);
   }
 
   @Override
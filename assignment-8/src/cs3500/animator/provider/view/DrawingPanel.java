@@ -1,19 +1,31 @@
 package cs3500.animator.provider.view;
 
+import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Graphics;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import javax.swing.JPanel;
 
 /**
- * Represents a visual drawing panel. Extends the JPanel representation.
+ * Represents a visual drawing panel. Extends the JPanel representation. Shapes to be displayed are
+ * kept in a display list of packed arrays, which is emptied by each paint and reused by the next
+ * frame, so drawing rectangles and ellipses does not allocate once the list has grown to the size
+ * of a frame.
  */
 public class DrawingPanel extends JPanel {
 
-  List<IViewShape> currentShapesToDisplay;
+  // Kinds of display list entries
+  private static final int RECTANGLE = 0;
+  private static final int ELLIPSE = 1;
+  private static final int VIEW_SHAPE = 2;
+
+  private int size;  // Number of entries in the display list
+  private int[] kinds;  // Kind of each entry
+  private int[] bounds;  // x, y, width and height of each rectangle and ellipse
+  private Color[] colors;  // Color of each rectangle and ellipse, kept to be reused next frame
+  private IViewShape[] shapes;  // Each view shape drawn with drawShape
 
   /**
    * Base constructor initializing the panel's width and height.
@@ -24,7 +36,10 @@ public class DrawingPanel extends JPanel {
   public DrawingPanel(int w, int h) {
     super();
     setPreferredSize(new Dimension(w, h));
-    currentShapesToDisplay = new ArrayList<>();
+    kinds = new int[16];
+    bounds = new int[16 * 4];
+    colors = new Color[16];
+    shapes = new IViewShape[16];
   }
 
   /**
@@ -34,10 +49,23 @@ public class DrawingPanel extends JPanel {
    */
   public void paint(Graphics g) {
     super.paint(g);
-    for (IViewShape shape : currentShapesToDisplay) {
-      shape.render(g);
+    for (int i = 0; i < size; i++) {
+      switch (kinds[i]) {
+        case RECTANGLE:
+          g.setColor(colors[i]);
+          g.fillRect(bounds[4 * i], bounds[4 * i + 1], bounds[4 * i + 2], bounds[4 * i + 3]);
+          break;
+        case ELLIPSE:
+          g.setColor(colors[i]);
+          g.fillOval(bounds[4 * i], bounds[4 * i + 1], bounds[4 * i + 2], bounds[4 * i + 3]);
+          break;
+        default:
+          shapes[i].render(g);
+          shapes[i] = null;
+          break;
+      }
     }
-    currentShapesToDisplay.clear();
+    size = 0;
   }
 
   /**
@@ -46,6 +74,96 @@ public class DrawingPanel extends JPanel {
    * @param shape the shape to added
    */
   public void drawShape(IViewShape shape) {
-    currentShapesToDisplay.add(shape);
+    int index = add(VIEW_SHAPE);
+    shapes[index] = shape;
+  }
+
+  /**
+   * Adds a rectangle to the shapes to be displayed.
+   *
+   * @param x     the x coordinate of the top left rectangle bounding box
+   * @param y     the y coordinate of the top left rectangle bounding box
+   * @param w     the width of the rectangle
+   * @param h     the height of the rectangle
+   * @param color the color of the rectangle
+   */
+  public void drawRect(int x, int y, int w, int h, Color color) {
+    int index = add(RECTANGLE, x, y, w, h);
+    colors[index] = color;
+  }
+
+  /**
+   * Adds a rectangle to the shapes to be displayed, with its color given as packed RGB components,
+   * which only creates a color if it differs from the one in the same place last frame.
+   *
+   * @param x   the x coordinate of the top left rectangle bounding box
+   * @param y   the y coordinate of the top left rectangle bounding box
+   * @param w   the width of the rectangle
+   * @param h   the height of the rectangle
+   * @param rgb the color of the rectangle as {@code 0xRRGGBB}
+   */
+  public void drawRect(int x, int y, int w, int h, int rgb) {
+    setColor(add(RECTANGLE, x, y, w, h), rgb);
+  }
+
+  /**
+   * Adds an ellipse to the shapes to be displayed.
+   *
+   * @param x     the x coordinate of the top left ellipse bounding box
+   * @param y     the y coordinate of the top left ellipse bounding box
+   * @param w     the width of the ellipse
+   * @param h     the height of the ellipse
+   * @param color the color of the ellipse
+   */
+  public void drawEllipse(int x, int y, int w, int h, Color color) {
+    int index = add(ELLIPSE, x, y, w, h);
+    colors[index] = color;
+  }
+
+  /**
+   * Adds an ellipse to the shapes to be displayed, with its color given as packed RGB components,
+   * which only creates a color if it differs from the one in the same place last frame.
+   *
+   * @param x   the x coordinate of the top left ellipse bounding box
+   * @param y   the y coordinate of the top left ellipse bounding box
+   * @param w   the width of the ellipse
+   * @param h   the height of the ellipse
+   * @param rgb the color of the ellipse as {@code 0xRRGGBB}
+   */
+  public void drawEllipse(int x, int y, int w, int h, int rgb) {
+    setColor(add(ELLIPSE, x, y, w, h), rgb);
+  }
+
+  // Appends an entry of the given kind to the display list, growing it if it is full, and
+  // returns its index
+  private int add(int kind) {
+    if (size == kinds.length) {
+      int capacity = 2 * size;
+      kinds = Arrays.copyOf(kinds, capacity);
+      bounds = Arrays.copyOf(bounds, 4 * capacity);
+      colors = Arrays.copyOf(colors, capacity);
+      shapes = Arrays.copyOf(shapes, capacity);
+    }
+
+    kinds[size] = kind;
+    return size++;
+  }
+
+  // Appends a rectangle or ellipse with the given bounds to the display list and returns its index
+  private int add(int kind, int x, int y, int w, int h) {
+    int index = add(kind);
+    bounds[4 * index] = x;
+    bounds[4 * index + 1] = y;
+    bounds[4 * index + 2] = w;
+    bounds[4 * index + 3] = h;
+    return index;
+  }
+
+  // Sets the color of the given entry, reusing the color left there by the last frame if it matches
+  private void setColor(int index, int rgb) {
+    Color color = colors[index];
+    if (color == null || color.getRGB() != (0xff000000 | rgb)) {
+      colors[index] = new Color(rgb);
+    }
   }
 }
@@ -0,0 +1,155 @@
+package cs3500.animator.provider.view;
+
+import cs3500.animator.adapters.model.shapes.ModelShapeCreator.ShapeType;
+
+import cs3500.animator.provider.model.IAnimatorModel;
+import cs3500.animator.provider.model.IModelCanvas;
+import cs3500.animator.provider.model.IModelMotion;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents a playback cursor over the motions of every shape in a model. The cursor remembers
+ * the motion each shape is in at the current tick, so moving forward one tick at a time only
+ * advances each shape's motion index, and any other move binary searches for it. Either way, the
+ * cost of a tick does not grow with the number of motions. The model's shapes and motions are read
+ * once, when the cursor is created.
+ */
+public class MotionCursor {
+
+  private final ShapeType[] shapeTypes;
+  private final IModelMotion[][] motions;  // Motions of each shape, sorted by start tick
+  private final boolean[][] visible;  // Whether each motion starts or ends within the canvas
+  private final int[] indices;  // Index of the first motion of each shape ending after the tick
+  private int tick;
+
+  /**
+   * Instantiates a {@code MotionCursor} object over the shapes of the given model, at tick 0.
+   *
+   * @param model the model whose shapes are played back
+   * @throws NullPointerException if the model is null
+   */
+  public MotionCursor(IAnimatorModel model) {
+    Objects.requireNonNull(model, "Model is null.");
+    IModelCanvas canvas = model.getCanvas();
+
+    int numShapes = model.getShapeIds().size();
+    shapeTypes = new ShapeType[numShapes];
+    motions = new IModelMotion[numShapes][];
+    visible = new boolean[numShapes][];
+    indices = new int[numShapes];
+
+    int shape = 0;
+    for (String shapeId : model.getShapeIds()) {
+      shapeTypes[shape] = model.getShapeIdShape(shapeId).getShapeType();
+
+      List<IModelMotion> shapeMotions = new ArrayList<>(model.getShapeIdMotions(shapeId));
+      shapeMotions.sort(Comparator.comparingInt(IModelMotion::getStartTick));
+      motions[shape] = shapeMotions.toArray(new IModelMotion[0]);
+      visible[shape] = new boolean[motions[shape].length];
+      for (int i = 0; i < motions[shape].length; i++) {
+        IModelMotion motion = motions[shape][i];
+        visible[shape][i] = canvas.contains(motion.getStartPosition(), motion.getStartDimension())
+            || canvas.contains(motion.getEndPosition(), motion.getEndDimension());
+      }
+      shape++;
+    }
+
+    tick = 0;
+  }
+
+  /**
+   * Returns the number of shapes played back by this cursor.
+   *
+   * @return the number of shapes
+   */
+  public int getNumShapes() {
+    return shapeTypes.length;
+  }
+
+  /**
+   * Returns the type of the given shape.
+   *
+   * @param shape the index of the shape, in model order
+   * @return the type of the shape
+   * @throws IndexOutOfBoundsException if there is no shape at the index
+   */
+  public ShapeType getShapeType(int shape) {
+    return shapeTypes[shape];
+  }
+
+  /**
+   * Returns the current tick.
+   *
+   * @return the current tick
+   */
+  public int getTick() {
+    return tick;
+  }
+
+  /**
+   * Moves the cursor to the given tick. Moving forward by a tick advances each shape's motion
+   * index; any other move binary searches each shape's motions.
+   *
+   * @param tick the tick to move to
+   * @throws IllegalArgumentException if the tick is negative
+   */
+  public void seek(int tick) {
+    if (tick < 0) {
+      throw new IllegalArgumentException("Tick is negative.");
+    }
+
+    boolean stepping = tick == this.tick + 1;
+    this.tick = tick;
+    for (int shape = 0; shape < motions.length; shape++) {
+      IModelMotion[] shapeMotions = motions[shape];
+      int index = indices[shape];
+      if (stepping) {
+        while (index < shapeMotions.length && shapeMotions[index].getEndTick() <= tick) {
+          index++;
+        }
+      } else {
+        index = findFirstEndingAfter(shapeMotions, tick);
+      }
+      indices[shape] = index;
+    }
+  }
+
+  // Returns the index of the first of the given motions which ends after the given tick, or the
+  // number of motions if there is none
+  private static int findFirstEndingAfter(IModelMotion[] shapeMotions, int tick) {
+    int low = 0;
+    int high = shapeMotions.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (shapeMotions[middle].getEndTick() <= tick) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    return low;
+  }
+
+  /**
+   * Returns the motion of the given shape which covers the current tick and starts or ends within
+   * the canvas, if there is one.
+   *
+   * @param shape the index of the shape, in model order
+   * @return the motion to draw the shape with, or null if the shape is not drawn at this tick
+   * @throws IndexOutOfBoundsException if there is no shape at the index
+   */
+  public IModelMotion getMotion(int shape) {
+    int index = indices[shape];
+    if (index < motions[shape].length && motions[shape][index].getStartTick() <= tick
+        && visible[shape][index]) {
+      return motions[shape][index];
+    }
+
+    return null;
+  }
+}
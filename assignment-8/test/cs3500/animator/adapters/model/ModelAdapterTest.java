@@ -0,0 +1,101 @@
+package cs3500.animator.adapters.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import cs3500.animator.adapters.model.shapes.ModelShapeCreator.ShapeType;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorModel;
+
+import cs3500.animator.model.attributes.Color;
+import cs3500.animator.model.attributes.Dimensions2D;
+import cs3500.animator.model.attributes.Position2D;
+
+import cs3500.animator.model.motions.Motion2D;
+
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.provider.model.IModelMotion;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link ModelAdapter} class.
+ */
+public class ModelAdapterTest {
+
+  private EasyAnimatorModel<AnimatedShape2D, Motion2D> model;
+  private ModelAdapter adapter;
+
+  // Returns a motion which moves from the given x-coordinate to another between the given ticks
+  private static Motion2D motion(int startTick, int endTick, int startX, int endX) {
+    return Motion2D.builder()
+        .setStartTick(startTick)
+        .setEndTick(endTick)
+        .setStartPosition(new Position2D(startX, 0))
+        .setEndPosition(new Position2D(endX, 0))
+        .setStartDimensions(new Dimensions2D(10, 10))
+        .setStartColor(new Color(255, 0, 0))
+        .build();
+  }
+
+  @Before
+  public void setUp() {
+    model = new BasicEasyAnimator();
+    model.addShape(new AnimatedRectangle("R"));
+    model.addShape(new AnimatedEllipse("E"));
+    model.addMotion("R", motion(0, 10, 0, 10));
+    model.addMotion("R", motion(10, 20, 10, 20));
+    adapter = new ModelAdapter(model);
+  }
+
+  @Test
+  public void lookupsByShapeName() {
+    assertEquals(Arrays.asList("R", "E"), Arrays.asList(adapter.getShapeIds().toArray()));
+    assertEquals(ShapeType.RECTANGLE, adapter.getShapeIdShape("R").getShapeType());
+    assertEquals(ShapeType.ELLIPSE, adapter.getShapeIdShape("E").getShapeType());
+
+    List<IModelMotion> motions = adapter.getShapeIdMotions("R");
+    assertEquals(2, motions.size());
+    assertEquals(10, motions.get(1).getStartTick());
+    assertEquals(20, motions.get(1).getEndPosition().getX());
+    assertEquals(0, adapter.getShapeIdMotions("E").size());
+  }
+
+  @Test
+  public void adaptedShapesReusedUntilModelChanges() {
+    List<IModelMotion> motions = adapter.getShapeIdMotions("R");
+    assertSame(motions, adapter.getShapeIdMotions("R"));
+    assertSame(adapter.getShapeIdShape("R"), adapter.getShapeIdShape("R"));
+
+    model.addMotion("R", motion(20, 30, 20, 30));
+    assertNotSame(motions, adapter.getShapeIdMotions("R"));
+    assertEquals(3, adapter.getShapeIdMotions("R").size());
+
+    model.removeShape("E");
+    assertEquals(Arrays.asList("R"), Arrays.asList(adapter.getShapeIds().toArray()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getShapeIdShapeMissing() {
+    adapter.getShapeIdShape("X");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getShapeIdMotionsMissing() {
+    adapter.getShapeIdMotions("X");
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void getShapeIdMotionsUnmodifiable() {
+    adapter.getShapeIdMotions("R").clear();
+  }
+}
@@ -1,6 +1,7 @@
 package cs3500.animator.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import cs3500.animator.model.motions.Motion2D;
 
@@ -354,4 +355,24 @@ public class BasicEasyAnimatorTest {
         populatedModel.toString()
     );
   }
-}
\ No newline at end of file
+
+  @Test
+  public void getVersion() {
+    long version = emptyModel.getVersion();
+    emptyModel.addShape(emptyRectangle);
+    long addedShape = emptyModel.getVersion();
+    assertNotEquals(version, addedShape);
+
+    emptyModel.addMotion("R", motion);
+    long addedMotion = emptyModel.getVersion();
+    assertNotEquals(addedShape, addedMotion);
+
+    // Reading the model does not change its version
+    emptyModel.getShapes();
+    emptyModel.getNumTicks();
+    assertEquals(addedMotion, emptyModel.getVersion());
+
+    emptyModel.removeMotion("R", motion);
+    assertNotEquals(addedMotion, emptyModel.getVersion());
+  }
+}
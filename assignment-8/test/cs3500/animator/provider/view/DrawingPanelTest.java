@@ -0,0 +1,72 @@
+package cs3500.animator.provider.view;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.Color;
+import java.awt.Graphics;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the display list of the {@link DrawingPanel} class.
+ */
+public class DrawingPanelTest {
+
+  private DrawingPanel panel;
+
+  @Before
+  public void setUp() {
+    panel = new DrawingPanel(40, 40);
+  }
+
+  // Paints the panel onto a new black image
+  private BufferedImage paint() {
+    BufferedImage image = new BufferedImage(40, 40, BufferedImage.TYPE_INT_RGB);
+    Graphics graphics = image.createGraphics();
+    panel.paint(graphics);
+    graphics.dispose();
+    return image;
+  }
+
+  @Test
+  public void paintDrawsInOrder() {
+    panel.drawRect(0, 0, 20, 20, 0xff0000);
+    panel.drawEllipse(10, 10, 20, 20, Color.GREEN);
+    panel.drawShape(new ViewRectangle(25, 25, 10, 10, Color.BLUE));
+    BufferedImage image = paint();
+
+    assertEquals(0xff0000, image.getRGB(5, 5) & 0xffffff);
+    assertEquals(0x00ff00, image.getRGB(19, 19) & 0xffffff);
+    assertEquals(0x0000ff, image.getRGB(28, 28) & 0xffffff);
+  }
+
+  @Test
+  public void paintEmptiesDisplayList() {
+    panel.drawRect(0, 0, 20, 20, 0xff0000);
+    paint();
+    assertEquals(0, paint().getRGB(5, 5) & 0xffffff);
+
+    // Reused entries take the color of the new frame
+    panel.drawEllipse(0, 0, 20, 20, 0x0000ff);
+    assertEquals(0x0000ff, paint().getRGB(10, 10) & 0xffffff);
+  }
+
+  @Test
+  public void displayListGrows() {
+    for (int i = 0; i < 40; i++) {
+      panel.drawRect(i, 0, 1, 1, i % 2 == 0 ? 0xffffff : 0xff0000);
+      panel.drawRect(i, 1, 1, 1, Color.GREEN);
+      panel.drawShape(new ViewRectangle(i, 2, 1, 1, Color.BLUE));
+    }
+    BufferedImage image = paint();
+
+    for (int i = 0; i < 40; i++) {
+      assertEquals(i % 2 == 0 ? 0xffffff : 0xff0000, image.getRGB(i, 0) & 0xffffff);
+      assertEquals(0x00ff00, image.getRGB(i, 1) & 0xffffff);
+      assertEquals(0x0000ff, image.getRGB(i, 2) & 0xffffff);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package cs3500.animator.provider.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import cs3500.animator.adapters.model.ModelAdapter;
+
+import cs3500.animator.adapters.model.shapes.ModelShapeCreator.ShapeType;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorModel;
+
+import cs3500.animator.model.attributes.Color;
+import cs3500.animator.model.attributes.Dimensions2D;
+import cs3500.animator.model.attributes.Position2D;
+
+import cs3500.animator.model.motions.Motion2D;
+
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link MotionCursor} class.
+ */
+public class MotionCursorTest {
+
+  private MotionCursor cursor;
+
+  // Returns a motion which moves from the given x-coordinate to another between the given ticks
+  private static Motion2D motion(int startTick, int endTick, int startX, int endX) {
+    return Motion2D.builder()
+        .setStartTick(startTick)
+        .setEndTick(endTick)
+        .setStartPosition(new Position2D(startX, 0))
+        .setEndPosition(new Position2D(endX, 0))
+        .setStartDimensions(new Dimensions2D(10, 10))
+        .setStartColor(new Color(255, 0, 0))
+        .build();
+  }
+
+  @Before
+  public void setUp() {
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> model =
+        new BasicEasyAnimator(new ArrayList<>(), 0, 0, 100, 100);
+    model.addShape(new AnimatedRectangle("R"));
+    model.addShape(new AnimatedEllipse("E"));
+    model.addMotion("R", motion(0, 10, 0, 10));
+    model.addMotion("R", motion(10, 20, 10, 20));
+    model.addMotion("R", motion(20, 30, 20, 30));
+    // Ellipse starts late and leaves the canvas in its second motion
+    model.addMotion("E", motion(5, 15, 0, 0));
+    model.addMotion("E", motion(15, 25, 0, 200));
+    model.addMotion("E", motion(25, 35, 200, 300));
+    model.addMotion("E", motion(35, 45, 300, 300));
+    cursor = new MotionCursor(new ModelAdapter(model));
+  }
+
+  @Test
+  public void shapesInModelOrder() {
+    assertEquals(2, cursor.getNumShapes());
+    assertEquals(ShapeType.RECTANGLE, cursor.getShapeType(0));
+    assertEquals(ShapeType.ELLIPSE, cursor.getShapeType(1));
+  }
+
+  @Test
+  public void seekStepsThroughMotions() {
+    int[] rectangleStarts = new int[50];
+    int[] ellipseStarts = new int[50];
+    for (int tick = 0; tick < 50; tick++) {
+      cursor.seek(tick);
+      rectangleStarts[tick] = cursor.getMotion(0) == null ? -1 : cursor.getMotion(0).getStartTick();
+      ellipseStarts[tick] = cursor.getMotion(1) == null ? -1 : cursor.getMotion(1).getStartTick();
+    }
+
+    // Motions cover their start tick but not their end tick
+    assertEquals(0, rectangleStarts[0]);
+    assertEquals(0, rectangleStarts[9]);
+    assertEquals(10, rectangleStarts[10]);
+    assertEquals(20, rectangleStarts[29]);
+    assertEquals(-1, rectangleStarts[30]);
+    assertEquals(-1, ellipseStarts[4]);
+    assertEquals(5, ellipseStarts[5]);
+    assertEquals(15, ellipseStarts[24]);
+
+    // Motions off the canvas are not drawn
+    assertEquals(-1, ellipseStarts[25]);
+    assertEquals(-1, ellipseStarts[44]);
+  }
+
+  @Test
+  public void seekBackwardsAndAhead() {
+    cursor.seek(27);
+    assertEquals(20, cursor.getMotion(0).getStartTick());
+    cursor.seek(3);
+    assertEquals(0, cursor.getMotion(0).getStartTick());
+    assertNull(cursor.getMotion(1));
+    cursor.seek(16);
+    assertEquals(10, cursor.getMotion(0).getStartTick());
+    assertEquals(15, cursor.getMotion(1).getStartTick());
+    cursor.seek(17);
+    assertEquals(17, cursor.getTick());
+    assertEquals(10, cursor.getMotion(0).getStartTick());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void constructorNullModel() {
+    new MotionCursor(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void seekNegative() {
+    cursor.seek(-1);
+  }
+}
@@ -1,28 +1,32 @@
 package cs3500.animator;
 
+import cs3500.animator.controller.EasyAnimatorBatchController;
 import cs3500.animator.controller.EasyAnimatorController;
+import cs3500.animator.controller.EasyAnimatorFanOutController;
+import cs3500.animator.controller.EasyAnimatorServer;
 
 import cs3500.animator.model.BasicEasyAnimator;
-import cs3500.animator.model.EasyAnimatorModel;
-
-import cs3500.animator.model.motions.Motion2D;
 
 import cs3500.animator.model.shapes.AnimatedCross;
 import cs3500.animator.model.shapes.AnimatedEllipse;
 import cs3500.animator.model.shapes.AnimatedRectangle;
-import cs3500.animator.model.shapes.AnimatedShape2D;
 
-import cs3500.animator.util.AnimationBuilder;
+import cs3500.animator.util.AnimationCache;
+import cs3500.animator.util.AnimationFiles;
 
 import cs3500.animator.view.EasyAnimatorView;
 import cs3500.animator.view.EasyAnimatorViewFactory;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.CompletionException;
+
 import javax.swing.JOptionPane;
 
 /**
@@ -30,6 +34,12 @@ import javax.swing.JOptionPane;
  */
 public class Excellence {
 
+  // Total size in bytes a cache directory of parsed models is bounded to
+  private static final long CACHE_DIRECTORY_SIZE = 256L << 20;
+
+  // Number of parsed models a server keeps cached
+  private static final int SERVER_CACHE_CAPACITY = 64;
+
   // Displays a pop-up error with the given message and exits the program
   private static void errorOut(String message) {
     JOptionPane.showMessageDialog(null, message, "Argument Error",
@@ -37,17 +47,113 @@ public class Excellence {
     System.exit(1);
   }
 
+  // Converts every file in the given batch directory to the given view type in the given output
+  // directory, exiting with a non-zero status if any conversion failed
+  private static void runBatch(String batchDirectory, String outputDirectory, String viewType,
+      int tickRate, int parseThreads) {
+    EasyAnimatorBatchController controller = null;
+    try {
+      controller = new EasyAnimatorBatchController(new File(batchDirectory),
+          new File(outputDirectory), viewType, tickRate);
+    } catch (IllegalArgumentException e) {
+      errorOut("Invalid batch view type: " + viewType);
+    }
+    controller.setParseThreads(parseThreads);
+
+    int failures = 0;
+    try {
+      failures = controller.run(System.out);
+    } catch (IOException e) {
+      errorOut("Batch conversion failed: " + e.getMessage());
+    }
+    System.out.flush();
+    if (failures > 0) {
+      System.exit(1);
+    }
+  }
+
+  // Parses the given input once and renders it to every given view type concurrently, each to the
+  // output in the same position or System.out if it has none, reporting per-view render times to
+  // System.err and exiting with a non-zero status if any view failed
+  private static void runFanOut(Readable input, List<String> viewTypes, List<Appendable> outputs,
+      List<String> outputNames, int tickRate, int parseThreads, AnimationCache cache) {
+    EasyAnimatorFanOutController controller = new EasyAnimatorFanOutController(input, tickRate);
+    controller.setParseThreads(parseThreads);
+    controller.setCache(cache);
+    for (int i = 0; i < viewTypes.size(); i++) {
+      if (!EasyAnimatorFanOutController.rendersToOutput(viewTypes.get(i))) {
+        errorOut("Only views which render to an output can be combined: " + viewTypes.get(i));
+      }
+      try {
+        if (i < outputs.size()) {
+          controller.addView(viewTypes.get(i), outputs.get(i), outputNames.get(i));
+        } else {
+          controller.addView(viewTypes.get(i), System.out, "System.out");
+        }
+      } catch (IllegalArgumentException e) {
+        errorOut("Only one view can be sent to System.out.");
+      }
+    }
+
+    int failures = 0;
+    try {
+      failures = controller.run(System.err);
+    } catch (IOException e) {
+      errorOut("Rendering failed: " + e.getMessage());
+    }
+
+    // Close the output appendables, if supported
+    for (Appendable output : outputs) {
+      try {
+        ((Closeable) output).close();
+      } catch (IOException ignored) {
+      }
+    }
+    System.out.flush();
+    if (failures > 0) {
+      System.exit(1);
+    }
+  }
+
+  // Serves rendering requests on the given port until the program is killed
+  private static void runServer(int port, int parseThreads) {
+    try (EasyAnimatorServer server = new EasyAnimatorServer(port, SERVER_CACHE_CAPACITY)) {
+      server.setParseThreads(parseThreads);
+      System.out.println("Serving on port " + server.getPort());
+      server.serve();
+    } catch (IllegalArgumentException | IOException e) {
+      errorOut("Server failed: " + e.getMessage());
+    }
+  }
+
   /**
-   * Runs the Easy Animator program with the given arguments.
+   * Runs the Easy Animator program with the given arguments. Input and output files with a .gz or
+   * .zz extension are transparently decompressed and compressed using gzip or zlib deflate,
+   * respectively. Input is parsed on another thread, while visual views show loading progress.
+   * Given several {@code -view} and {@code -out} pairs, the input is parsed once and rendered to
+   * every view concurrently, each view going to the output given in the same position, and the
+   * render time of each view is reported to System.err.
+   * With {@code -batch <dir> -outdir <dir>} in place of {@code -in} and {@code -out}, every file
+   * in the batch directory is converted concurrently to the given file-based view type. With
+   * {@code -cache <dir>}, parsed models are cached in the given directory and reused when the same
+   * input is rendered again. With {@code -serve <port>}, the program instead stays resident as an
+   * {@link EasyAnimatorServer} on the given loopback port, to which {@link ExcellenceClient} sends
+   * conversions.
    *
    * @param args Command line arguments
    */
   public static void main(String[] args) {
     // Declare and initialize user input variables
     Readable input = null;
-    Appendable output = null;
-    String viewType = "";
+    List<Appendable> outputs = new ArrayList<>();
+    List<String> outputNames = new ArrayList<>();
+    List<String> viewTypes = new ArrayList<>();
     int tickRate = -1;
+    int parseThreads = 1;
+    String batchDirectory = null;
+    String outputDirectory = null;
+    int serverPort = -1;
+    AnimationCache cache = null;
 
     // Reads in pairs of arguments, throws errors at invalid arguments or invalid pairings
     for (int i = 0; i < args.length; i += 2) {
@@ -59,22 +165,25 @@ public class Excellence {
         case "-in":
           // Set input file
           try {
-            input = new FileReader(args[i + 1]);
+            input = AnimationFiles.openInput(args[i + 1]);
           } catch (FileNotFoundException e) {
             errorOut("Could not find input file: " + args[i + 1]);
+          } catch (IOException e) {
+            errorOut("IO exception: " + e.getMessage());
           }
           break;
         case "-out":
-          // Set output file
+          // Add output file, for the view given in the same position
           try {
-            output = new FileWriter(args[i + 1]);
+            outputs.add(AnimationFiles.openOutput(args[i + 1]));
+            outputNames.add(args[i + 1]);
           } catch (IOException e) {
             errorOut("IO exception: " + e.getMessage());
           }
           break;
         case "-view":
-          // Set view type
-          viewType = args[i + 1];
+          // Add view type
+          viewTypes.add(args[i + 1]);
           break;
         case "-speed":
           // Set tick rate
@@ -87,43 +196,111 @@ public class Excellence {
             errorOut("Non-positive tick rate: " + tickRate);
           }
           break;
+        case "-parsethreads":
+          // Set number of threads to parse input with
+          try {
+            parseThreads = Integer.parseInt(args[i + 1]);
+          } catch (NumberFormatException e) {
+            errorOut("Parse threads argument is not a positive integer: " + args[i + 1]);
+          }
+          if (parseThreads <= 0) {
+            errorOut("Non-positive number of parse threads: " + parseThreads);
+          }
+          break;
+        case "-batch":
+          // Set directory of input files to convert in batch
+          batchDirectory = args[i + 1];
+          break;
+        case "-outdir":
+          // Set directory to write batch conversions to
+          outputDirectory = args[i + 1];
+          break;
+        case "-cache":
+          // Set directory to cache parsed models in
+          cache = new AnimationCache(new File(args[i + 1]), CACHE_DIRECTORY_SIZE);
+          break;
+        case "-serve":
+          // Set port to serve rendering requests on
+          try {
+            serverPort = Integer.parseInt(args[i + 1]);
+          } catch (NumberFormatException e) {
+            errorOut("Serve argument is not a port number: " + args[i + 1]);
+          }
+          if (serverPort < 0) {
+            errorOut("Negative port number: " + serverPort);
+          }
+          break;
         default:
           errorOut("Invalid argument type: " + args[i + 1]);
       }
     }
 
-    // Input and view type must be specified
-    if (input == null || viewType.equals("")) {
-      errorOut("Missing required parameters.");
+    // In server mode, the remaining arguments arrive with each request instead
+    if (serverPort != -1) {
+      if (input != null || !outputs.isEmpty() || batchDirectory != null) {
+        errorOut("Server mode cannot be combined with -in, -out or -batch.");
+      }
+      runServer(serverPort, parseThreads);
+      return;
     }
 
-    // Default output is System.out, default tick rate is 1 tick per second
-    if (output == null) {
-      output = System.out;
-    }
+    // Default tick rate is 1 tick per second
     if (tickRate == -1) {
       tickRate = 1;
     }
 
-    // Declare controller, model builder, and view variables
+    // In batch mode, convert every file in the batch directory and report results to System.out
+    if (batchDirectory != null) {
+      if (input != null || !outputs.isEmpty()) {
+        errorOut("Batch mode cannot be combined with -in or -out.");
+      }
+      if (outputDirectory == null || viewTypes.isEmpty()) {
+        errorOut("Missing required parameters.");
+      }
+      if (viewTypes.size() > 1) {
+        errorOut("Batch mode takes a single view type.");
+      }
+      runBatch(batchDirectory, outputDirectory, viewTypes.get(0), tickRate, parseThreads);
+      return;
+    }
+
+    // Input and view type must be specified
+    if (input == null || viewTypes.isEmpty()) {
+      errorOut("Missing required parameters.");
+    }
+    if (outputs.size() > viewTypes.size()) {
+      errorOut("There are more outputs than views.");
+    }
+
+    // With several views, parse the input once and render every view concurrently
+    if (viewTypes.size() > 1) {
+      runFanOut(input, viewTypes, outputs, outputNames, tickRate, parseThreads, cache);
+      return;
+    }
+
+    // Default output is System.out
+    String viewType = viewTypes.get(0);
+    Appendable output = outputs.isEmpty() ? System.out : outputs.get(0);
+
+    // Declare controller and view variables
     EasyAnimatorController<AnimatedRectangle, AnimatedEllipse, AnimatedCross> controller;
-    AnimationBuilder<EasyAnimatorModel<AnimatedShape2D, Motion2D>> builder;
     EasyAnimatorView<AnimatedRectangle, AnimatedEllipse, AnimatedCross> view = null;
 
-    // Initialize controller, model builder, and view
+    // Initialize controller and view
     controller = new EasyAnimatorController<>(input, output);
-    builder = BasicEasyAnimator.builder();
+    controller.setParseThreads(parseThreads);
+    controller.setCache(cache);
     try {
       view = EasyAnimatorViewFactory.create(viewType);
     } catch (IllegalArgumentException e) {
       errorOut("Invalid view type: " + viewType);
     }
 
-    // Run the animation
+    // Run the animation, parsing it on another thread so that visual views open while it loads
     try {
-      controller.run(builder, view, tickRate);
-    } catch (IOException e) {
-      errorOut("Rendering failed: " + e.getMessage());
+      controller.runAsync(BasicEasyAnimator::builder, view, tickRate).join();
+    } catch (CompletionException e) {
+      errorOut("Rendering failed: " + e.getCause().getMessage());
     }
 
     // Close the output appendable, if supported
@@ -0,0 +1,122 @@
+package cs3500.animator;
+
+import cs3500.animator.controller.EasyAnimatorClient;
+import cs3500.animator.controller.EasyAnimatorServer;
+
+import cs3500.animator.util.AnimationFiles;
+
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+/**
+ * Runs conversions of the Easy Animator program on a resident server started with {@code
+ * Excellence -serve <port>}, which avoids the start-up and warm-up of a fresh JVM for each
+ * conversion.
+ */
+public class ExcellenceClient {
+
+  // Prints an error with the given message and exits the program, without loading Swing as a
+  // pop-up would, since the client is meant to start quickly
+  private static void errorOut(String message) {
+    System.err.println(message);
+    System.exit(1);
+  }
+
+  /**
+   * Runs a conversion on a resident server with the given arguments, which are those of {@link
+   * Excellence} for file-based views along with {@code -port <port>} to select the server, which
+   * defaults to {@link EasyAnimatorServer#DEFAULT_PORT}.
+   *
+   * @param args Command line arguments
+   */
+  public static void main(String[] args) {
+    // Declare and initialize user input variables
+    Readable input = null;
+    Appendable output = null;
+    String viewType = "";
+    int tickRate = -1;
+    int port = EasyAnimatorServer.DEFAULT_PORT;
+
+    // Reads in pairs of arguments, throws errors at invalid arguments or invalid pairings
+    for (int i = 0; i < args.length; i += 2) {
+      if (i + 1 >= args.length) {
+        errorOut("Arguments are not properly paired.");
+      }
+
+      switch (args[i]) {
+        case "-in":
+          // Set input file
+          try {
+            input = AnimationFiles.openInput(args[i + 1]);
+          } catch (FileNotFoundException e) {
+            errorOut("Could not find input file: " + args[i + 1]);
+          } catch (IOException e) {
+            errorOut("IO exception: " + e.getMessage());
+          }
+          break;
+        case "-out":
+          // Set output file
+          try {
+            output = AnimationFiles.openOutput(args[i + 1]);
+          } catch (IOException e) {
+            errorOut("IO exception: " + e.getMessage());
+          }
+          break;
+        case "-view":
+          // Set view type
+          viewType = args[i + 1];
+          break;
+        case "-speed":
+          // Set tick rate
+          try {
+            tickRate = Integer.parseInt(args[i + 1]);
+          } catch (NumberFormatException e) {
+            errorOut("Speed argument is not a positive integer: " + args[i + 1]);
+          }
+          if (tickRate <= 0) {
+            errorOut("Non-positive tick rate: " + tickRate);
+          }
+          break;
+        case "-port":
+          // Set port of server
+          try {
+            port = Integer.parseInt(args[i + 1]);
+          } catch (NumberFormatException e) {
+            errorOut("Port argument is not a port number: " + args[i + 1]);
+          }
+          break;
+        default:
+          errorOut("Invalid argument type: " + args[i]);
+      }
+    }
+
+    // Input and view type must be specified
+    if (input == null || viewType.equals("")) {
+      errorOut("Missing required parameters.");
+    }
+
+    // Default tick rate is 1 tick per second
+    if (tickRate == -1) {
+      tickRate = 1;
+    }
+
+    // Default output is System.out
+    if (output == null) {
+      output = System.out;
+    }
+
+    // Run the conversion on the server
+    try (EasyAnimatorClient client = new EasyAnimatorClient(port)) {
+      client.render(input, output, viewType, tickRate);
+    } catch (IllegalArgumentException | IOException e) {
+      errorOut("Rendering failed: " + e.getMessage());
+    }
+
+    // Close the output appendable, if supported
+    try {
+      ((Closeable) output).close();
+    } catch (IOException ignored) {
+    }
+  }
+}
@@ -0,0 +1,317 @@
+package cs3500.animator.controller;
+
+import cs3500.animator.model.BasicEasyAnimator;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+
+import cs3500.animator.util.AnimationFiles;
+
+import cs3500.animator.view.EasyAnimatorViewFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Batch controller for Easy Animator. Converts every animation file in an input directory to an
+ * output file of a given view type, running parse and render jobs concurrently on a bounded
+ * executor, which uses virtual threads where the Java runtime supports them. Each file's result is
+ * reported as soon as it completes, followed by aggregate throughput and latency percentiles.
+ */
+public class EasyAnimatorBatchController {
+
+  // File extensions of the view types which render to files
+  private static final Map<String, String> VIEW_EXTENSIONS = new HashMap<>();
+
+  static {
+    VIEW_EXTENSIONS.put("text", ".txt");
+    VIEW_EXTENSIONS.put("svg", ".svg");
+    VIEW_EXTENSIONS.put("svg-compact", ".svg");
+  }
+
+  private final File inputDirectory;  // Directory to read animation descriptions from
+  private final File outputDirectory;  // Directory to write converted animations to
+  private final String viewType;  // View type to convert animations to
+  private final int tickRate;  // Tick rate to render animations at
+  private int parseThreads = 1;  // Number of threads to parse each input with
+  private int maxJobs = Runtime.getRuntime().availableProcessors();  // Limit on concurrent jobs
+
+  /**
+   * Instantiates an {@code EasyAnimatorBatchController} object with the given input and output
+   * directories, view type and tick rate.
+   *
+   * @param inputDirectory  Directory to read animation descriptions from
+   * @param outputDirectory Directory to write converted animations to
+   * @param viewType        View type to convert animations to, which must render to a file
+   * @param tickRate        How fast to render animations in ticks per second
+   * @throws NullPointerException     Input directory, output directory or view type is null.
+   * @throws IllegalArgumentException View type does not render to a file or tick rate is
+   *                                  non-positive.
+   */
+  public EasyAnimatorBatchController(File inputDirectory, File outputDirectory, String viewType,
+      int tickRate) throws NullPointerException, IllegalArgumentException {
+    this.inputDirectory = Objects.requireNonNull(inputDirectory, "Input directory is null.");
+    this.outputDirectory = Objects.requireNonNull(outputDirectory, "Output directory is null.");
+    this.viewType = Objects.requireNonNull(viewType, "View type is null.");
+    if (!VIEW_EXTENSIONS.containsKey(viewType)) {
+      throw new IllegalArgumentException("View type does not render to a file.");
+    }
+    if (tickRate <= 0) {
+      throw new IllegalArgumentException("Tick rate is non-positive.");
+    }
+    this.tickRate = tickRate;
+  }
+
+  /**
+   * Sets the number of threads used to parse each input file, as described by {@link
+   * EasyAnimatorController#setParseThreads(int)}. The default is a single thread.
+   *
+   * @param parseThreads Number of threads to parse each input with
+   * @throws IllegalArgumentException Number of threads is non-positive.
+   */
+  public void setParseThreads(int parseThreads) throws IllegalArgumentException {
+    if (parseThreads <= 0) {
+      throw new IllegalArgumentException("Number of parse threads is non-positive.");
+    }
+
+    this.parseThreads = parseThreads;
+  }
+
+  /**
+   * Sets the maximum number of files converted at once. The default is the number of available
+   * processors.
+   *
+   * @param maxJobs Maximum number of concurrent conversions
+   * @throws IllegalArgumentException Maximum number of jobs is non-positive.
+   */
+  public void setMaxJobs(int maxJobs) throws IllegalArgumentException {
+    if (maxJobs <= 0) {
+      throw new IllegalArgumentException("Maximum number of jobs is non-positive.");
+    }
+
+    this.maxJobs = maxJobs;
+  }
+
+  /**
+   * Returns the name of the output file for the given input file name, which is the input name
+   * without its compression and format extensions, followed by the extension of the view type.
+   *
+   * @param inputName Name of input file
+   * @return Name of output file
+   * @throws NullPointerException Input name is null.
+   */
+  public String getOutputName(String inputName) throws NullPointerException {
+    String name = Objects.requireNonNull(inputName, "Input name is null.");
+    if (AnimationFiles.hasExtension(name, ".gz") || AnimationFiles.hasExtension(name, ".zz")) {
+      name = name.substring(0, name.length() - 3);
+    }
+
+    int extension = name.lastIndexOf('.');
+    if (extension > 0) {
+      name = name.substring(0, extension);
+    }
+
+    return name + VIEW_EXTENSIONS.get(viewType);
+  }
+
+  /**
+   * Converts every file in the input directory other than SVG files, whatever the case of their
+   * extension, reporting each file's result to the given log as soon as it completes and a summary
+   * of throughput and latency percentiles once all are done. A file which fails to convert leaves
+   * no output behind. Files whose output would overwrite an input or another file's output are
+   * reported as failures without being converted.
+   *
+   * @param log Appendable to report results to
+   * @return Number of files which failed to convert
+   * @throws NullPointerException Log is null.
+   * @throws IOException          Input directory cannot be listed, output directory cannot be
+   *                              created, or log fails.
+   */
+  public int run(Appendable log) throws NullPointerException, IOException {
+    Objects.requireNonNull(log, "Log is null.");
+
+    // SVG files are only ever conversion outputs, never animation descriptions
+    File[] inputs = inputDirectory.listFiles(
+        file -> file.isFile() && !AnimationFiles.hasExtension(file.getName(), ".svg"));
+    if (inputs == null) {
+      throw new IOException("Could not list input directory: " + inputDirectory);
+    }
+    Arrays.sort(inputs);
+    if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+      throw new IOException("Could not create output directory: " + outputDirectory);
+    }
+
+    // Bound the number of jobs in flight, since virtual thread executors are unbounded
+    Semaphore permits = new Semaphore(maxJobs);
+    ExecutorService executor = createExecutor(maxJobs);
+    List<Future<Long>> jobs = new ArrayList<>(inputs.length);
+    long start = System.nanoTime();
+
+    // Output files which are already claimed, including the inputs themselves
+    Set<File> claimed = new HashSet<>();
+    for (File input : inputs) {
+      claimed.add(input.getAbsoluteFile());
+    }
+
+    try {
+      for (File input : inputs) {
+        // Refuse to overwrite an input or the output of an earlier input
+        File output = new File(outputDirectory, getOutputName(input.getName())).getAbsoluteFile();
+        if (!claimed.add(output)) {
+          synchronized (log) {
+            log.append(String.format("FAILED %s: Output file %s is already in use.\n",
+                input.getName(), output.getName()));
+          }
+          continue;
+        }
+
+        permits.acquireUninterruptibly();
+        try {
+          jobs.add(executor.submit(() -> {
+            try {
+              return convert(input, output, log);
+            } finally {
+              permits.release();
+            }
+          }));
+        } catch (RuntimeException e) {
+          permits.release();
+          throw e;
+        }
+      }
+
+      // Collect latencies of successful conversions
+      List<Long> latencies = new ArrayList<>(jobs.size());
+      for (Future<Long> job : jobs) {
+        try {
+          Long latency = job.get();
+          if (latency != null) {
+            latencies.add(latency);
+          }
+        } catch (ExecutionException e) {
+          // Log failures are the only errors which escape a job
+          throw new IOException("Log failed: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while waiting for conversions.");
+        }
+      }
+
+      appendSummary(log, inputs.length, latencies, System.nanoTime() - start);
+      return inputs.length - latencies.size();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  // Replaces the given output file with the given finished file, atomically where the file system
+  // supports it
+  private static void moveIntoPlace(File finished, File output) throws IOException {
+    try {
+      Files.move(finished.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(finished.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  // Returns an executor which runs each job on its own virtual thread, if the Java runtime
+  // supports them, or otherwise on a fixed pool of the given number of platform threads
+  private static ExecutorService createExecutor(int maxJobs) {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newFixedThreadPool(maxJobs);
+    }
+  }
+
+  // Converts the given input file to the given output file, reports the result to the log and
+  // returns the conversion's latency in nanoseconds, or null if it failed. The output is written
+  // to a temporary file beside it and only moved into place once the conversion succeeds, so a
+  // failed conversion leaves no partial output behind.
+  private Long convert(File input, File output, Appendable log) throws IOException {
+    long start = System.nanoTime();
+    String error = null;
+    File partial = null;
+
+    try {
+      partial = File.createTempFile("." + output.getName() + ".", ".part",
+          output.getParentFile());
+      try (BufferedReader reader = AnimationFiles.openInput(input.getPath());
+          Writer writer = AnimationFiles.openOutput(partial.getPath())) {
+        EasyAnimatorController<AnimatedRectangle, AnimatedEllipse, AnimatedCross> controller =
+            new EasyAnimatorController<>(reader, writer);
+        controller.setParseThreads(parseThreads);
+        controller.run(BasicEasyAnimator.builder(), EasyAnimatorViewFactory.create(viewType),
+            tickRate);
+      }
+      moveIntoPlace(partial, output);
+    } catch (IOException | RuntimeException e) {
+      error = e.getMessage();
+      if (partial != null) {
+        partial.delete();
+      }
+    }
+
+    long latency = System.nanoTime() - start;
+    synchronized (log) {
+      if (error == null) {
+        log.append(String.format("OK %s -> %s (%.1f ms)\n", input.getName(), output.getName(),
+            latency / 1e6));
+      } else {
+        log.append(String.format("FAILED %s: %s\n", input.getName(), error));
+      }
+    }
+
+    return error == null ? latency : null;
+  }
+
+  // Appends the throughput and latency percentiles of the conversions to the log
+  private static void appendSummary(Appendable log, int numFiles, List<Long> latencies,
+      long elapsed) throws IOException {
+    long[] sorted = new long[latencies.size()];
+    for (int i = 0; i < sorted.length; i++) {
+      sorted[i] = latencies.get(i);
+    }
+    Arrays.sort(sorted);
+
+    synchronized (log) {
+      log.append(String.format("Converted %d of %d files in %.3f s (%.1f files/s)\n",
+          sorted.length, numFiles, elapsed / 1e9, sorted.length / (elapsed / 1e9)));
+      if (sorted.length > 0) {
+        log.append(String.format("Latency p50 %.1f ms, p90 %.1f ms, p99 %.1f ms, max %.1f ms\n",
+            percentile(sorted, 50) / 1e6, percentile(sorted, 90) / 1e6,
+            percentile(sorted, 99) / 1e6, sorted[sorted.length - 1] / 1e6));
+      }
+    }
+  }
+
+  // Returns the given percentile of the given non-empty sorted values, using the nearest rank
+  private static long percentile(long[] sorted, int percent) {
+    int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+    return sorted[Math.max(rank, 1) - 1];
+  }
+}
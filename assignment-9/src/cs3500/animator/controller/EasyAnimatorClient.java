@@ -0,0 +1,109 @@
+package cs3500.animator.controller;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.net.InetAddress;
+import java.net.Socket;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+import java.util.Objects;
+
+/**
+ * Client for a resident {@link EasyAnimatorServer}. Sends animation descriptions to the server
+ * over a single connection and writes back the rendered output, speaking the protocol described by
+ * the server.
+ */
+public class EasyAnimatorClient implements Closeable {
+
+  private final Socket socket;
+  private final InputStream in;
+  private final OutputStream out;
+
+  /**
+   * Instantiates an {@code EasyAnimatorClient} object connected to the server listening on the
+   * given loopback port.
+   *
+   * @param port Port the server is listening on
+   * @throws IOException Server could not be connected to.
+   */
+  public EasyAnimatorClient(int port) throws IOException {
+    socket = new Socket(InetAddress.getLoopbackAddress(), port);
+    in = new BufferedInputStream(socket.getInputStream());
+    out = new BufferedOutputStream(socket.getOutputStream());
+  }
+
+  /**
+   * Has the server render the animation description read from the given input readable using the
+   * given view type and tick rate, and appends the result to the given output appendable.
+   *
+   * @param input    Input readable to read animation description from
+   * @param output   Output appendable to send animation output to
+   * @param viewType View type to render the animation with, which must render to text
+   * @param tickRate How fast to render the animation in ticks per second
+   * @throws NullPointerException     Input, output or view type is null.
+   * @throws IllegalArgumentException Tick rate is non-positive or view type contains whitespace.
+   * @throws IOException              Input, output or connection fails, or server reports an
+   *                                  error.
+   */
+  public void render(Readable input, Appendable output, String viewType, int tickRate)
+      throws NullPointerException, IllegalArgumentException, IOException {
+    Objects.requireNonNull(input, "Input readable is null.");
+    Objects.requireNonNull(output, "Output appendable is null.");
+    Objects.requireNonNull(viewType, "View type is null.");
+    if (tickRate <= 0) {
+      throw new IllegalArgumentException("Tick rate is non-positive.");
+    }
+    if (viewType.isEmpty() || viewType.matches(".*\\s.*")) {
+      throw new IllegalArgumentException("View type is empty or contains whitespace.");
+    }
+
+    // Read the whole description, since the protocol sends its length up front
+    StringBuilder description = new StringBuilder();
+    CharBuffer buffer = CharBuffer.allocate(8192);
+    while (input.read(buffer) != -1) {
+      buffer.flip();
+      description.append(buffer);
+      buffer.clear();
+    }
+
+    byte[] bytes = description.toString().getBytes(StandardCharsets.UTF_8);
+    out.write(String.format("RENDER %s %d %d\n", viewType, tickRate, bytes.length)
+        .getBytes(StandardCharsets.UTF_8));
+    out.write(bytes);
+    out.flush();
+
+    String response = EasyAnimatorServer.readLine(in);
+    if (response == null) {
+      throw new IOException("Server closed the connection.");
+    } else if (response.startsWith("ERROR ")) {
+      throw new IOException(response.substring("ERROR ".length()));
+    } else if (!response.startsWith("OK ")) {
+      throw new IOException("Malformed response: " + response);
+    }
+
+    int length;
+    try {
+      length = Integer.parseInt(response.substring("OK ".length()));
+    } catch (NumberFormatException e) {
+      throw new IOException("Malformed response: " + response);
+    }
+    output.append(new String(EasyAnimatorServer.readFully(in, length), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Closes the connection to the server.
+   *
+   * @throws IOException Connection fails to close.
+   */
+  @Override
+  public void close() throws IOException {
+    socket.close();
+  }
+}
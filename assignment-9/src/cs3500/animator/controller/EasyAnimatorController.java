@@ -1,20 +1,43 @@
 package cs3500.animator.controller;
 
+import cs3500.animator.model.EasyAnimatorImmutableModel;
 import cs3500.animator.model.EasyAnimatorModel;
 
 import cs3500.animator.model.shapes.VisitableShape;
 
 import cs3500.animator.util.AnimationBuilder;
+import cs3500.animator.util.AnimationCache;
 import cs3500.animator.util.AnimationReader;
+import cs3500.animator.util.FirstFrameBuilder;
+import cs3500.animator.util.ProgressReadable;
 
 import cs3500.animator.view.EasyAnimatorInteractiveView;
+import cs3500.animator.view.EasyAnimatorMetrics;
+import cs3500.animator.view.EasyAnimatorMetricsMBean;
 import cs3500.animator.view.EasyAnimatorView;
+import cs3500.animator.view.EasyAnimatorVisualView;
 import cs3500.animator.view.InteractiveFeatures;
 
+import cs3500.animator.view.renderers.VisualShapeRenderer.DetailLevel;
+
 import java.io.IOException;
 
+import java.lang.management.ManagementFactory;
+
 import java.util.Objects;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import java.util.function.Supplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import javax.swing.SwingUtilities;
+
 /**
  * Controller for Easy Animator. Allows users to run Easy Animator program with provided model and
  * view.
@@ -25,8 +48,16 @@ import java.util.Objects;
  */
 public class EasyAnimatorController<Rectangle, Ellipse, Cross> implements InteractiveFeatures {
 
+  /**
+   * Object name which the playback metrics of the latest interactive view rendered are registered
+   * under with the platform MBean server, as described by {@link EasyAnimatorMetricsMBean}.
+   */
+  public static final String METRICS_NAME = "cs3500.animator:type=EasyAnimatorMetrics";
+
   protected final Readable input;  // Input readable to read animation description from
   private final Appendable output;  // Output appendable to send animation output to, if supported
+  private int parseThreads = 1;  // Number of threads to parse input with
+  private AnimationCache cache;  // Cache of parsed animations to consult before parsing, if any
 
   // Interactive view to manage user interaction with, if supported
   private EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross> interactiveView;
@@ -44,6 +75,33 @@ public class EasyAnimatorController<Rectangle, Ellipse, Cross> implements Intera
     this.output = output;
   }
 
+  /**
+   * Sets the number of threads used to parse the input readable. With more than one thread, input
+   * is parsed line by line in parallel as described by {@link AnimationReader#parseFile(Readable,
+   * AnimationBuilder, int)}. The default is a single thread.
+   *
+   * @param parseThreads Number of threads to parse input with
+   * @throws IllegalArgumentException Number of threads is non-positive.
+   */
+  public void setParseThreads(int parseThreads) throws IllegalArgumentException {
+    if (parseThreads <= 0) {
+      throw new IllegalArgumentException("Number of parse threads is non-positive.");
+    }
+
+    this.parseThreads = parseThreads;
+  }
+
+  /**
+   * Sets the cache of parsed animations consulted before parsing the input readable, as described
+   * by {@link AnimationCache#parseFile(Readable, AnimationBuilder, int)}. By default, the input is
+   * always parsed.
+   *
+   * @param cache Cache of parsed animations, or null to always parse the input
+   */
+  public void setCache(AnimationCache cache) {
+    this.cache = cache;
+  }
+
   /**
    * Runs the animation using the given model builder, view, and tick rate using this object's input
    * readable and output appendable.
@@ -69,13 +127,146 @@ public class EasyAnimatorController<Rectangle, Ellipse, Cross> implements Intera
       throw new IllegalArgumentException("Tick rate is non-positive.");
     }
 
-    // Build the model using the given model builder
-    EasyAnimatorModel<Shape, Motion> model;
+    // Build the model using the given model builder, then start the animation
+    render(parse(builder), view, tickRate);
+  }
+
+  /**
+   * Parses this object's input readable into a model using the given model builder, consulting
+   * this object's cache of parsed animations if it has one, without rendering it. The model may
+   * then be rendered any number of times with {@link #render(EasyAnimatorImmutableModel,
+   * EasyAnimatorView, int)}.
+   *
+   * @param builder  Builder object for motion class
+   * @param <Shape>  Shape class used by model
+   * @param <Motion> Motion class used by model
+   * @return Model described by input readable
+   * @throws NullPointerException Builder is null.
+   * @throws IOException          Input readable fails.
+   */
+  public <Shape extends VisitableShape<Rectangle, Ellipse, Cross>, Motion>
+      EasyAnimatorModel<Shape, Motion> parse(
+      AnimationBuilder<EasyAnimatorModel<Shape, Motion>> builder
+  ) throws NullPointerException, IOException {
+    Objects.requireNonNull(builder, "Builder is null.");
+
+    return parse(input, builder);
+  }
+
+  // Parses the given readable into a model using the given model builder, consulting this
+  // object's cache of parsed animations if it has one
+  private <Doc> Doc parse(Readable readable, AnimationBuilder<Doc> builder) throws IOException {
     try {
-      model = AnimationReader.parseFile(input, builder);
+      if (cache != null) {
+        return cache.parseFile(readable, builder, parseThreads);
+      }
+      return AnimationReader.parseFile(readable, builder, parseThreads);
     } catch (IllegalStateException e) {
       throw new IOException("Input readable failed: " + e.getMessage());
     }
+  }
+
+  /**
+   * Runs the animation like {@link #run(AnimationBuilder, EasyAnimatorView, int)}, but parses this
+   * object's input readable on another thread. A visual view opens its window straight away,
+   * showing how much of the input has been read and a preview of the first frame of the shapes
+   * parsed so far, then starts playback on the event dispatch thread once parsing is done. The
+   * first frame can only be complete at the end of the input, since its declarations may appear
+   * anywhere in it. If parsing or rendering fails, the visual view's window is closed again. Other
+   * views render on the parsing thread.
+   *
+   * @param builders Supplier of builder objects, called once for the animation and once for each
+   *                 preview of the first frame
+   * @param view     View object for animation
+   * @param tickRate How fast to render the animation in ticks per second
+   * @param <Shape>  Shape class used by model
+   * @param <Motion> Motion class used by model
+   * @return Future completing once the animation has been rendered, or exceptionally with a
+   *         {@link CompletionException} caused by the {@link IOException} or runtime exception
+   *         {@code run} would have thrown
+   * @throws NullPointerException     Builder supplier or view is null.
+   * @throws IllegalArgumentException Tick rate is non-positive.
+   */
+  public <Shape extends VisitableShape<Rectangle, Ellipse, Cross>, Motion> CompletableFuture<Void>
+      runAsync(
+      Supplier<? extends AnimationBuilder<EasyAnimatorModel<Shape, Motion>>> builders,
+      EasyAnimatorView<Rectangle, Ellipse, Cross> view,
+      int tickRate
+  ) throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(builders, "Builder supplier is null.");
+    Objects.requireNonNull(view, "View is null.");
+    if (tickRate <= 0) {
+      throw new IllegalArgumentException("Tick rate is non-positive.");
+    }
+
+    ProgressReadable progress = new ProgressReadable(input);
+    FirstFrameBuilder<EasyAnimatorModel<Shape, Motion>> builder =
+        new FirstFrameBuilder<>(builders.get());
+    CompletableFuture<EasyAnimatorModel<Shape, Motion>> model =
+        CompletableFuture.supplyAsync(() -> {
+          try {
+            return parse(progress, builder);
+          } catch (IOException e) {
+            throw new CompletionException(e);
+          }
+        });
+
+    // Visual views are shown loading while parsing, and start playback on the event dispatch
+    // thread, where the loading preview is painted
+    Executor renderExecutor = Runnable::run;
+    EasyAnimatorVisualView<Rectangle, Ellipse, Cross> loadingView = null;
+    if (view instanceof EasyAnimatorVisualView) {
+      loadingView = (EasyAnimatorVisualView<Rectangle, Ellipse, Cross>) view;
+      loadingView.showLoading(progress, () -> builder.buildFirstFrame(builders.get()));
+      renderExecutor = SwingUtilities::invokeLater;
+    }
+
+    CompletableFuture<Void> rendered = model.thenAcceptAsync(parsed -> {
+      try {
+        render(parsed, view, tickRate);
+      } catch (IOException e) {
+        throw new CompletionException(e);
+      }
+    }, renderExecutor);
+    if (loadingView == null) {
+      return rendered;
+    }
+
+    // Close the loading window if the animation fails, so that it does not keep the program alive
+    EasyAnimatorVisualView<Rectangle, Ellipse, Cross> failedView = loadingView;
+    return rendered.whenComplete((ignored, error) -> {
+      if (error != null) {
+        if (SwingUtilities.isEventDispatchThread()) {
+          failedView.cancelLoading();
+        } else {
+          SwingUtilities.invokeLater(failedView::cancelLoading);
+        }
+      }
+    });
+  }
+
+  /**
+   * Renders the given, already parsed model using the given view and tick rate using this
+   * object's output appendable.
+   *
+   * @param model    Easy Animator model to be rendered
+   * @param view     View object for animation
+   * @param tickRate How fast to render the animation in ticks per second
+   * @throws NullPointerException     Model or view is null; output appendable is null when view
+   *                                  requires non-null appendable.
+   * @throws IllegalArgumentException Tick rate is non-positive.
+   * @throws IOException              Output appendable fails.
+   */
+  public void render(
+      EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model,
+      EasyAnimatorView<Rectangle, Ellipse, Cross> view,
+      int tickRate
+  ) throws NullPointerException, IllegalArgumentException, IOException {
+    Objects.requireNonNull(model, "Model is null.");
+    Objects.requireNonNull(view, "View is null.");
+    if (tickRate <= 0) {
+      throw new IllegalArgumentException("Tick rate is non-positive.");
+    }
 
     // If view is interactive, save reference of it for user interaction handling
     if (view instanceof EasyAnimatorInteractiveView) {
@@ -87,6 +278,26 @@ public class EasyAnimatorController<Rectangle, Ellipse, Cross> implements Intera
 
     // Start animation
     view.render(model, output, 1000 / tickRate);
+
+    // Expose the playback metrics of an interactive view for remote monitoring
+    if (interactiveView != null) {
+      registerMetrics(interactiveView.getMetrics());
+    }
+  }
+
+  // Registers the given metrics with the platform MBean server under the metrics name, replacing
+  // any registered before
+  private static void registerMetrics(EasyAnimatorMetrics metrics) {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(METRICS_NAME);
+      if (server.isRegistered(name)) {
+        server.unregisterMBean(name);
+      }
+      server.registerMBean(metrics, name);
+    } catch (JMException ignored) {
+      // Monitoring is optional, so the animation plays on without it
+    }
   }
 
   // Throws an UnsupportedOperationException if the currently used view is not interactive
@@ -163,4 +374,59 @@ public class EasyAnimatorController<Rectangle, Ellipse, Cross> implements Intera
     checkInteractiveView();
     interactiveView.setDelay(delay);
   }
+
+  /**
+   * Returns the detail level the animation is currently rendered at.
+   *
+   * @return Current detail level
+   * @throws UnsupportedOperationException View is not interactive.
+   */
+  @Override
+  public DetailLevel getDetailLevel() throws UnsupportedOperationException {
+    checkInteractiveView();
+    return interactiveView.getDetailLevel();
+  }
+
+  /**
+   * Sets the ratios of frame render time to tick delay above which the detail level of the
+   * animation is lowered and below which it is raised.
+   *
+   * @param degradeThreshold Ratio above which the detail level is lowered
+   * @param restoreThreshold Ratio below which the detail level is raised
+   * @throws UnsupportedOperationException View is not interactive.
+   * @throws IllegalArgumentException      Restore threshold is non-positive or not less than the
+   *                                       degrade threshold.
+   */
+  @Override
+  public void setDetailThresholds(double degradeThreshold, double restoreThreshold)
+      throws UnsupportedOperationException, IllegalArgumentException {
+    checkInteractiveView();
+    interactiveView.setDetailThresholds(degradeThreshold, restoreThreshold);
+  }
+
+  /**
+   * Returns the ratio of frame render time to tick delay above which the detail level of the
+   * animation is lowered.
+   *
+   * @return Degrade threshold
+   * @throws UnsupportedOperationException View is not interactive.
+   */
+  @Override
+  public double getDegradeThreshold() throws UnsupportedOperationException {
+    checkInteractiveView();
+    return interactiveView.getDegradeThreshold();
+  }
+
+  /**
+   * Returns the ratio of frame render time to tick delay below which the detail level of the
+   * animation is raised.
+   *
+   * @return Restore threshold
+   * @throws UnsupportedOperationException View is not interactive.
+   */
+  @Override
+  public double getRestoreThreshold() throws UnsupportedOperationException {
+    checkInteractiveView();
+    return interactiveView.getRestoreThreshold();
+  }
 }
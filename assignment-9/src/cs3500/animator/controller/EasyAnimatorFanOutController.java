@@ -0,0 +1,261 @@
+package cs3500.animator.controller;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorModel;
+
+import cs3500.animator.model.motions.Motion2D;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.util.AnimationCache;
+
+import cs3500.animator.view.EasyAnimatorView;
+import cs3500.animator.view.EasyAnimatorViewFactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Fan-out controller for Easy Animator. Parses an animation description once, then renders the
+ * resulting model to several views concurrently, each on its own thread and to its own output.
+ * Only views which render to an output can be fanned out. Shapes check their motions lazily and
+ * keep the result, so every shape is checked on the parsing thread before the model is shared,
+ * after which the views only read it. The parse time and each view's result and render time are
+ * reported as soon as they are known.
+ */
+public class EasyAnimatorFanOutController {
+
+  // View types which render to an output
+  private static final Set<String> VIEW_TYPES =
+      new HashSet<>(Arrays.asList("text", "svg", "svg-compact"));
+
+  private final Readable input;  // Input readable to read animation description from
+  private final int tickRate;  // Tick rate to render animations at
+  private final List<String> viewTypes = new ArrayList<>();  // Type of each view to render
+  private final List<Appendable> outputs = new ArrayList<>();  // Output of each view
+  private final List<String> outputNames = new ArrayList<>();  // Name of each output to report
+  private int parseThreads = 1;  // Number of threads to parse input with
+  private AnimationCache cache;  // Cache of parsed animations to consult before parsing, if any
+
+  /**
+   * Instantiates an {@code EasyAnimatorFanOutController} object with the given input readable and
+   * tick rate.
+   *
+   * @param input    Input readable to read animation description from
+   * @param tickRate How fast to render the animation in ticks per second
+   * @throws NullPointerException     Input readable is null.
+   * @throws IllegalArgumentException Tick rate is non-positive.
+   */
+  public EasyAnimatorFanOutController(Readable input, int tickRate)
+      throws NullPointerException, IllegalArgumentException {
+    this.input = Objects.requireNonNull(input, "Input readable is null.");
+    if (tickRate <= 0) {
+      throw new IllegalArgumentException("Tick rate is non-positive.");
+    }
+    this.tickRate = tickRate;
+  }
+
+  /**
+   * Returns whether views of the given type render to an output, and so can be fanned out.
+   *
+   * @param viewType View type to check
+   * @return Whether views of the type render to an output
+   */
+  public static boolean rendersToOutput(String viewType) {
+    return VIEW_TYPES.contains(viewType);
+  }
+
+  /**
+   * Adds a view of the given type to render the animation to, sending it to the given output.
+   * Views are rendered concurrently, so no two views may share an output.
+   *
+   * @param viewType   View type to render, which must render to an output
+   * @param output     Appendable to send the view's output to
+   * @param outputName Name of the output to report the view's result with
+   * @throws NullPointerException     View type, output or output name is null.
+   * @throws IllegalArgumentException View type does not render to an output, or output is already
+   *                                  used by another view.
+   */
+  public void addView(String viewType, Appendable output, String outputName)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(viewType, "View type is null.");
+    Objects.requireNonNull(output, "Output is null.");
+    Objects.requireNonNull(outputName, "Output name is null.");
+    if (!rendersToOutput(viewType)) {
+      throw new IllegalArgumentException("View type does not render to an output: " + viewType);
+    }
+    for (Appendable used : outputs) {
+      if (used == output) {
+        throw new IllegalArgumentException("Output is already used: " + outputName);
+      }
+    }
+
+    viewTypes.add(viewType);
+    outputs.add(output);
+    outputNames.add(outputName);
+  }
+
+  /**
+   * Sets the number of threads used to parse the input readable, as described by {@link
+   * EasyAnimatorController#setParseThreads(int)}. The default is a single thread.
+   *
+   * @param parseThreads Number of threads to parse input with
+   * @throws IllegalArgumentException Number of threads is non-positive.
+   */
+  public void setParseThreads(int parseThreads) throws IllegalArgumentException {
+    if (parseThreads <= 0) {
+      throw new IllegalArgumentException("Number of parse threads is non-positive.");
+    }
+
+    this.parseThreads = parseThreads;
+  }
+
+  /**
+   * Sets the cache of parsed animations consulted before parsing the input readable, as described
+   * by {@link EasyAnimatorController#setCache(AnimationCache)}. By default, the input is always
+   * parsed.
+   *
+   * @param cache Cache of parsed animations, or null to always parse the input
+   */
+  public void setCache(AnimationCache cache) {
+    this.cache = cache;
+  }
+
+  /**
+   * Parses the input readable once and renders it to every added view concurrently, reporting the
+   * parse time, each view's result and render time as soon as it completes, and the total time to
+   * the given log.
+   *
+   * @param log Appendable to report results to
+   * @return Number of views which failed to render
+   * @throws NullPointerException  Log is null.
+   * @throws IllegalStateException No views have been added.
+   * @throws IOException           Input readable or log fails.
+   */
+  public int run(Appendable log) throws NullPointerException, IllegalStateException, IOException {
+    Objects.requireNonNull(log, "Log is null.");
+    if (viewTypes.isEmpty()) {
+      throw new IllegalStateException("No views have been added.");
+    }
+
+    // Parse the model once, for every view to read
+    long start = System.nanoTime();
+    EasyAnimatorController<AnimatedRectangle, AnimatedEllipse, AnimatedCross> parser =
+        new EasyAnimatorController<>(input, null);
+    parser.setParseThreads(parseThreads);
+    parser.setCache(cache);
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> model = parser.parse(BasicEasyAnimator.builder());
+    long parsed = System.nanoTime();
+    synchronized (log) {
+      log.append(String.format("Parsed in %.1f ms\n", (parsed - start) / 1e6));
+    }
+
+    // Check every shape's motions before sharing the model, since the first check writes its
+    // result into the shape. Submitting the views afterwards publishes the checked shapes to them.
+    String invalid = null;
+    try {
+      model.getNumMotions();
+    } catch (IllegalStateException e) {
+      invalid = e.getMessage();
+    }
+
+    int failures;
+    if (invalid == null) {
+      failures = renderAll(model, log);
+    } else {
+      // Every view would fail on the same shape, so report them without rendering
+      synchronized (log) {
+        for (int i = 0; i < viewTypes.size(); i++) {
+          log.append(String.format("FAILED %s -> %s: %s\n", viewTypes.get(i),
+              outputNames.get(i), invalid));
+        }
+      }
+      failures = viewTypes.size();
+    }
+
+    synchronized (log) {
+      log.append(String.format("Rendered %d of %d views in %.1f ms (%.1f ms total)\n",
+          viewTypes.size() - failures, viewTypes.size(), (System.nanoTime() - parsed) / 1e6,
+          (System.nanoTime() - start) / 1e6));
+    }
+    return failures;
+  }
+
+  // Renders the given model to every view, each on its own thread, and returns the number of views
+  // which failed to render
+  private int renderAll(EasyAnimatorModel<AnimatedShape2D, Motion2D> model, Appendable log)
+      throws IOException {
+    ExecutorService executor = Executors.newFixedThreadPool(viewTypes.size());
+    int failures = 0;
+    try {
+      List<Future<Boolean>> jobs = new ArrayList<>(viewTypes.size());
+      for (int i = 0; i < viewTypes.size(); i++) {
+        int view = i;
+        jobs.add(executor.submit(() -> render(model, view, log)));
+      }
+
+      for (Future<Boolean> job : jobs) {
+        try {
+          if (!job.get()) {
+            failures++;
+          }
+        } catch (ExecutionException e) {
+          // Log failures are the only errors which escape a job
+          throw new IOException("Log failed: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException("Interrupted while waiting for views.");
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    return failures;
+  }
+
+  // Renders the given model to the view at the given index, reports the result to the log and
+  // returns whether it succeeded
+  private boolean render(EasyAnimatorModel<AnimatedShape2D, Motion2D> model, int view,
+      Appendable log) throws IOException {
+    long start = System.nanoTime();
+    String error = null;
+
+    try {
+      EasyAnimatorView<AnimatedRectangle, AnimatedEllipse, AnimatedCross> renderer =
+          EasyAnimatorViewFactory.create(viewTypes.get(view));
+      new EasyAnimatorController<AnimatedRectangle, AnimatedEllipse, AnimatedCross>(
+          new StringReader(""), outputs.get(view)).render(model, renderer, tickRate);
+    } catch (IOException | RuntimeException e) {
+      error = e.getMessage();
+    }
+
+    long elapsed = System.nanoTime() - start;
+    synchronized (log) {
+      if (error == null) {
+        log.append(String.format("OK %s -> %s (%.1f ms)\n", viewTypes.get(view),
+            outputNames.get(view), elapsed / 1e6));
+      } else {
+        log.append(String.format("FAILED %s -> %s: %s\n", viewTypes.get(view),
+            outputNames.get(view), error));
+      }
+    }
+
+    return error == null;
+  }
+}
@@ -0,0 +1,409 @@
+package cs3500.animator.controller;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorModel;
+
+import cs3500.animator.model.motions.Motion2D;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.view.EasyAnimatorViewFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Resident rendering server for Easy Animator. Listens on a loopback TCP port for animation
+ * descriptions and returns their text or SVG output, so that repeated conversions skip the start-up
+ * and warm-up of a fresh JVM. Parsed models are kept in a least-recently-used cache keyed by the
+ * SHA-256 hash of the animation description, so resubmitting an animation skips parsing too.
+ *
+ * <p>Each connection carries any number of requests, each of which is a header line followed by
+ * the UTF-8 encoded animation description:
+ * <pre>
+ * RENDER &lt;view type&gt; &lt;tick rate&gt; &lt;description length in bytes&gt;\n
+ * &lt;description&gt;
+ * </pre>
+ * Each request is answered with either {@code OK <output length in bytes>\n} followed by the
+ * UTF-8 encoded output, or {@code ERROR <message>\n}. A description longer than {@link
+ * #MAX_DESCRIPTION_LENGTH} is refused with an error, after which the connection is closed.
+ *
+ * <p>Since each connection may buffer a description of up to {@link #MAX_DESCRIPTION_LENGTH}
+ * bytes, only a bounded number of connections are served at once. A connection beyond that limit
+ * is answered with {@code ERROR Server is busy.\n} and closed straight away.
+ */
+public class EasyAnimatorServer implements Closeable {
+
+  /**
+   * Port which servers listen on and clients connect to when none is given.
+   */
+  public static final int DEFAULT_PORT = 7140;
+
+  // View types which render to text, and so can be returned to clients
+  private static final Set<String> VIEW_TYPES = Set.of("text", "svg", "svg-compact");
+
+  /**
+   * Longest animation description accepted in a request, in bytes.
+   */
+  public static final int MAX_DESCRIPTION_LENGTH = 64 << 20;
+
+  // Longest header line accepted, which guards against clients which send garbage
+  private static final int MAX_HEADER_LENGTH = 1024;
+
+  // Number of bytes read at a time, so that memory is only taken as a description arrives
+  private static final int READ_CHUNK_LENGTH = 64 << 10;
+
+  private final ServerSocket serverSocket;
+  private final ExecutorService connections;
+  private final Map<String, EasyAnimatorModel<AnimatedShape2D, Motion2D>> cache;
+  private int parseThreads = 1;  // Number of threads to parse each description with
+  private int maxConnections = Runtime.getRuntime().availableProcessors();  // Limit on connections
+  private long cacheHits;  // Number of requests whose model was found in the cache
+  private long cacheMisses;  // Number of requests whose model had to be parsed
+
+  /**
+   * Instantiates an {@code EasyAnimatorServer} object listening on the given loopback port, which
+   * caches up to the given number of parsed models.
+   *
+   * @param port          Port to listen on, or 0 for any free port
+   * @param cacheCapacity Maximum number of parsed models kept in the cache
+   * @throws IllegalArgumentException Port is out of range or cache capacity is negative.
+   * @throws IOException              Port could not be bound.
+   */
+  public EasyAnimatorServer(int port, int cacheCapacity)
+      throws IllegalArgumentException, IOException {
+    if (cacheCapacity < 0) {
+      throw new IllegalArgumentException("Cache capacity is negative.");
+    }
+
+    // Access-ordered map, so the eldest entry is always the least recently used
+    cache = new LinkedHashMap<String, EasyAnimatorModel<AnimatedShape2D, Motion2D>>(16, 0.75f,
+        true) {
+      @Override
+      protected boolean removeEldestEntry(
+          Map.Entry<String, EasyAnimatorModel<AnimatedShape2D, Motion2D>> eldest) {
+        return size() > cacheCapacity;
+      }
+    };
+    serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    connections = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "Easy Animator Server Connection");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Sets the number of threads used to parse each animation description, as described by {@link
+   * EasyAnimatorController#setParseThreads(int)}. The default is a single thread.
+   *
+   * @param parseThreads Number of threads to parse each description with
+   * @throws IllegalArgumentException Number of threads is non-positive.
+   */
+  public void setParseThreads(int parseThreads) throws IllegalArgumentException {
+    if (parseThreads <= 0) {
+      throw new IllegalArgumentException("Number of parse threads is non-positive.");
+    }
+
+    this.parseThreads = parseThreads;
+  }
+
+  /**
+   * Sets the maximum number of connections served at once, beyond which connections are refused
+   * as busy. The default is the number of available processors. Takes effect the next time {@link
+   * #serve()} is called.
+   *
+   * @param maxConnections Maximum number of concurrent connections
+   * @throws IllegalArgumentException Maximum number of connections is non-positive.
+   */
+  public void setMaxConnections(int maxConnections) throws IllegalArgumentException {
+    if (maxConnections <= 0) {
+      throw new IllegalArgumentException("Maximum number of connections is non-positive.");
+    }
+
+    this.maxConnections = maxConnections;
+  }
+
+  /**
+   * Returns the port this server is listening on.
+   *
+   * @return Port being listened on
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Returns the number of requests whose model was found in the cache.
+   *
+   * @return Number of cache hits
+   */
+  public synchronized long getCacheHits() {
+    return cacheHits;
+  }
+
+  /**
+   * Returns the number of requests whose model had to be parsed.
+   *
+   * @return Number of cache misses
+   */
+  public synchronized long getCacheMisses() {
+    return cacheMisses;
+  }
+
+  /**
+   * Accepts connections and serves their requests until this server is closed. Each connection is
+   * served on its own thread, up to the maximum number of connections, and connections beyond it
+   * are refused as busy.
+   *
+   * @throws IOException Server socket fails for a reason other than being closed.
+   */
+  public void serve() throws IOException {
+    // Bound the number of connections in flight, since each may buffer a large description
+    Semaphore permits = new Semaphore(maxConnections);
+    while (!serverSocket.isClosed()) {
+      Socket socket;
+      try {
+        socket = serverSocket.accept();
+      } catch (SocketException e) {
+        if (serverSocket.isClosed()) {
+          return;
+        }
+        throw e;
+      }
+
+      if (!permits.tryAcquire()) {
+        refuse(socket);
+        continue;
+      }
+      try {
+        connections.execute(() -> {
+          try {
+            serveConnection(socket);
+          } finally {
+            permits.release();
+          }
+        });
+      } catch (RuntimeException e) {
+        permits.release();
+        refuse(socket);
+      }
+    }
+  }
+
+  /**
+   * Stops listening for connections and closes open connections once their current request is
+   * served.
+   *
+   * @throws IOException Server socket fails to close.
+   */
+  @Override
+  public void close() throws IOException {
+    connections.shutdown();
+    serverSocket.close();
+  }
+
+  // Answers the given connection with a busy error and closes it without reading its requests
+  private static void refuse(Socket socket) {
+    try (Socket connection = socket;
+        OutputStream out = connection.getOutputStream()) {
+      writeError(out, "Server is busy.");
+    } catch (IOException ignored) {
+      // Client went away, nothing left to answer
+    }
+  }
+
+  // Serves requests on the given connection until the client closes it
+  private void serveConnection(Socket socket) {
+    try (Socket connection = socket;
+        InputStream in = new BufferedInputStream(connection.getInputStream());
+        OutputStream out = new BufferedOutputStream(connection.getOutputStream())) {
+      String header;
+      while ((header = readLine(in)) != null) {
+        String[] fields = header.split(" ");
+        if (fields.length != 4 || !fields[0].equals("RENDER")) {
+          writeError(out, "Malformed request: " + header);
+          return;
+        }
+
+        int length;
+        int tickRate;
+        try {
+          tickRate = Integer.parseInt(fields[2]);
+          length = Integer.parseInt(fields[3]);
+        } catch (NumberFormatException e) {
+          writeError(out, "Malformed request: " + header);
+          return;
+        }
+        if (length < 0) {
+          writeError(out, "Malformed request: " + header);
+          return;
+        }
+        if (length > MAX_DESCRIPTION_LENGTH) {
+          // The description is not read, so the connection cannot carry on
+          writeError(out, "Description is longer than " + MAX_DESCRIPTION_LENGTH + " bytes.");
+          return;
+        }
+
+        byte[] description = readFully(in, length);
+        byte[] result;
+        try {
+          result = render(description, fields[1], tickRate).getBytes(StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException e) {
+          writeError(out, String.valueOf(e.getMessage()));
+          continue;
+        }
+
+        out.write(("OK " + result.length + "\n").getBytes(StandardCharsets.UTF_8));
+        out.write(result);
+        out.flush();
+      }
+    } catch (IOException ignored) {
+      // Client went away, nothing left to answer
+    }
+  }
+
+  // Renders the given animation description using the given view type and tick rate, using the
+  // cached model for the description if there is one
+  private String render(byte[] description, String viewType, int tickRate) throws IOException {
+    if (!VIEW_TYPES.contains(viewType)) {
+      throw new IllegalArgumentException("View type does not render to text: " + viewType);
+    }
+
+    String key = hash(description);
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> model;
+    synchronized (this) {
+      model = cache.get(key);
+      if (model != null) {
+        cacheHits++;
+      } else {
+        cacheMisses++;
+      }
+    }
+
+    if (model == null) {
+      EasyAnimatorController<AnimatedRectangle, AnimatedEllipse, AnimatedCross> parser =
+          new EasyAnimatorController<>(
+              new StringReader(new String(description, StandardCharsets.UTF_8)), null);
+      parser.setParseThreads(parseThreads);
+      model = parser.parse(BasicEasyAnimator.builder());
+
+      // Check every shape's motions before caching the model, since the first check writes its
+      // result into the shape. Models which fail the check are not cached.
+      model.getNumMotions();
+      synchronized (this) {
+        cache.put(key, model);
+      }
+    }
+
+    // Cached shapes are already checked, so concurrent requests only read them
+    StringBuilder output = new StringBuilder();
+    new EasyAnimatorController<AnimatedRectangle, AnimatedEllipse, AnimatedCross>(
+        new StringReader(""), output)
+        .render(model, EasyAnimatorViewFactory.create(viewType), tickRate);
+    return output.toString();
+  }
+
+  // Returns the SHA-256 hash of the given bytes as a hexadecimal string
+  private static String hash(byte[] bytes) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest.digest(bytes)) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+
+  // Writes an error response with the given message, which is kept on a single line
+  private static void writeError(OutputStream out, String message) throws IOException {
+    out.write(("ERROR " + message.replace('\n', ' ') + "\n").getBytes(StandardCharsets.UTF_8));
+    out.flush();
+  }
+
+  /**
+   * Reads a line terminated by a newline from the given stream, as used by the server's protocol.
+   *
+   * @param in Stream to read from
+   * @return Line without its newline, or null if the stream ended before any byte was read
+   * @throws IOException Stream fails, ends in the middle of a line, or line is too long.
+   */
+  static String readLine(InputStream in) throws IOException {
+    ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int b;
+    while ((b = in.read()) != '\n') {
+      if (b == -1) {
+        if (line.size() == 0) {
+          return null;
+        }
+        throw new EOFException("Stream ended in the middle of a line.");
+      }
+      if (line.size() >= MAX_HEADER_LENGTH) {
+        throw new IOException("Line is too long.");
+      }
+      line.write(b);
+    }
+
+    return new String(line.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads exactly the given number of bytes from the given stream, as used by the server's
+   * protocol. The bytes are read in bounded chunks, so a stream which ends early never costs more
+   * memory than what it sent.
+   *
+   * @param in     Stream to read from
+   * @param length Number of bytes to read
+   * @return Bytes read
+   * @throws IOException Stream fails or ends before all bytes are read.
+   */
+  static byte[] readFully(InputStream in, int length) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.min(length, READ_CHUNK_LENGTH));
+    byte[] chunk = new byte[Math.min(length, READ_CHUNK_LENGTH)];
+    int read = 0;
+    while (read < length) {
+      int count = in.read(chunk, 0, Math.min(chunk.length, length - read));
+      if (count == -1) {
+        throw new EOFException("Stream ended before " + length + " bytes were read.");
+      }
+      bytes.write(chunk, 0, count);
+      read += count;
+    }
+
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,326 @@
+package cs3500.animator.generator;
+
+import cs3500.animator.util.AnimationFiles;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Programmatically generates synthetic Easy Animator input files of any size for benchmarks and
+ * soak tests. Shapes and motions are streamed straight to the output appendable as they are
+ * generated, each shape's motions following on from one another, so memory use does not grow with
+ * the size of the scene. The same parameters and seed always generate the same scene.
+ */
+public class SceneGenerator {
+
+  private final Appendable output;
+  private final long seed;
+  private int numShapes = 100;
+  private int motionsPerShape = 10;
+  private int canvasWidth = 1000;
+  private int canvasHeight = 1000;
+  private int rectangleWeight = 1;
+  private int ellipseWeight = 1;
+  private int crossWeight = 1;
+  private int minMotionLength = 1;
+  private int maxMotionLength = 20;
+  private int numTempos = 0;
+  private double minSpeedFactor = 0.5;
+  private double maxSpeedFactor = 2.0;
+
+  // Single line of output, reused so that each line is appended in one call
+  private final StringBuilder line = new StringBuilder();
+
+  /**
+   * Instantiates a {@code SceneGenerator} object with the given output appendable and seed. The
+   * default scene is 100 shapes of evenly mixed types with 10 motions each, lasting between 1 and
+   * 20 ticks, on a 1000 by 1000 canvas, without tempos.
+   *
+   * @param output Appendable to send output to
+   * @param seed   Seed of the random scene
+   * @throws NullPointerException Output appendable is null.
+   */
+  public SceneGenerator(Appendable output, long seed) throws NullPointerException {
+    this.output = Objects.requireNonNull(output, "Output appendable is null.");
+    this.seed = seed;
+  }
+
+  /**
+   * Sets the number of shapes in the scene.
+   *
+   * @param numShapes Number of shapes
+   * @throws IllegalArgumentException Number of shapes is negative.
+   */
+  public void setNumShapes(int numShapes) throws IllegalArgumentException {
+    if (numShapes < 0) {
+      throw new IllegalArgumentException("Number of shapes is negative.");
+    }
+
+    this.numShapes = numShapes;
+  }
+
+  /**
+   * Sets the number of motions of each shape.
+   *
+   * @param motionsPerShape Number of motions per shape
+   * @throws IllegalArgumentException Number of motions is non-positive.
+   */
+  public void setMotionsPerShape(int motionsPerShape) throws IllegalArgumentException {
+    if (motionsPerShape <= 0) {
+      throw new IllegalArgumentException("Number of motions is non-positive.");
+    }
+
+    this.motionsPerShape = motionsPerShape;
+  }
+
+  /**
+   * Sets the size of the canvas, which every shape stays within.
+   *
+   * @param width  Width of canvas
+   * @param height Height of canvas
+   * @throws IllegalArgumentException Width or height is non-positive.
+   */
+  public void setCanvasSize(int width, int height) throws IllegalArgumentException {
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException("Width or height is non-positive.");
+    }
+
+    this.canvasWidth = width;
+    this.canvasHeight = height;
+  }
+
+  /**
+   * Sets the relative weights with which each shape is a rectangle, ellipse or cross.
+   *
+   * @param rectangles Weight of rectangles
+   * @param ellipses   Weight of ellipses
+   * @param crosses    Weight of crosses
+   * @throws IllegalArgumentException A weight is negative or all weights are zero.
+   */
+  public void setShapeMix(int rectangles, int ellipses, int crosses)
+      throws IllegalArgumentException {
+    if (rectangles < 0 || ellipses < 0 || crosses < 0) {
+      throw new IllegalArgumentException("Weight is negative.");
+    }
+    if ((long) rectangles + ellipses + crosses == 0) {
+      throw new IllegalArgumentException("All weights are zero.");
+    }
+    if ((long) rectangles + ellipses + crosses > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Weights are too large.");
+    }
+
+    this.rectangleWeight = rectangles;
+    this.ellipseWeight = ellipses;
+    this.crossWeight = crosses;
+  }
+
+  /**
+   * Sets the range of lengths in ticks of each motion.
+   *
+   * @param minLength Minimum length of a motion
+   * @param maxLength Maximum length of a motion
+   * @throws IllegalArgumentException Minimum length is non-positive or greater than maximum length.
+   */
+  public void setMotionLengths(int minLength, int maxLength) throws IllegalArgumentException {
+    if (minLength <= 0) {
+      throw new IllegalArgumentException("Minimum length is non-positive.");
+    }
+    if (minLength > maxLength) {
+      throw new IllegalArgumentException("Minimum length is greater than maximum length.");
+    }
+
+    this.minMotionLength = minLength;
+    this.maxMotionLength = maxLength;
+  }
+
+  /**
+   * Sets the number of tempos in the scene, which cover disjoint ranges of ticks spread over the
+   * scene, and the range of their speed factors.
+   *
+   * @param numTempos      Number of tempos
+   * @param minSpeedFactor Minimum speed factor of a tempo
+   * @param maxSpeedFactor Maximum speed factor of a tempo
+   * @throws IllegalArgumentException Number of tempos is negative, minimum speed factor is
+   *                                  non-positive or greater than maximum speed factor.
+   */
+  public void setTempos(int numTempos, double minSpeedFactor, double maxSpeedFactor)
+      throws IllegalArgumentException {
+    if (numTempos < 0) {
+      throw new IllegalArgumentException("Number of tempos is negative.");
+    }
+    if (!(minSpeedFactor > 0)) {
+      throw new IllegalArgumentException("Minimum speed factor is non-positive.");
+    }
+    if (!(minSpeedFactor <= maxSpeedFactor)) {
+      throw new IllegalArgumentException("Minimum speed factor is greater than maximum.");
+    }
+
+    this.numTempos = numTempos;
+    this.minSpeedFactor = minSpeedFactor;
+    this.maxSpeedFactor = maxSpeedFactor;
+  }
+
+  /**
+   * Generates the scene and sends it to the output appendable.
+   *
+   * @throws IOException Output appendable fails.
+   */
+  public void generate() throws IOException {
+    Random random = new Random(seed);
+    output.append("canvas 0 0 ").append(String.valueOf(canvasWidth)).append(" ")
+        .append(String.valueOf(canvasHeight)).append("\n");
+
+    // Spread tempos over the latest tick any motion can end at, one per equal slot
+    long lastTick = (long) maxMotionLength * (motionsPerShape + 1);
+    for (int i = 0; i < numTempos; i++) {
+      long slotStart = lastTick * i / numTempos;
+      long slotEnd = lastTick * (i + 1) / numTempos - 1;
+      if (slotEnd < slotStart) {
+        continue;
+      }
+      int start = (int) (slotStart + (long) (random.nextDouble() * (slotEnd - slotStart + 1)));
+      int end = (int) (start + (long) (random.nextDouble() * (slotEnd - start + 1)));
+      // Round speed factors to hundredths, keeping them positive
+      double speedFactor = minSpeedFactor + random.nextDouble() * (maxSpeedFactor - minSpeedFactor);
+      speedFactor = Math.max(Math.round(speedFactor * 100) / 100.0, 0.01);
+      output.append("tempo ").append(String.valueOf(start)).append(" ")
+          .append(String.valueOf(end)).append(" ").append(String.valueOf(speedFactor))
+          .append("\n");
+    }
+
+    int maxSize = Math.max(Math.min(canvasWidth, canvasHeight) / 4, 1);
+    int totalWeight = rectangleWeight + ellipseWeight + crossWeight;
+    int[] state = new int[7];
+    int[] next = new int[7];
+    for (int i = 0; i < numShapes; i++) {
+      String name = "S" + i;
+      int type = random.nextInt(totalWeight);
+      output.append("shape ").append(name).append(type < rectangleWeight ? " rectangle"
+          : type < rectangleWeight + ellipseWeight ? " ellipse" : " cross").append("\n");
+
+      // Stagger shapes so that they do not all start on the first tick
+      int tick = random.nextInt(maxMotionLength);
+      randomState(random, maxSize, state);
+      for (int j = 0; j < motionsPerShape; j++) {
+        int nextTick = tick + minMotionLength
+            + random.nextInt(maxMotionLength - minMotionLength + 1);
+        randomState(random, maxSize, next);
+        appendMotion(name, tick, state, nextTick, next);
+
+        // Each motion starts where the previous one ended, so there are no gaps or teleports
+        int[] swap = state;
+        state = next;
+        next = swap;
+        tick = nextTick;
+      }
+    }
+  }
+
+  // Writes a random state of a shape no bigger than the given size, which lies within the canvas,
+  // to the given array as x, y, width, height, red, green and blue
+  private void randomState(Random random, int maxSize, int[] state) {
+    state[2] = 1 + random.nextInt(maxSize);
+    state[3] = 1 + random.nextInt(maxSize);
+    state[0] = random.nextInt(Math.max(canvasWidth - state[2], 0) + 1);
+    state[1] = random.nextInt(Math.max(canvasHeight - state[3], 0) + 1);
+    state[4] = random.nextInt(256);
+    state[5] = random.nextInt(256);
+    state[6] = random.nextInt(256);
+  }
+
+  // Appends a motion of the named shape between the given ticks and states
+  private void appendMotion(String name, int startTick, int[] startState, int endTick,
+      int[] endState) throws IOException {
+    line.setLength(0);
+    line.append("motion ").append(name).append(' ').append(startTick);
+    for (int value : startState) {
+      line.append(' ').append(value);
+    }
+    line.append(' ').append(endTick);
+    for (int value : endState) {
+      line.append(' ').append(value);
+    }
+    line.append('\n');
+    output.append(line);
+  }
+
+  /**
+   * Generates a scene to the given output file, or System.out if none is given, which is
+   * compressed if the file has a .gz or .zz extension. Takes arguments in pairs: {@code -shapes},
+   * {@code -motions}, {@code -width}, {@code -height}, {@code -mix <r>,<e>,<c>}, {@code -lengths
+   * <min>,<max>}, {@code -tempos <count>,<min factor>,<max factor>}, {@code -seed} and {@code
+   * -out}.
+   *
+   * @param args Command line arguments
+   * @throws IOException              Output file fails.
+   * @throws IllegalArgumentException Arguments are invalid.
+   */
+  public static void main(String[] args) throws IOException, IllegalArgumentException {
+    // Collect arguments first, since the output and seed are needed to create the generator
+    Map<String, String[]> options = new HashMap<>();
+    for (int i = 0; i < args.length; i += 2) {
+      if (i + 1 >= args.length) {
+        throw new IllegalArgumentException("Arguments are not properly paired.");
+      }
+      options.put(args[i], args[i + 1].split(","));
+    }
+
+    Writer writer = options.containsKey("-out")
+        ? AnimationFiles.openOutput(options.remove("-out")[0])
+        : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+    String[] seed = options.remove("-seed");
+    SceneGenerator generator =
+        new SceneGenerator(writer, seed == null ? 0 : Long.parseLong(seed[0]));
+    int width = generator.canvasWidth;
+    int height = generator.canvasHeight;
+
+    try {
+      for (Map.Entry<String, String[]> option : options.entrySet()) {
+        String[] values = option.getValue();
+        switch (option.getKey()) {
+          case "-shapes":
+            generator.setNumShapes(Integer.parseInt(values[0]));
+            break;
+          case "-motions":
+            generator.setMotionsPerShape(Integer.parseInt(values[0]));
+            break;
+          case "-width":
+            width = Integer.parseInt(values[0]);
+            break;
+          case "-height":
+            height = Integer.parseInt(values[0]);
+            break;
+          case "-mix":
+            generator.setShapeMix(Integer.parseInt(values[0]), Integer.parseInt(values[1]),
+                Integer.parseInt(values[2]));
+            break;
+          case "-lengths":
+            generator.setMotionLengths(Integer.parseInt(values[0]), Integer.parseInt(values[1]));
+            break;
+          case "-tempos":
+            generator.setTempos(Integer.parseInt(values[0]), Double.parseDouble(values[1]),
+                Double.parseDouble(values[2]));
+            break;
+          default:
+            throw new IllegalArgumentException("Invalid argument type: " + option.getKey());
+        }
+      }
+      generator.setCanvasSize(width, height);
+
+      generator.generate();
+    } catch (ArrayIndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Argument has too few values.");
+    } finally {
+      writer.close();
+    }
+  }
+}
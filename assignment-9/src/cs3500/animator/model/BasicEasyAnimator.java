@@ -13,12 +13,17 @@ import cs3500.animator.model.motions.Motion2D;
 
 import cs3500.animator.util.AnimationBuilder;
 
+import java.io.IOException;
+
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import java.util.function.IntFunction;
+
 /**
  * Basic implementation of an Easy Animator model as defined by {@link EasyAnimatorModel}.
  */
@@ -30,7 +35,36 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
   public static final class Builder
       implements AnimationBuilder<EasyAnimatorModel<AnimatedShape2D, Motion2D>> {
 
-    private EasyAnimatorModel<AnimatedShape2D, Motion2D> model;
+    // Largest tick whose boxed key is shared
+    private static final int MAX_SHARED_TICK = (1 << 20) - 1;
+
+    private BasicEasyAnimator model;
+
+    // Boxed tick keys shared by the tick-motion maps of all shapes loaded by this builder, indexed
+    // by tick, so that a tick covered by many shapes is boxed once rather than once per shape. The
+    // keys are only held for the load, and grow to cover the last tick seen.
+    private Integer[] tickKeys = new Integer[1 << 10];
+
+    // Function returning the shared key of a tick, made once rather than for each added motion
+    private final IntFunction<Integer> tickKeyFunction = this::tickKey;
+
+    // Returns the shared boxed key of the given tick, boxing it anew if it is beyond the shared
+    // range
+    private Integer tickKey(int tick) {
+      if (tick < 0 || tick > MAX_SHARED_TICK) {
+        return tick;
+      }
+      if (tick >= tickKeys.length) {
+        tickKeys = Arrays.copyOf(tickKeys,
+            Math.min(Math.max(tickKeys.length * 2, Integer.highestOneBit(tick) << 1),
+                MAX_SHARED_TICK + 1));
+      }
+      if (tickKeys[tick] == null) {
+        tickKeys[tick] = tick;
+      }
+
+      return tickKeys[tick];
+    }
 
     @Override
     public EasyAnimatorModel<AnimatedShape2D, Motion2D> build() throws IllegalStateException {
@@ -85,16 +119,17 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
     ) throws NullPointerException, IllegalStateException, IllegalArgumentException {
       Objects.requireNonNull(name);
 
+      // States are passed in packed form, so no attribute objects are made for them
       model.addMotion(name, Motion2D.builder()
           .setStartTick(t1)
           .setEndTick(t2)
-          .setStartPosition(new Position2D(x1, y1))
-          .setEndPosition(new Position2D(x2, y2))
-          .setStartDimensions(new Dimensions2D(w1, h1))
-          .setEndDimensions(new Dimensions2D(w2, h2))
-          .setStartColor(new Color(r1, g1, b1))
-          .setEndColor(new Color(r2, g2, b2))
-          .build()
+          .setStartPositionPacked(Position2D.pack(x1, y1))
+          .setEndPositionPacked(Position2D.pack(x2, y2))
+          .setStartDimensionsPacked(Dimensions2D.pack(w1, h1))
+          .setEndDimensionsPacked(Dimensions2D.pack(w2, h2))
+          .setStartColorPacked(Color.pack(r1, g1, b1))
+          .setEndColorPacked(Color.pack(r2, g2, b2))
+          .build(), tickKeyFunction
       );
 
       return this;
@@ -120,6 +155,8 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
 
   private final Map<Integer, Double> tempos;
 
+  private long version;  // Modification version of this animator, incremented on every change
+
   /**
    * Returns a builder object for {@code BasicEasyAnimator}.
    *
@@ -210,6 +247,7 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
       foundShape = findShape(shape.getName());
     } catch (IllegalArgumentException e) {
       shapes.add((AnimatedShape2D) shape.clone());
+      version++;
     }
 
     if (foundShape != null) {
@@ -221,6 +259,7 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
   public void removeShape(String shapeName)
       throws NullPointerException, IllegalArgumentException {
     shapes.remove(findShape(shapeName));
+    version++;
   }
 
   @Override
@@ -230,6 +269,18 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
 
     AnimatedShape2D matchingShape = findShape(shapeName);
     matchingShape.addMotion(motion);
+    version++;
+  }
+
+  // Adds the given motion to the shape with the given name, keying its ticks with the given
+  // function. Throws the same exceptions as addMotion(String, Motion2D).
+  private void addMotion(String shapeName, Motion2D motion, IntFunction<Integer> tickKeys)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(motion, "Motion is null.");
+
+    AnimatedShape2D matchingShape = findShape(shapeName);
+    matchingShape.addMotion(motion, tickKeys);
+    version++;
   }
 
   @Override
@@ -239,6 +290,7 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
 
     AnimatedShape2D matchingShape = findShape(shapeName);
     matchingShape.removeMotion(motion);
+    version++;
   }
 
   @Override
@@ -272,6 +324,27 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
     return endTick == 0 ? 0 : endTick + 1;
   }
 
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
+  public int getNumShapes() {
+    return shapes.size();
+  }
+
+  @Override
+  public int getNumMotions() throws IllegalStateException {
+    int numMotions = 0;
+
+    for (AnimatedShape2D shape : shapes) {
+      numMotions += shape.getMotions().size();
+    }
+
+    return numMotions;
+  }
+
   @Override
   public List<AnimatedShape2D> getShapes() {
     List<AnimatedShape2D> newShapes = new LinkedList<>();
@@ -284,12 +357,27 @@ public class BasicEasyAnimator implements EasyAnimatorModel<AnimatedShape2D, Mot
   }
 
   @Override
-  public String toString() {
-    StringBuilder textRep = new StringBuilder();
-    textRep.append(String.format("canvas %d %d %d %d", leftmostX, topmostY, width, height));
+  public void appendTo(Appendable output)
+      throws NullPointerException, IllegalStateException, IOException {
+    Objects.requireNonNull(output, "Output appendable is null.");
+
+    output.append("canvas ").append(Integer.toString(leftmostX))
+        .append(' ').append(Integer.toString(topmostY))
+        .append(' ').append(Integer.toString(width))
+        .append(' ').append(Integer.toString(height));
 
     for (AnimatedShape2D shape : shapes) {
-      textRep.append('\n').append(shape);
+      output.append('\n');
+      shape.appendTo(output);
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder textRep = new StringBuilder();
+    try {
+      appendTo(textRep);
+    } catch (IOException ignored) {
     }
 
     return textRep.toString();
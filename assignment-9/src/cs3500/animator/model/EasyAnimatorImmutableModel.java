@@ -1,5 +1,7 @@
 package cs3500.animator.model;
 
+import java.io.IOException;
+
 import java.util.List;
 
 /**
@@ -46,6 +48,31 @@ public interface EasyAnimatorImmutableModel<Shape> {
    */
   int getNumTicks() throws IllegalStateException;
 
+  /**
+   * Returns the modification version of the model. The version changes whenever a shape or motion
+   * is added to or removed from the model, so derived data can be cached against it without
+   * inspecting the model's shapes.
+   *
+   * @return Modification version of model
+   */
+  long getVersion();
+
+  /**
+   * Returns the number of shapes contained in the model, without copying them.
+   *
+   * @return Number of shapes in model
+   */
+  int getNumShapes();
+
+  /**
+   * Returns the total number of motions of the shapes contained in the model, without copying
+   * them.
+   *
+   * @return Number of motions in model
+   * @throws IllegalStateException One or more shapes are malformed.
+   */
+  int getNumMotions() throws IllegalStateException;
+
   /**
    * Returns a copy of the list of shapes contained in the model.
    *
@@ -53,6 +80,18 @@ public interface EasyAnimatorImmutableModel<Shape> {
    */
   List<Shape> getShapes();
 
+  /**
+   * Appends the text description of the animation, consisting of its canvas declaration followed by
+   * the description of each of its shapes, to the given output without building the description in
+   * memory first.
+   *
+   * @param output Appendable to send output to
+   * @throws NullPointerException  Output appendable is null.
+   * @throws IllegalStateException One or more shapes are malformed.
+   * @throws IOException           Output appendable fails.
+   */
+  void appendTo(Appendable output) throws NullPointerException, IllegalStateException, IOException;
+
   /**
    * Retrieves the tempo factor at the given tick.
    *
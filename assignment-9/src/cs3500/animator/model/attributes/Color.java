@@ -1,15 +1,12 @@
 package cs3500.animator.model.attributes;
 
-import java.util.Objects;
-
 /**
- * Represents a color defined by an RGB value.
+ * Represents a color defined by an RGB value. The value is stored packed into a single {@code int}
+ * as {@code 0xRRGGBB}, and static helpers are provided for working with packed values directly.
  */
 public class Color {
 
-  private final int red;
-  private final int green;
-  private final int blue;
+  private final int rgb;  // Packed RGB value
 
   /**
    * Instantiates a {@code Color} object with the given RGB value.
@@ -20,13 +17,105 @@ public class Color {
    * @throws IllegalArgumentException RGB value is invalid.
    */
   public Color(int red, int green, int blue) throws IllegalArgumentException {
+    this.rgb = pack(red, green, blue);
+  }
+
+  // Instantiates a Color object with the given packed RGB value
+  private Color(int rgb) {
+    this.rgb = rgb;
+  }
+
+  /**
+   * Returns a {@code Color} object with the given packed RGB value.
+   *
+   * @param rgb Packed RGB value, as {@code 0xRRGGBB}
+   * @return Color with the given packed RGB value
+   * @throws IllegalArgumentException Packed RGB value has bits set above the blue, green, and red
+   *                                  components.
+   */
+  public static Color fromPacked(int rgb) throws IllegalArgumentException {
+    if ((rgb & ~0xFFFFFF) != 0) {
+      throw new IllegalArgumentException("Packed RGB value is invalid.");
+    }
+
+    return new Color(rgb);
+  }
+
+  /**
+   * Packs the given RGB value into a single {@code int} as {@code 0xRRGGBB}.
+   *
+   * @param red   Red component of color, from 0-255
+   * @param green Green component of color, from 0-255
+   * @param blue  Blue component of color, from 0-255
+   * @return Packed RGB value
+   * @throws IllegalArgumentException RGB value is invalid.
+   */
+  public static int pack(int red, int green, int blue) throws IllegalArgumentException {
     if (red < 0 || red > 255 || green < 0 || green > 255 || blue < 0 || blue > 255) {
       throw new IllegalArgumentException("RGB value is invalid.");
     }
 
-    this.red = red;
-    this.green = green;
-    this.blue = blue;
+    return red << 16 | green << 8 | blue;
+  }
+
+  /**
+   * Returns red component of the given packed RGB value, from 0-255.
+   *
+   * @param rgb Packed RGB value
+   * @return Red component of packed RGB value, from 0-255
+   */
+  public static int red(int rgb) {
+    return rgb >> 16 & 0xFF;
+  }
+
+  /**
+   * Returns green component of the given packed RGB value, from 0-255.
+   *
+   * @param rgb Packed RGB value
+   * @return Green component of packed RGB value, from 0-255
+   */
+  public static int green(int rgb) {
+    return rgb >> 8 & 0xFF;
+  }
+
+  /**
+   * Returns blue component of the given packed RGB value, from 0-255.
+   *
+   * @param rgb Packed RGB value
+   * @return Blue component of packed RGB value, from 0-255
+   */
+  public static int blue(int rgb) {
+    return rgb & 0xFF;
+  }
+
+  /**
+   * Linearly interpolates between the given packed RGB values, rounding each component to the
+   * nearest integer.
+   *
+   * @param startRgb Packed RGB value at a fraction of 0
+   * @param endRgb   Packed RGB value at a fraction of 1
+   * @param fraction Fraction of the way from the start value to the end value, from 0-1
+   * @return Interpolated packed RGB value
+   */
+  public static int interpolate(int startRgb, int endRgb, double fraction) {
+    if (startRgb == endRgb) {
+      return startRgb;
+    }
+
+    return pack(
+        (int) ((red(endRgb) - red(startRgb)) * fraction + red(startRgb) + 0.5),
+        (int) ((green(endRgb) - green(startRgb)) * fraction + green(startRgb) + 0.5),
+        (int) ((blue(endRgb) - blue(startRgb)) * fraction + blue(startRgb) + 0.5)
+    );
+  }
+
+  /**
+   * Returns the packed RGB value of color, as {@code 0xRRGGBB}.
+   *
+   * @return Packed RGB value of color
+   */
+  public int toPacked() {
+    return rgb;
   }
 
   /**
@@ -35,7 +124,7 @@ public class Color {
    * @return Red component of color, from 0-255
    */
   public int getRed() {
-    return red;
+    return red(rgb);
   }
 
   /**
@@ -44,7 +133,7 @@ public class Color {
    * @return Blue component of color, from 0-255
    */
   public int getBlue() {
-    return blue;
+    return blue(rgb);
   }
 
   /**
@@ -53,12 +142,12 @@ public class Color {
    * @return Green component of color, from 0-255
    */
   public int getGreen() {
-    return green;
+    return green(rgb);
   }
 
   @Override
   public String toString() {
-    return String.format("%-4d%-4d%d", red, green, blue);
+    return String.format("%-4d%-4d%d", getRed(), getGreen(), getBlue());
   }
 
   @Override
@@ -71,13 +160,11 @@ public class Color {
       return false;
     }
 
-    return red == other.red
-        && green == other.green
-        && blue == other.blue;
+    return rgb == other.rgb;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(red, green, blue);
+    return Integer.hashCode(rgb);
   }
 }
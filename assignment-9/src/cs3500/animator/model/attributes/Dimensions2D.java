@@ -1,9 +1,9 @@
 package cs3500.animator.model.attributes;
 
-import java.util.Objects;
-
 /**
- * Represents the dimensions of a 2D shape.
+ * Represents the dimensions of a 2D shape. The width and height are stored as fixed-point values
+ * packed into a single {@code long}, and static helpers are provided for working with packed values
+ * directly.
  */
 public class Dimensions2D {
 
@@ -12,23 +12,107 @@ public class Dimensions2D {
    */
   public static final double DELTA = 0.001;
 
-  private final double width;
-  private final double height;
+  private final long packed;  // Packed width and height
 
   /**
    * Instantiates a {@code Dimensions2D} object with the given width and height.
    *
    * @param width  Width value of shape
    * @param height Height value of shape
-   * @throws IllegalArgumentException Width or height is negative.
+   * @throws IllegalArgumentException Width or height is negative, not a number, or beyond the
+   *                                  representable range of packed dimensions.
    */
   public Dimensions2D(double width, double height) throws IllegalArgumentException {
+    this.packed = pack(width, height);
+  }
+
+  // Instantiates a Dimensions2D object with the given packed dimensions
+  private Dimensions2D(long packed) {
+    this.packed = packed;
+  }
+
+  /**
+   * Returns a {@code Dimensions2D} object with the given packed dimensions.
+   *
+   * @param packed Packed dimensions
+   * @return Dimensions with the given packed width and height
+   * @throws IllegalArgumentException Packed width or height is negative.
+   */
+  public static Dimensions2D fromPacked(long packed) throws IllegalArgumentException {
+    if (width(packed) < 0 || height(packed) < 0) {
+      throw new IllegalArgumentException("Width or height is negative.");
+    }
+
+    return new Dimensions2D(packed);
+  }
+
+  /**
+   * Packs the given width and height into a single {@code long}.
+   *
+   * @param width  Width value of shape
+   * @param height Height value of shape
+   * @return Packed dimensions
+   * @throws IllegalArgumentException Width or height is negative, not a number, or beyond the
+   *                                  representable range of packed dimensions.
+   */
+  public static long pack(double width, double height) throws IllegalArgumentException {
     if (width < 0 || height < 0) {
       throw new IllegalArgumentException("Width or height is negative.");
     }
 
-    this.width = width;
-    this.height = height;
+    return PackedPair.pack(width, height);
+  }
+
+  /**
+   * Returns the width of the given packed dimensions.
+   *
+   * @param packed Packed dimensions
+   * @return Width of packed dimensions
+   */
+  public static double width(long packed) {
+    return PackedPair.first(packed);
+  }
+
+  /**
+   * Returns the height of the given packed dimensions.
+   *
+   * @param packed Packed dimensions
+   * @return Height of packed dimensions
+   */
+  public static double height(long packed) {
+    return PackedPair.second(packed);
+  }
+
+  /**
+   * Linearly interpolates between the given packed dimensions.
+   *
+   * @param start    Packed dimensions at a fraction of 0
+   * @param end      Packed dimensions at a fraction of 1
+   * @param fraction Fraction of the way from the start dimensions to the end dimensions, from 0-1
+   * @return Interpolated packed dimensions
+   */
+  public static long interpolate(long start, long end, double fraction) {
+    return PackedPair.interpolate(start, end, fraction);
+  }
+
+  /**
+   * Returns whether the given packed dimensions are equal within {@link #DELTA}.
+   *
+   * @param packed      Packed dimensions
+   * @param otherPacked Packed dimensions to compare to
+   * @return Whether the packed dimensions are equal within tolerance
+   */
+  public static boolean approximatelyEqual(long packed, long otherPacked) {
+    return PackedPair.approximatelyEqual(packed, otherPacked, DELTA);
+  }
+
+  /**
+   * Returns the packed representation of dimensions.
+   *
+   * @return Packed dimensions
+   */
+  public long toPacked() {
+    return packed;
   }
 
   /**
@@ -37,7 +121,7 @@ public class Dimensions2D {
    * @return Width value of shape
    */
   public double getWidth() {
-    return width;
+    return width(packed);
   }
 
   /**
@@ -46,12 +130,12 @@ public class Dimensions2D {
    * @return Height value of shape
    */
   public double getHeight() {
-    return height;
+    return height(packed);
   }
 
   @Override
   public String toString() {
-    return String.format("%-4d%d", (int) (width + 0.5), (int) (height + 0.5));
+    return String.format("%-4d%d", (int) (getWidth() + 0.5), (int) (getHeight() + 0.5));
   }
 
   @Override
@@ -64,12 +148,11 @@ public class Dimensions2D {
       return false;
     }
 
-    return Math.abs(width - other.width) < DELTA
-        && Math.abs(height - other.height) < DELTA;
+    return approximatelyEqual(packed, other.packed);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(width, height);
+    return Long.hashCode(packed);
   }
 }
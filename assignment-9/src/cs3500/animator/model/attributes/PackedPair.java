@@ -0,0 +1,66 @@
+package cs3500.animator.model.attributes;
+
+/**
+ * Helper methods for packing a pair of fixed-point values into a single {@code long}, with the
+ * first value in the upper 32 bits and the second value in the lower 32 bits. Each value is stored
+ * with {@value #FRACTION_BITS} fractional bits, giving a resolution finer than the comparison
+ * tolerance of {@link Position2D} and {@link Dimensions2D}.
+ */
+final class PackedPair {
+
+  static final int FRACTION_BITS = 10;
+  static final double SCALE = 1 << FRACTION_BITS;
+
+  /**
+   * Largest magnitude representable by either value of a packed pair.
+   */
+  static final double MAX_MAGNITUDE = Integer.MAX_VALUE / SCALE;
+
+  // Static helper class, not to be instantiated
+  private PackedPair() {
+  }
+
+  // Converts the given value to fixed-point, throwing an IllegalArgumentException if it does not
+  // fit in 32 bits
+  private static int toFixed(double value) throws IllegalArgumentException {
+    if (!(Math.abs(value) <= MAX_MAGNITUDE)) {
+      throw new IllegalArgumentException("Value is out of representable range.");
+    }
+
+    return (int) Math.round(value * SCALE);
+  }
+
+  // Packs the given pair of values into a long
+  static long pack(double first, double second) throws IllegalArgumentException {
+    return ((long) toFixed(first) << 32) | (toFixed(second) & 0xFFFFFFFFL);
+  }
+
+  // Returns the first value of the given packed pair
+  static double first(long packed) {
+    return (int) (packed >> 32) / SCALE;
+  }
+
+  // Returns the second value of the given packed pair
+  static double second(long packed) {
+    return (int) packed / SCALE;
+  }
+
+  // Linearly interpolates between the given packed pairs, where a fraction of 0 yields the start
+  // pair and a fraction of 1 yields the end pair
+  static long interpolate(long start, long end, double fraction) {
+    if (start == end) {
+      return start;
+    }
+
+    return pack(
+        (first(end) - first(start)) * fraction + first(start),
+        (second(end) - second(start)) * fraction + second(start)
+    );
+  }
+
+  // Returns whether both values of the given packed pairs are within the given tolerance
+  static boolean approximatelyEqual(long packed, long otherPacked, double delta) {
+    return Math.abs(first(packed) - first(otherPacked)) < delta
+        && Math.abs(second(packed) - second(otherPacked)) < delta;
+  }
+}
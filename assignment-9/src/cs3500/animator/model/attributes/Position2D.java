@@ -1,9 +1,9 @@
 package cs3500.animator.model.attributes;
 
-import java.util.Objects;
-
 /**
- * Represents the Cartesian position of a 2D shape.
+ * Represents the Cartesian position of a 2D shape. The coordinates are stored as fixed-point
+ * values packed into a single {@code long}, and static helpers are provided for working with packed
+ * values directly.
  */
 public class Position2D {
 
@@ -12,18 +12,98 @@ public class Position2D {
    */
   public static final double DELTA = 0.001;
 
-  private final double x;
-  private final double y;
+  private final long packed;  // Packed x and y-coordinates
 
   /**
    * Instantiates a {@code Position2D} object with the given <i>x</i> and <i>y</i>-coordinates.
    *
    * @param x <i>x</i>-coordinate of shape
    * @param y <i>y</i>-coordinate of shape
+   * @throws IllegalArgumentException Coordinate is not a number or is beyond the representable
+   *                                  range of a packed position.
+   */
+  public Position2D(double x, double y) throws IllegalArgumentException {
+    this.packed = pack(x, y);
+  }
+
+  // Instantiates a Position2D object with the given packed position
+  private Position2D(long packed) {
+    this.packed = packed;
+  }
+
+  /**
+   * Returns a {@code Position2D} object with the given packed position.
+   *
+   * @param packed Packed position
+   * @return Position with the given packed coordinates
+   */
+  public static Position2D fromPacked(long packed) {
+    return new Position2D(packed);
+  }
+
+  /**
+   * Packs the given <i>x</i> and <i>y</i>-coordinates into a single {@code long}.
+   *
+   * @param x <i>x</i>-coordinate of shape
+   * @param y <i>y</i>-coordinate of shape
+   * @return Packed position
+   * @throws IllegalArgumentException Coordinate is not a number or is beyond the representable
+   *                                  range of a packed position.
+   */
+  public static long pack(double x, double y) throws IllegalArgumentException {
+    return PackedPair.pack(x, y);
+  }
+
+  /**
+   * Returns the <i>x</i>-coordinate of the given packed position.
+   *
+   * @param packed Packed position
+   * @return <i>x</i>-coordinate of packed position
+   */
+  public static double x(long packed) {
+    return PackedPair.first(packed);
+  }
+
+  /**
+   * Returns the <i>y</i>-coordinate of the given packed position.
+   *
+   * @param packed Packed position
+   * @return <i>y</i>-coordinate of packed position
+   */
+  public static double y(long packed) {
+    return PackedPair.second(packed);
+  }
+
+  /**
+   * Linearly interpolates between the given packed positions.
+   *
+   * @param start    Packed position at a fraction of 0
+   * @param end      Packed position at a fraction of 1
+   * @param fraction Fraction of the way from the start position to the end position, from 0-1
+   * @return Interpolated packed position
+   */
+  public static long interpolate(long start, long end, double fraction) {
+    return PackedPair.interpolate(start, end, fraction);
+  }
+
+  /**
+   * Returns whether the given packed positions are equal within {@link #DELTA}.
+   *
+   * @param packed      Packed position
+   * @param otherPacked Packed position to compare to
+   * @return Whether the packed positions are equal within tolerance
+   */
+  public static boolean approximatelyEqual(long packed, long otherPacked) {
+    return PackedPair.approximatelyEqual(packed, otherPacked, DELTA);
+  }
+
+  /**
+   * Returns the packed representation of position.
+   *
+   * @return Packed position
    */
-  public Position2D(double x, double y) {
-    this.x = x;
-    this.y = y;
+  public long toPacked() {
+    return packed;
   }
 
   /**
@@ -32,7 +112,7 @@ public class Position2D {
    * @return <i>x</i>-coordinate of shape
    */
   public double getX() {
-    return x;
+    return x(packed);
   }
 
   /**
@@ -41,12 +121,12 @@ public class Position2D {
    * @return <i>y</i>-coordinate of shape
    */
   public double getY() {
-    return y;
+    return y(packed);
   }
 
   @Override
   public String toString() {
-    return String.format("%-4d%d", (int) (x + 0.5), (int) (y + 0.5));
+    return String.format("%-4d%d", (int) (getX() + 0.5), (int) (getY() + 0.5));
   }
 
   @Override
@@ -59,12 +139,11 @@ public class Position2D {
       return false;
     }
 
-    return Math.abs(x - other.x) < DELTA
-        && Math.abs(y - other.y) < DELTA;
+    return approximatelyEqual(packed, other.packed);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(x, y);
+    return Long.hashCode(packed);
   }
 }
@@ -4,6 +4,8 @@ import cs3500.animator.model.attributes.Color;
 import cs3500.animator.model.attributes.Dimensions2D;
 import cs3500.animator.model.attributes.Position2D;
 
+import java.io.IOException;
+
 import java.util.Objects;
 
 /**
@@ -28,18 +30,19 @@ public class Motion2D implements Comparable<Motion2D> {
   private final int startTick;
   private final int endTick;
 
-  private final Position2D startPosition;
-  private final Position2D endPosition;
+  // Starting and ending states are held in packed form, so a motion is a single object
+  private final long startPosition;
+  private final long endPosition;
 
-  private final Dimensions2D startDimensions;
-  private final Dimensions2D endDimensions;
+  private final long startDimensions;
+  private final long endDimensions;
 
-  private final Color startColor;
-  private final Color endColor;
+  private final int startColor;
+  private final int endColor;
 
-  // Instantiates a Motion2D object with the given parameters
-  private Motion2D(int startTick, int endTick, Position2D startPosition, Position2D endPosition,
-      Dimensions2D startDimensions, Dimensions2D endDimensions, Color startColor, Color endColor) {
+  // Instantiates a Motion2D object with the given parameters, with states in packed form
+  private Motion2D(int startTick, int endTick, long startPosition, long endPosition,
+      long startDimensions, long endDimensions, int startColor, int endColor) {
     this.startTick = startTick;
     this.endTick = endTick;
 
@@ -54,21 +57,30 @@ public class Motion2D implements Comparable<Motion2D> {
   }
 
   /**
-   * Builder class for constructing a {@code Motion2D} object.
+   * Builder class for constructing a {@code Motion2D} object. States may be given either as
+   * attribute objects or in packed form, so that a caller holding primitive values need not
+   * allocate an attribute object for each of them.
    */
   public static final class Builder {
 
     private Integer startTick;
     private Integer endTick;
 
-    private Position2D startPosition;
-    private Position2D endPosition;
+    // States in packed form, each only meaningful if the matching flag is set
+    private long startPosition;
+    private long endPosition;
+    private boolean hasStartPosition;
+    private boolean hasEndPosition;
 
-    private Dimensions2D startDimensions;
-    private Dimensions2D endDimensions;
+    private long startDimensions;
+    private long endDimensions;
+    private boolean hasStartDimensions;
+    private boolean hasEndDimensions;
 
-    private Color startColor;
-    private Color endColor;
+    private int startColor;
+    private int endColor;
+    private boolean hasStartColor;
+    private boolean hasEndColor;
 
     /**
      * Instantiates a {@code Motion2D} object with parameters given to the builder.
@@ -93,26 +105,26 @@ public class Motion2D implements Comparable<Motion2D> {
         throw new IllegalArgumentException("Start tick is greater than end tick.");
       }
 
-      Objects.requireNonNull(startPosition, "Starting position is null.");
-      if (endPosition == null) {
-        endPosition = startPosition;
+      if (!hasStartPosition) {
+        throw new NullPointerException("Starting position is null.");
       }
+      long endPosition = hasEndPosition ? this.endPosition : startPosition;
 
-      Objects.requireNonNull(startDimensions, "Starting dimensions are null.");
-      if (endDimensions == null) {
-        endDimensions = startDimensions;
+      if (!hasStartDimensions) {
+        throw new NullPointerException("Starting dimensions are null.");
       }
+      long endDimensions = hasEndDimensions ? this.endDimensions : startDimensions;
 
-      Objects.requireNonNull(startColor, "Starting color is null.");
-      if (endColor == null) {
-        endColor = startColor;
+      if (!hasStartColor) {
+        throw new NullPointerException("Starting color is null.");
       }
+      int endColor = hasEndColor ? this.endColor : startColor;
 
       // Ensure starting and ending states of zero tick motion are the same
       if (startTick.equals(endTick)
-          && (!startPosition.equals(endPosition)
-          || !startDimensions.equals(endDimensions)
-          || !startColor.equals(endColor))) {
+          && (!Position2D.approximatelyEqual(startPosition, endPosition)
+          || !Dimensions2D.approximatelyEqual(startDimensions, endDimensions)
+          || startColor != endColor)) {
         throw new IllegalArgumentException("Zero tick motion has mismatched state.");
       }
 
@@ -149,7 +161,21 @@ public class Motion2D implements Comparable<Motion2D> {
      * @return Instance of builder with the given starting position
      */
     public Builder setStartPosition(Position2D startPosition) {
+      hasStartPosition = startPosition != null;
+      this.startPosition = hasStartPosition ? startPosition.toPacked() : 0;
+      return this;
+    }
+
+    /**
+     * Sets the starting position to the given packed value, as made by
+     * {@link Position2D#pack(double, double)}.
+     *
+     * @param startPosition Packed starting position value
+     * @return Instance of builder with the given starting position
+     */
+    public Builder setStartPositionPacked(long startPosition) {
       this.startPosition = startPosition;
+      hasStartPosition = true;
       return this;
     }
 
@@ -160,7 +186,21 @@ public class Motion2D implements Comparable<Motion2D> {
      * @return Instance of builder with the given ending position
      */
     public Builder setEndPosition(Position2D endPosition) {
+      hasEndPosition = endPosition != null;
+      this.endPosition = hasEndPosition ? endPosition.toPacked() : 0;
+      return this;
+    }
+
+    /**
+     * Sets the ending position to the given packed value, as made by
+     * {@link Position2D#pack(double, double)}.
+     *
+     * @param endPosition Packed ending position value
+     * @return Instance of builder with the given ending position
+     */
+    public Builder setEndPositionPacked(long endPosition) {
       this.endPosition = endPosition;
+      hasEndPosition = true;
       return this;
     }
 
@@ -171,7 +211,24 @@ public class Motion2D implements Comparable<Motion2D> {
      * @return Instance of builder with the given starting dimensions
      */
     public Builder setStartDimensions(Dimensions2D startDimensions) {
+      hasStartDimensions = startDimensions != null;
+      this.startDimensions = hasStartDimensions ? startDimensions.toPacked() : 0;
+      return this;
+    }
+
+    /**
+     * Sets the starting dimensions to the given packed value, as made by
+     * {@link Dimensions2D#pack(double, double)}.
+     *
+     * @param startDimensions Packed starting dimensions value
+     * @return Instance of builder with the given starting dimensions
+     * @throws IllegalArgumentException Packed width or height is negative.
+     */
+    public Builder setStartDimensionsPacked(long startDimensions)
+        throws IllegalArgumentException {
+      checkDimensions(startDimensions);
       this.startDimensions = startDimensions;
+      hasStartDimensions = true;
       return this;
     }
 
@@ -182,7 +239,23 @@ public class Motion2D implements Comparable<Motion2D> {
      * @return Instance of builder with the given ending dimensions
      */
     public Builder setEndDimensions(Dimensions2D endDimensions) {
+      hasEndDimensions = endDimensions != null;
+      this.endDimensions = hasEndDimensions ? endDimensions.toPacked() : 0;
+      return this;
+    }
+
+    /**
+     * Sets the ending dimensions to the given packed value, as made by
+     * {@link Dimensions2D#pack(double, double)}.
+     *
+     * @param endDimensions Packed ending dimensions value
+     * @return Instance of builder with the given ending dimensions
+     * @throws IllegalArgumentException Packed width or height is negative.
+     */
+    public Builder setEndDimensionsPacked(long endDimensions) throws IllegalArgumentException {
+      checkDimensions(endDimensions);
       this.endDimensions = endDimensions;
+      hasEndDimensions = true;
       return this;
     }
 
@@ -193,7 +266,23 @@ public class Motion2D implements Comparable<Motion2D> {
      * @return Instance of builder with the given starting color
      */
     public Builder setStartColor(Color startColor) {
+      hasStartColor = startColor != null;
+      this.startColor = hasStartColor ? startColor.toPacked() : 0;
+      return this;
+    }
+
+    /**
+     * Sets the starting color to the given packed RGB value, as made by
+     * {@link Color#pack(int, int, int)}.
+     *
+     * @param startColor Packed starting RGB value, as {@code 0xRRGGBB}
+     * @return Instance of builder with the given starting color
+     * @throws IllegalArgumentException Packed RGB value is invalid.
+     */
+    public Builder setStartColorPacked(int startColor) throws IllegalArgumentException {
+      checkColor(startColor);
       this.startColor = startColor;
+      hasStartColor = true;
       return this;
     }
 
@@ -204,9 +293,40 @@ public class Motion2D implements Comparable<Motion2D> {
      * @return Instance of builder with the given ending color
      */
     public Builder setEndColor(Color endColor) {
+      hasEndColor = endColor != null;
+      this.endColor = hasEndColor ? endColor.toPacked() : 0;
+      return this;
+    }
+
+    /**
+     * Sets the ending color to the given packed RGB value, as made by
+     * {@link Color#pack(int, int, int)}.
+     *
+     * @param endColor Packed ending RGB value, as {@code 0xRRGGBB}
+     * @return Instance of builder with the given ending color
+     * @throws IllegalArgumentException Packed RGB value is invalid.
+     */
+    public Builder setEndColorPacked(int endColor) throws IllegalArgumentException {
+      checkColor(endColor);
       this.endColor = endColor;
+      hasEndColor = true;
       return this;
     }
+
+    // Throws an IllegalArgumentException if the given packed dimensions are negative
+    private static void checkDimensions(long packed) throws IllegalArgumentException {
+      if (Dimensions2D.width(packed) < 0 || Dimensions2D.height(packed) < 0) {
+        throw new IllegalArgumentException("Width or height is negative.");
+      }
+    }
+
+    // Throws an IllegalArgumentException if the given packed RGB value has bits set above the
+    // blue, green, and red components
+    private static void checkColor(int rgb) throws IllegalArgumentException {
+      if ((rgb & ~0xFFFFFF) != 0) {
+        throw new IllegalArgumentException("Packed RGB value is invalid.");
+      }
+    }
   }
 
   /**
@@ -243,9 +363,9 @@ public class Motion2D implements Comparable<Motion2D> {
     }
   }
 
-  // Returns the linear value at a given tick with the specified start and end values
-  private double linearValueAt(int tick, double startValue, double endValue) {
-    return (endValue - startValue) / (endTick - startTick) * (tick - startTick) + startValue;
+  // Returns the fraction of the way through the motion at a given tick
+  private double fractionAt(int tick) {
+    return startTick == endTick ? 0 : (double) (tick - startTick) / (endTick - startTick);
   }
 
   /**
@@ -258,10 +378,8 @@ public class Motion2D implements Comparable<Motion2D> {
   public Position2D getPosition(int tick) throws IllegalArgumentException {
     checkOutOfBounds(tick);
 
-    double x = linearValueAt(tick, startPosition.getX(), endPosition.getX());
-    double y = linearValueAt(tick, startPosition.getY(), endPosition.getY());
-
-    return new Position2D(x, y);
+    return Position2D.fromPacked(
+        Position2D.interpolate(startPosition, endPosition, fractionAt(tick)));
   }
 
   /**
@@ -274,10 +392,8 @@ public class Motion2D implements Comparable<Motion2D> {
   public Dimensions2D getDimensions(int tick) throws IllegalArgumentException {
     checkOutOfBounds(tick);
 
-    double width = linearValueAt(tick, startDimensions.getWidth(), endDimensions.getWidth());
-    double height = linearValueAt(tick, startDimensions.getHeight(), endDimensions.getHeight());
-
-    return new Dimensions2D(width, height);
+    return Dimensions2D.fromPacked(
+        Dimensions2D.interpolate(startDimensions, endDimensions, fractionAt(tick)));
   }
 
   /**
@@ -290,11 +406,7 @@ public class Motion2D implements Comparable<Motion2D> {
   public Color getColor(int tick) throws IllegalArgumentException {
     checkOutOfBounds(tick);
 
-    int red = (int) (linearValueAt(tick, startColor.getRed(), endColor.getRed()) + 0.5);
-    int blue = (int) (linearValueAt(tick, startColor.getBlue(), endColor.getBlue()) + 0.5);
-    int green = (int) (linearValueAt(tick, startColor.getGreen(), endColor.getGreen()) + 0.5);
-
-    return new Color(red, green, blue);
+    return Color.fromPacked(Color.interpolate(startColor, endColor, fractionAt(tick)));
   }
 
   @Override
@@ -302,13 +414,86 @@ public class Motion2D implements Comparable<Motion2D> {
     return startTick - other.startTick;
   }
 
+  // Appends the given text to output, followed by spaces up to the given field width if the text
+  // is shorter, and returns the number of characters appended
+  private static int appendPadded(Appendable output, String text, int width) throws IOException {
+    output.append(text);
+    for (int i = text.length(); i < width; i++) {
+      output.append(' ');
+    }
+
+    return Math.max(text.length(), width);
+  }
+
+  // Appends spaces to output to pad a field of the given written length up to the given width,
+  // always appending at least one space so that overflowing fields stay separated
+  private static void appendSeparator(Appendable output, int written, int width)
+      throws IOException {
+    appendPadded(output, " ", width - written);
+  }
+
+  // Appends the given pair of rounded values to output as they appear in a text description
+  private static int appendPair(Appendable output, double first, double second)
+      throws IOException {
+    String firstText = Integer.toString((int) (first + 0.5));
+    String secondText = Integer.toString((int) (second + 0.5));
+
+    output.append(firstText);
+    appendSeparator(output, firstText.length(), 4);
+    output.append(secondText);
+
+    return Math.max(firstText.length() + 1, 4) + secondText.length();
+  }
+
+  // Appends the given packed color to output as it appears in a text description
+  private static int appendColor(Appendable output, int rgb) throws IOException {
+    return appendPadded(output, Integer.toString(Color.red(rgb)), 4)
+        + appendPadded(output, Integer.toString(Color.green(rgb)), 4)
+        + appendPadded(output, Integer.toString(Color.blue(rgb)), 0);
+  }
+
+  // Appends the given state to output as it appears in a text description, padding the color
+  // field to the given width
+  private static void appendState(Appendable output, int tick, long position, long dimensions,
+      int rgb, int colorWidth) throws IOException {
+    appendPadded(output, Integer.toString(tick), 3);
+    output.append(' ');
+
+    int written = appendPair(output, Position2D.x(position), Position2D.y(position));
+    appendSeparator(output, written, 8);
+
+    written = appendPair(output, Dimensions2D.width(dimensions), Dimensions2D.height(dimensions));
+    appendSeparator(output, written, 8);
+
+    written = appendColor(output, rgb);
+    appendPadded(output, "", colorWidth - written);
+  }
+
+  /**
+   * Appends the text description of motion to the given output, identical to {@link #toString()},
+   * without building the description in memory first.
+   *
+   * @param output Appendable to send output to
+   * @throws NullPointerException Output appendable is null.
+   * @throws IOException          Output appendable fails.
+   */
+  public void appendTo(Appendable output) throws NullPointerException, IOException {
+    Objects.requireNonNull(output, "Output appendable is null.");
+
+    appendState(output, startTick, startPosition, startDimensions, startColor, 12);
+    output.append("  ");
+    appendState(output, endTick, endPosition, endDimensions, endColor, 0);
+  }
+
   @Override
   public String toString() {
-    return String.format(
-        "%-3d %-8s%-8s%-12s  %-3d %-8s%-8s%s",
-        startTick, startPosition.toString(), startDimensions.toString(), startColor.toString(),
-        endTick, endPosition.toString(), endDimensions.toString(), endColor.toString()
-    );
+    StringBuilder textRep = new StringBuilder();
+    try {
+      appendTo(textRep);
+    } catch (IOException ignored) {
+    }
+
+    return textRep.toString();
   }
 
   @Override
@@ -323,12 +508,12 @@ public class Motion2D implements Comparable<Motion2D> {
 
     return startTick == other.startTick
         && endTick == other.endTick
-        && startPosition.equals(other.startPosition)
-        && endPosition.equals(other.endPosition)
-        && startDimensions.equals(other.startDimensions)
-        && endDimensions.equals(other.endDimensions)
-        && startColor.equals(other.startColor)
-        && endColor.equals(other.endColor);
+        && Position2D.approximatelyEqual(startPosition, other.startPosition)
+        && Position2D.approximatelyEqual(endPosition, other.endPosition)
+        && Dimensions2D.approximatelyEqual(startDimensions, other.startDimensions)
+        && Dimensions2D.approximatelyEqual(endDimensions, other.endDimensions)
+        && startColor == other.startColor
+        && endColor == other.endColor;
   }
 
   @Override
@@ -6,6 +6,11 @@ import cs3500.animator.model.attributes.Position2D;
 
 import cs3500.animator.model.motions.Motion2D;
 
+import cs3500.animator.util.AnimatorEvents;
+import cs3500.animator.util.AnimatorEvents.IntegrityCheckEvent;
+
+import java.io.IOException;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -14,11 +19,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.function.IntFunction;
+
 /**
  * Represents a general animated 2D shape as defined by {@link AnimatedShape2D}.
  */
 public abstract class AbstractAnimatedShape2D implements AnimatedShape2D {
 
+  // Source of modification versions, shared across all shapes so that no two states collide
+  private static final AtomicLong versionCounter = new AtomicLong();
+
   protected final String name;
   protected Map<Integer, Motion2D> motions;  // Map to associate ticks with motions
 
@@ -27,6 +39,7 @@ public abstract class AbstractAnimatedShape2D implements AnimatedShape2D {
   private int endTick;
 
   protected boolean integrityUnverified = true;  // Only run integrity check if state has changed
+  private long version;  // Modification version of shape, renewed whenever motions change
 
   /**
    * Instantiates an {@code AbstractAnimatedShape2D} object with the given name and tick-motion
@@ -43,6 +56,7 @@ public abstract class AbstractAnimatedShape2D implements AnimatedShape2D {
 
     this.name = name;
     this.motions = new HashMap<>(motions);
+    this.version = versionCounter.incrementAndGet();
   }
 
   /**
@@ -58,7 +72,14 @@ public abstract class AbstractAnimatedShape2D implements AnimatedShape2D {
   @Override
   public void addMotion(Motion2D motion)
       throws NullPointerException, IllegalArgumentException {
+    addMotion(motion, Integer::valueOf);
+  }
+
+  @Override
+  public void addMotion(Motion2D motion, IntFunction<Integer> tickKeys)
+      throws NullPointerException, IllegalArgumentException {
     Objects.requireNonNull(motion, "Motion is null.");
+    Objects.requireNonNull(tickKeys, "Tick key function is null.");
 
     // Ensure that given motion does not overlap with any pre-existing motion
     for (int i = motion.getStartTick() + 1; i < motion.getEndTick(); i++) {
@@ -69,10 +90,11 @@ public abstract class AbstractAnimatedShape2D implements AnimatedShape2D {
 
     // Associate tick values with given motion
     for (int i = motion.getStartTick(); i < motion.getEndTick(); i++) {
-      motions.put(i, motion);
+      motions.put(tickKeys.apply(i), motion);
     }
-    motions.putIfAbsent(motion.getEndTick(), motion);
+    motions.putIfAbsent(tickKeys.apply(motion.getEndTick()), motion);
     integrityUnverified = true;
+    version = versionCounter.incrementAndGet();
   }
 
   @Override
@@ -91,10 +113,27 @@ public abstract class AbstractAnimatedShape2D implements AnimatedShape2D {
     }
     motions.remove(motion.getEndTick(), motion);
     integrityUnverified = true;
+    version = versionCounter.incrementAndGet();
   }
 
   // Ensures that motions are consistent (motions exist, no gaps, no implicit teleportation)
   protected void checkMotionIntegrity() throws IllegalStateException {
+    IntegrityCheckEvent event = AnimatorEvents.begin(IntegrityCheckEvent::new);
+    try {
+      verifyMotions();
+    } finally {
+      if (event != null) {
+        event.shape = name;
+        event.motions = motionsArray.length;
+        event.passed = !integrityUnverified;
+        event.commit();
+      }
+    }
+  }
+
+  // Sorts the motions into the motions array and verifies them, as described by
+  // checkMotionIntegrity
+  private void verifyMotions() throws IllegalStateException {
     // Get map values, convert to set to remove duplicates, and convert to array to be sorted
     motionsArray = new HashSet<>(motions.values()).toArray(new Motion2D[0]);
     Arrays.sort(motionsArray);
@@ -143,6 +182,11 @@ public abstract class AbstractAnimatedShape2D implements AnimatedShape2D {
     return name;
   }
 
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
   @Override
   public Position2D getPosition(int tick) throws IllegalStateException, IllegalArgumentException {
     if (integrityUnverified) {
@@ -247,12 +291,26 @@ public abstract class AbstractAnimatedShape2D implements AnimatedShape2D {
     return clone;
   }
 
+  // Returns the name of this shape's type as used in text descriptions
+  protected abstract String getTypeName();
+
   @Override
-  public String toString() {
-    StringBuilder textRep = new StringBuilder();
+  public void appendTo(Appendable output) throws NullPointerException, IOException {
+    Objects.requireNonNull(output, "Output appendable is null.");
 
+    output.append("shape ").append(name).append(' ').append(getTypeName());
     for (Motion2D motion : getMotions()) {
-      textRep.append('\n').append(String.format("motion %s ", name)).append(motion);
+      output.append("\nmotion ").append(name).append(' ');
+      motion.appendTo(output);
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder textRep = new StringBuilder();
+    try {
+      appendTo(textRep);
+    } catch (IOException ignored) {
     }
 
     return textRep.toString();
@@ -185,8 +185,8 @@ public class AnimatedCross extends AbstractAnimatedShape2D {
   }
 
   @Override
-  public String toString() {
-    return "shape " + name + " cross" + super.toString();
+  protected String getTypeName() {
+    return "cross";
   }
 
   /**
@@ -50,7 +50,7 @@ public class AnimatedEllipse extends AbstractAnimatedShape2D {
   }
 
   @Override
-  public String toString() {
-    return "shape " + name + " ellipse" + super.toString();
+  protected String getTypeName() {
+    return "ellipse";
   }
 }
@@ -50,7 +50,7 @@ public class AnimatedRectangle extends AbstractAnimatedShape2D {
   }
 
   @Override
-  public String toString() {
-    return "shape " + name + " rectangle" + super.toString();
+  protected String getTypeName() {
+    return "rectangle";
   }
 }
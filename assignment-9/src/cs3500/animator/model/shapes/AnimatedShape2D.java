@@ -6,8 +6,12 @@ import cs3500.animator.model.attributes.Position2D;
 
 import cs3500.animator.model.motions.Motion2D;
 
+import java.io.IOException;
+
 import java.util.List;
 
+import java.util.function.IntFunction;
+
 /**
  * <p>
  * Represents an animated 2D shape. A shape has a name and a set of motions, or state transitions. A
@@ -35,6 +39,19 @@ public interface AnimatedShape2D
    */
   void addMotion(Motion2D motion) throws NullPointerException, IllegalArgumentException;
 
+  /**
+   * Adds the given motion to shape, keying each tick it covers with the boxed tick returned by the
+   * given function. A loader adding many motions can return a shared boxed tick for each tick, so
+   * that a tick covered by many shapes is boxed once rather than once per shape.
+   *
+   * @param motion   Motion to be added to shape
+   * @param tickKeys Function returning the boxed key of a tick, equal in value to the tick
+   * @throws NullPointerException     Motion or tick key function is null.
+   * @throws IllegalArgumentException Motion overlaps with existing motion.
+   */
+  void addMotion(Motion2D motion, IntFunction<Integer> tickKeys)
+      throws NullPointerException, IllegalArgumentException;
+
   /**
    * Removes the given motion from shape.
    *
@@ -51,6 +68,14 @@ public interface AnimatedShape2D
    */
   String getName();
 
+  /**
+   * Returns the modification version of shape. The version changes whenever a motion is added to
+   * or removed from shape, and is shared by any clone made since the last modification.
+   *
+   * @return Modification version of shape
+   */
+  long getVersion();
+
   /**
    * Returns a sorted list of motions associated with shape.
    *
@@ -109,6 +134,18 @@ public interface AnimatedShape2D
    */
   int getEndTick() throws IllegalStateException;
 
+  /**
+   * Appends the text description of shape, consisting of its declaration followed by each of its
+   * motions on a separate line, to the given output without building the description in memory
+   * first.
+   *
+   * @param output Appendable to send output to
+   * @throws NullPointerException  Output appendable is null.
+   * @throws IllegalStateException Motion set contains gaps or causes implicit teleportation.
+   * @throws IOException           Output appendable fails.
+   */
+  void appendTo(Appendable output) throws NullPointerException, IllegalStateException, IOException;
+
   /**
    * Returns an independent clone of shape.
    *
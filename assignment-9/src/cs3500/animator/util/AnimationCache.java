@@ -0,0 +1,395 @@
+package cs3500.animator.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A directory of parsed animations, keyed by a hash of the animation description and the parser
+ * version, so that rendering the same description again skips {@link AnimationReader}. Each entry
+ * is a compact binary recording of the calls the parser made to its {@link AnimationBuilder},
+ * which is memory-mapped and replayed into the builder on a hit. Once the entries grow past the
+ * directory's size bound, the least recently used ones are deleted. The cache is best-effort: an
+ * entry which cannot be read or written is treated as a miss.
+ */
+public class AnimationCache {
+
+  /**
+   * Version of the parser and recording format, which is part of every key so that entries written
+   * by an older parser are never replayed. Must be incremented whenever either changes.
+   */
+  public static final int PARSER_VERSION = 1;
+
+  // Header of every entry, followed by the parser version
+  private static final int MAGIC = 0x45414D43;
+
+  // Extension of entry files
+  private static final String EXTENSION = ".model";
+
+  // Tags of recorded builder calls
+  private static final byte BOUNDS = 1;
+  private static final byte SHAPE = 2;
+  private static final byte MOTION = 3;
+  private static final byte TEMPO = 4;
+  private static final byte END = 0;
+
+  private final File directory;
+  private final long maxBytes;
+
+  /**
+   * Instantiates an {@code AnimationCache} object storing entries in the given directory, which is
+   * created if needed, bounded to the given total size.
+   *
+   * @param directory Directory to store entries in
+   * @param maxBytes  Maximum total size of entries in bytes
+   * @throws NullPointerException     Directory is null.
+   * @throws IllegalArgumentException Maximum size is non-positive.
+   */
+  public AnimationCache(File directory, long maxBytes)
+      throws NullPointerException, IllegalArgumentException {
+    this.directory = Objects.requireNonNull(directory, "Directory is null.");
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("Maximum size is non-positive.");
+    }
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Builds the animation described by the given readable using the given builder, replaying the
+   * cached entry for the description if there is one, and otherwise parsing it as described by
+   * {@link AnimationReader#parseFile(Readable, AnimationBuilder, int)} and caching the result.
+   *
+   * @param readable   The source of data for the animation
+   * @param builder    A builder for helping to construct a new animation
+   * @param numThreads Number of threads to tokenize input with on a miss
+   * @param <Doc>      The main model interface type describing animations
+   * @return The constructed animation
+   * @throws NullPointerException     Readable or builder is null.
+   * @throws IllegalArgumentException Number of threads is non-positive.
+   * @throws IllegalStateException    Input is malformed or the readable fails.
+   */
+  public <Doc> Doc parseFile(Readable readable, AnimationBuilder<Doc> builder, int numThreads)
+      throws NullPointerException, IllegalArgumentException, IllegalStateException {
+    Objects.requireNonNull(readable, "Must have non-null readable source");
+    Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
+    if (numThreads <= 0) {
+      throw new IllegalArgumentException("Number of threads is non-positive.");
+    }
+
+    String text = AnimationReader.readAll(readable);
+    File entry = new File(directory, getKey(text) + EXTENSION);
+
+    // Replay the entry, if there is a valid one
+    ByteBuffer recording = map(entry);
+    if (recording != null) {
+      if (replay(recording.duplicate(), null)) {
+        replay(recording, builder);
+        entry.setLastModified(System.currentTimeMillis());
+        return builder.build();
+      }
+      entry.delete();
+    }
+
+    // Parse the input, recording the builder calls it makes
+    RecordingBuilder<Doc> recorder = new RecordingBuilder<>(builder);
+    Doc document = AnimationReader.parseFile(new StringReader(text), recorder, numThreads);
+    byte[] bytes = recorder.finish();
+    if (bytes != null) {
+      store(entry, bytes);
+    }
+
+    return document;
+  }
+
+  /**
+   * Returns the key of the given animation description, which is the hexadecimal SHA-256 hash of
+   * the parser version and description.
+   *
+   * @param text Animation description
+   * @return Key of description
+   */
+  static String getKey(String text) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+
+    digest.update(ByteBuffer.allocate(4).putInt(PARSER_VERSION).array());
+    StringBuilder hex = new StringBuilder();
+    for (byte b : digest.digest(text.getBytes(StandardCharsets.UTF_8))) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+
+  // Memory-maps the given entry, returning null if it does not exist or cannot be mapped
+  private static ByteBuffer map(File entry) {
+    if (!entry.isFile()) {
+      return null;
+    }
+
+    try (FileChannel channel = FileChannel.open(entry.toPath(), StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  // Replays the recorded builder calls in the given buffer into the given builder, or only checks
+  // that they are well-formed if the builder is null, returning whether they are
+  private static boolean replay(ByteBuffer recording, AnimationBuilder<?> builder) {
+    try {
+      if (recording.getInt() != MAGIC || recording.getInt() != PARSER_VERSION) {
+        return false;
+      }
+
+      List<String> names = new ArrayList<>();
+      int[] values = new int[16];
+      while (true) {
+        byte tag = recording.get();
+        switch (tag) {
+          case BOUNDS:
+            readInts(recording, values, 4);
+            if (builder != null) {
+              builder.setBounds(values[0], values[1], values[2], values[3]);
+            }
+            break;
+          case SHAPE:
+            String name = readString(recording);
+            String type = readString(recording);
+            names.add(name);
+            if (builder != null) {
+              builder.declareShape(name, type);
+            }
+            break;
+          case MOTION:
+            int shape = recording.getInt();
+            readInts(recording, values, 16);
+            if (shape < 0 || shape >= names.size()) {
+              return false;
+            }
+            if (builder != null) {
+              builder.addMotion(names.get(shape), values[0], values[1], values[2], values[3],
+                  values[4], values[5], values[6], values[7], values[8], values[9], values[10],
+                  values[11], values[12], values[13], values[14], values[15]);
+            }
+            break;
+          case TEMPO:
+            readInts(recording, values, 2);
+            double speedFactor = recording.getDouble();
+            if (builder != null) {
+              builder.setTempo(values[0], values[1], speedFactor);
+            }
+            break;
+          case END:
+            return !recording.hasRemaining();
+          default:
+            return false;
+        }
+      }
+    } catch (BufferUnderflowException e) {
+      return false;
+    }
+  }
+
+  // Reads the given number of ints from the given buffer into the given array
+  private static void readInts(ByteBuffer recording, int[] values, int count) {
+    for (int i = 0; i < count; i++) {
+      values[i] = recording.getInt();
+    }
+  }
+
+  // Reads a string written as its length in bytes followed by its UTF-8 encoding from the given
+  // buffer
+  private static String readString(ByteBuffer recording) {
+    byte[] bytes = new byte[recording.getShort() & 0xFFFF];
+    recording.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  // Writes the given recording to the given entry, replacing it atomically, then evicts the least
+  // recently used entries until the directory is within its size bound
+  private void store(File entry, byte[] bytes) {
+    Path temporary = null;
+    try {
+      Files.createDirectories(directory.toPath());
+      temporary = Files.createTempFile(directory.toPath(), "entry", ".tmp");
+      try (OutputStream out = Files.newOutputStream(temporary)) {
+        out.write(bytes);
+      }
+      Files.move(temporary, entry.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      temporary = null;
+    } catch (IOException e) {
+      return;
+    } finally {
+      if (temporary != null) {
+        temporary.toFile().delete();
+      }
+    }
+
+    evict();
+  }
+
+  // Deletes the least recently used entries until the directory is within its size bound
+  private void evict() {
+    File[] entries = directory.listFiles((dir, name) -> name.endsWith(EXTENSION));
+    if (entries == null) {
+      return;
+    }
+
+    // Snapshot each entry's time and size, since other processes may be touching them
+    Map<File, Long> lastUsed = new HashMap<>();
+    long total = 0;
+    for (File entry : entries) {
+      lastUsed.put(entry, entry.lastModified());
+      total += entry.length();
+    }
+    Arrays.sort(entries, Comparator.comparing(lastUsed::get));
+
+    for (int i = 0; i < entries.length && total > maxBytes; i++) {
+      long length = entries[i].length();
+      if (entries[i].delete()) {
+        total -= length;
+      }
+    }
+  }
+
+  // Builder which forwards every call to another builder, recording the calls which succeed
+  private static final class RecordingBuilder<Doc> implements AnimationBuilder<Doc> {
+
+    private final AnimationBuilder<Doc> delegate;
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    private final Map<String, Integer> shapes = new HashMap<>();  // Index of each shape's name
+    private boolean failed;  // Could a call not be recorded
+
+    private RecordingBuilder(AnimationBuilder<Doc> delegate) {
+      this.delegate = delegate;
+      try {
+        out.writeInt(MAGIC);
+        out.writeInt(PARSER_VERSION);
+      } catch (IOException e) {
+        failed = true;
+      }
+    }
+
+    // Returns the recording, or null if a call could not be recorded
+    private byte[] finish() {
+      try {
+        out.writeByte(END);
+      } catch (IOException e) {
+        failed = true;
+      }
+      return failed ? null : bytes.toByteArray();
+    }
+
+    // Writes the given string as its length in bytes followed by its UTF-8 encoding
+    private void writeString(String string) throws IOException {
+      byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+      if (encoded.length > 0xFFFF) {
+        throw new IOException("String is too long to record.");
+      }
+      out.writeShort(encoded.length);
+      out.write(encoded);
+    }
+
+    @Override
+    public Doc build() {
+      return delegate.build();
+    }
+
+    @Override
+    public AnimationBuilder<Doc> setBounds(int x, int y, int width, int height) {
+      delegate.setBounds(x, y, width, height);
+      try {
+        out.writeByte(BOUNDS);
+        out.writeInt(x);
+        out.writeInt(y);
+        out.writeInt(width);
+        out.writeInt(height);
+      } catch (IOException e) {
+        failed = true;
+      }
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<Doc> declareShape(String name, String type) {
+      delegate.declareShape(name, type);
+      try {
+        out.writeByte(SHAPE);
+        writeString(name);
+        writeString(type);
+        shapes.putIfAbsent(name, shapes.size());
+      } catch (IOException e) {
+        failed = true;
+      }
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<Doc> addMotion(String name,
+        int t1, int x1, int y1, int w1, int h1, int r1, int g1, int b1,
+        int t2, int x2, int y2, int w2, int h2, int r2, int g2, int b2) {
+      delegate.addMotion(name, t1, x1, y1, w1, h1, r1, g1, b1, t2, x2, y2, w2, h2, r2, g2, b2);
+      Integer shape = shapes.get(name);
+      if (shape == null) {
+        failed = true;
+        return this;
+      }
+
+      try {
+        out.writeByte(MOTION);
+        out.writeInt(shape);
+        for (int value : new int[]{t1, x1, y1, w1, h1, r1, g1, b1,
+            t2, x2, y2, w2, h2, r2, g2, b2}) {
+          out.writeInt(value);
+        }
+      } catch (IOException e) {
+        failed = true;
+      }
+      return this;
+    }
+
+    @Override
+    public AnimationBuilder<Doc> setTempo(int startTick, int endTick, double speedFactor) {
+      delegate.setTempo(startTick, endTick, speedFactor);
+      try {
+        out.writeByte(TEMPO);
+        out.writeInt(startTick);
+        out.writeInt(endTick);
+        out.writeDouble(speedFactor);
+      } catch (IOException e) {
+        failed = true;
+      }
+      return this;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package cs3500.animator.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Objects;
+
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A helper to open animation input and output files, transparently decompressing and compressing
+ * files with a .gz or .zz extension using gzip or zlib deflate, respectively. Extensions are
+ * matched regardless of case.
+ */
+public class AnimationFiles {
+
+  /**
+   * Returns whether the given path ends with the given extension, ignoring case.
+   *
+   * @param path      Path or file name to check
+   * @param extension Extension to look for, including its leading dot
+   * @return True if path ends with extension, ignoring case, otherwise false
+   * @throws NullPointerException Path or extension is null.
+   */
+  public static boolean hasExtension(String path, String extension)
+      throws NullPointerException {
+    Objects.requireNonNull(path, "Path is null.");
+    Objects.requireNonNull(extension, "Extension is null.");
+    return path.regionMatches(true, path.length() - extension.length(), extension, 0,
+        extension.length());
+  }
+
+  /**
+   * Opens the file at the given path for reading, decompressing it as it is read if it has a .gz
+   * or .zz extension.
+   *
+   * @param path Path of file to be read
+   * @return Buffered reader of the file's decompressed contents
+   * @throws NullPointerException Path is null.
+   * @throws IOException          File could not be opened.
+   */
+  public static BufferedReader openInput(String path) throws NullPointerException, IOException {
+    InputStream stream = new FileInputStream(Objects.requireNonNull(path, "Path is null."));
+    try {
+      if (hasExtension(path, ".gz")) {
+        stream = new GZIPInputStream(stream);
+      } else if (hasExtension(path, ".zz")) {
+        stream = new InflaterInputStream(stream);
+      }
+    } catch (IOException e) {
+      stream.close();
+      throw e;
+    }
+
+    return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Opens the file at the given path for writing, compressing it as it is written if it has a .gz
+   * or .zz extension.
+   *
+   * @param path Path of file to be written
+   * @return Buffered writer to the file, which must be closed to finish compression
+   * @throws NullPointerException Path is null.
+   * @throws IOException          File could not be opened.
+   */
+  public static BufferedWriter openOutput(String path) throws NullPointerException, IOException {
+    OutputStream stream = new FileOutputStream(Objects.requireNonNull(path, "Path is null."));
+    try {
+      if (hasExtension(path, ".gz")) {
+        stream = new GZIPOutputStream(stream);
+      } else if (hasExtension(path, ".zz")) {
+        stream = new DeflaterOutputStream(stream);
+      }
+    } catch (IOException e) {
+      stream.close();
+      throw e;
+    }
+
+    return new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+  }
+}
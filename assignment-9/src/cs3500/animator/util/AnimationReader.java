@@ -1,8 +1,22 @@
 package cs3500.animator.util;
 
+import cs3500.animator.util.AnimatorEvents.ParseEvent;
+
+import java.io.IOException;
+
+import java.nio.CharBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Scanner;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import java.util.regex.Pattern;
 
 /**
@@ -10,6 +24,19 @@ import java.util.regex.Pattern;
  */
 public class AnimationReader {
 
+  private static final String[] KEYWORDS = {"canvas", "shape", "motion", "tempo"};
+
+  private static final String[] MOTION_FIELDS = new String[]{
+      "initial time",
+      "initial x-coordinate", "initial y-coordinate",
+      "initial width", "initial height",
+      "initial red value", "initial green value", "initial blue value",
+      "final time",
+      "final x-coordinate", "final y-coordinate",
+      "final width", "final height",
+      "final red value", "final green value", "final blue value",
+  };
+
   /**
    * A factory for producing new animations, given a source of shapes and a builder for constructing
    * animations.
@@ -36,6 +63,7 @@ public class AnimationReader {
   public static <Doc> Doc parseFile(Readable readable, AnimationBuilder<Doc> builder) {
     Objects.requireNonNull(readable, "Must have non-null readable source");
     Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
+    ParseEvent event = AnimatorEvents.begin(ParseEvent::new);
     Scanner s = new Scanner(readable);
     // Split at whitespace, and ignore # comment lines
     s.useDelimiter(Pattern.compile("(\\p{Space}+|#.*)+"));
@@ -57,8 +85,318 @@ public class AnimationReader {
         default:
           throw new IllegalStateException("Unexpected keyword: " + word + s.nextLine());
       }
+      if (event != null) {
+        event.countKeyword(word);
+      }
+    }
+
+    Doc animation = builder.build();
+    if (event != null) {
+      event.threads = 1;
+      event.commit();
+    }
+    return animation;
+  }
+
+  /**
+   * Number of lines tokenized by a single task when parsing in parallel.
+   */
+  public static final int LINES_PER_CHUNK = 4096;
+
+  /**
+   * Parses animation data in the same format as {@link #parseFile(Readable, AnimationBuilder)}
+   * using multiple threads. The input is split into chunks of roughly {@link #LINES_PER_CHUNK}
+   * lines, each ending just before a line that begins with a keyword, which are tokenized
+   * concurrently on the given number of threads. The resulting declarations are then replayed into
+   * the builder in their original order. Tokenizing errors report the line number of the
+   * declaration at which they occurred, and are only thrown once all preceding declarations have
+   * been replayed. Using a single thread is equivalent to {@link #parseFile(Readable,
+   * AnimationBuilder)}.
+   *
+   * @param readable   The source of data for the animation
+   * @param builder    A builder for helping to construct a new animation
+   * @param numThreads Number of threads to tokenize input with
+   * @param <Doc>      The main model interface type describing animations
+   * @return The constructed animation
+   * @throws IllegalArgumentException Number of threads is non-positive.
+   * @throws IllegalStateException    Input is malformed or the readable fails.
+   */
+  public static <Doc> Doc parseFile(Readable readable, AnimationBuilder<Doc> builder,
+      int numThreads) throws IllegalArgumentException, IllegalStateException {
+    Objects.requireNonNull(readable, "Must have non-null readable source");
+    Objects.requireNonNull(builder, "Must provide a non-null AnimationBuilder");
+    if (numThreads <= 0) {
+      throw new IllegalArgumentException("Number of threads is non-positive.");
+    }
+    if (numThreads == 1) {
+      return parseFile(readable, builder);
+    }
+
+    ParseEvent event = AnimatorEvents.begin(ParseEvent::new);
+    String text = readAll(readable);
+
+    // Split input at line boundaries into chunks to be tokenized concurrently
+    List<Callable<List<Declaration>>> tasks = new ArrayList<>();
+    int chunkStart = 0;
+    int lineNumber = 1;
+    while (chunkStart < text.length()) {
+      // Take at least the chunk size in lines, then extend up to the next line that begins with a
+      // keyword, so that no declaration is split between chunks
+      int chunkEnd = chunkStart;
+      int numLines = 0;
+      while (chunkEnd < text.length()
+          && (numLines < LINES_PER_CHUNK || !startsWithKeyword(text, chunkEnd))) {
+        int lineEnd = text.indexOf('\n', chunkEnd);
+        chunkEnd = lineEnd == -1 ? text.length() : lineEnd + 1;
+        numLines++;
+      }
+
+      final int start = chunkStart;
+      final int end = chunkEnd;
+      final int firstLine = lineNumber;
+      tasks.add(() -> tokenizeChunk(text, start, end, firstLine));
+
+      chunkStart = chunkEnd;
+      lineNumber += numLines;
+    }
+
+    // Tokenize chunks and replay their declarations into the builder in order
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      List<Future<List<Declaration>>> chunks = new ArrayList<>();
+      for (Callable<List<Declaration>> task : tasks) {
+        chunks.add(executor.submit(task));
+      }
+
+      for (Future<List<Declaration>> chunk : chunks) {
+        for (Declaration declaration : chunk.get()) {
+          declaration.replay(builder);
+          if (event != null) {
+            event.countKeyword(declaration.keyword);
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Parsing was interrupted.");
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Tokenizing failed: " + e.getCause().getMessage());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Doc animation = builder.build();
+    if (event != null) {
+      event.threads = numThreads;
+      event.commit();
+    }
+    return animation;
+  }
+
+  // Reads the entire contents of the given readable into a string
+  static String readAll(Readable readable) throws IllegalStateException {
+    StringBuilder text = new StringBuilder();
+    CharBuffer buffer = CharBuffer.allocate(1 << 16);
+    try {
+      while (readable.read(buffer) != -1) {
+        buffer.flip();
+        text.append(buffer);
+        buffer.clear();
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Readable failed: " + e.getMessage());
+    }
+
+    return text.toString();
+  }
+
+  /**
+   * A single declaration tokenized from one line of input, to be replayed into a builder.
+   */
+  private static final class Declaration {
+
+    private final String keyword;
+    private final String[] names;
+    private final int[] values;
+    private final double speedFactor;
+    private final IllegalStateException error;
+
+    // Instantiates a Declaration object with the given keyword and arguments
+    private Declaration(String keyword, String[] names, int[] values, double speedFactor) {
+      this.keyword = keyword;
+      this.names = names;
+      this.values = values;
+      this.speedFactor = speedFactor;
+      this.error = null;
+    }
+
+    // Instantiates a Declaration object which throws the given error when replayed
+    private Declaration(IllegalStateException error) {
+      this.keyword = null;
+      this.names = null;
+      this.values = null;
+      this.speedFactor = 0;
+      this.error = error;
+    }
+
+    // Applies this declaration to the given builder
+    private <Doc> void replay(AnimationBuilder<Doc> builder) throws IllegalStateException {
+      if (error != null) {
+        throw error;
+      }
+
+      switch (keyword) {
+        case "canvas":
+          builder.setBounds(values[0], values[1], values[2], values[3]);
+          break;
+        case "shape":
+          builder.declareShape(names[0], names[1]);
+          break;
+        case "motion":
+          builder.addMotion(names[0],
+              values[0], values[1], values[2], values[3], values[4], values[5], values[6],
+              values[7], values[8], values[9], values[10], values[11], values[12], values[13],
+              values[14], values[15]);
+          break;
+        default:
+          builder.setTempo(values[0], values[1], speedFactor);
+      }
+    }
+  }
+
+  // Returns whether the line starting at the given index of the given text begins with a keyword
+  private static boolean startsWithKeyword(String text, int lineStart) {
+    int index = lineStart;
+    while (index < text.length() && (text.charAt(index) == ' ' || text.charAt(index) == '\t')) {
+      index++;
+    }
+
+    for (String keyword : KEYWORDS) {
+      if (text.startsWith(keyword, index)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // Tokenizes the lines of the given text between the given indices into declarations. Any
+  // malformed declaration ends the chunk with a declaration that throws the corresponding error.
+  private static List<Declaration> tokenizeChunk(String text, int start, int end, int firstLine) {
+    // Split each line at whitespace, ignoring comments, and record the line of every token
+    List<String> tokens = new ArrayList<>();
+    List<Integer> lineNumbers = new ArrayList<>();
+    int lineNumber = firstLine;
+    int lineStart = start;
+    while (lineStart < end) {
+      int lineEnd = text.indexOf('\n', lineStart);
+      if (lineEnd == -1 || lineEnd > end) {
+        lineEnd = end;
+      }
+
+      String line = text.substring(lineStart, lineEnd);
+      int commentStart = line.indexOf('#');
+      if (commentStart != -1) {
+        line = line.substring(0, commentStart);
+      }
+      for (String token : line.trim().split("\\s+")) {
+        if (!token.isEmpty()) {
+          tokens.add(token);
+          lineNumbers.add(lineNumber);
+        }
+      }
+
+      lineStart = lineEnd + 1;
+      lineNumber++;
+    }
+
+    List<Declaration> declarations = new ArrayList<>();
+    int index = 0;
+    while (index < tokens.size()) {
+      try {
+        index = tokenizeDeclaration(tokens, index, declarations);
+      } catch (IllegalStateException e) {
+        declarations.add(new Declaration(
+            new IllegalStateException("Line " + lineNumbers.get(index) + ": " + e.getMessage())));
+        break;
+      }
+    }
+
+    return declarations;
+  }
+
+  // Tokenizes a single declaration starting at the given index of the given tokens, adds it to the
+  // given list, and returns the index following the declaration
+  private static int tokenizeDeclaration(List<String> tokens, int index,
+      List<Declaration> declarations) throws IllegalStateException {
+    String keyword = tokens.get(index++);
+    int[] values;
+
+    switch (keyword) {
+      case "canvas":
+        String[] canvasFields = {"left", "top", "width", "height"};
+        values = new int[4];
+        for (int i = 0; i < values.length; i++) {
+          values[i] = getInt(tokens, index++, "Canvas", canvasFields[i]);
+        }
+        declarations.add(new Declaration(keyword, null, values, 0));
+        return index;
+      case "shape":
+        if (index + 1 >= tokens.size()) {
+          throw new IllegalStateException(
+              "Shape: Expected a name and type, but no more input available");
+        }
+        declarations.add(new Declaration(keyword,
+            new String[]{tokens.get(index), tokens.get(index + 1)}, null, 0));
+        return index + 2;
+      case "motion":
+        if (index >= tokens.size()) {
+          throw new IllegalStateException(
+              "Motion: Expected a shape name, but no more input available");
+        }
+        String name = tokens.get(index++);
+        values = new int[16];
+        for (int i = 0; i < values.length; i++) {
+          values[i] = getInt(tokens, index++, "Motion", MOTION_FIELDS[i]);
+        }
+        declarations.add(new Declaration(keyword, new String[]{name}, values, 0));
+        return index;
+      case "tempo":
+        values = new int[]{
+            getInt(tokens, index, "Tempo", "start tick"),
+            getInt(tokens, index + 1, "Tempo", "end tick")
+        };
+        if (index + 2 >= tokens.size()) {
+          throw new IllegalStateException(
+              "Tempo: Expected a speed factor, but no more input available.");
+        }
+        double speedFactor;
+        try {
+          speedFactor = Double.parseDouble(tokens.get(index + 2));
+        } catch (NumberFormatException e) {
+          throw new IllegalStateException(
+              "Tempo: Expected double for speed factor, got: " + tokens.get(index + 2));
+        }
+        declarations.add(new Declaration(keyword, null, values, speedFactor));
+        return index + 3;
+      default:
+        throw new IllegalStateException("Unexpected keyword: " + keyword);
+    }
+  }
+
+  private static int getInt(List<String> tokens, int index, String label, String fieldName) {
+    if (index >= tokens.size()) {
+      throw new IllegalStateException(
+          String.format("%s: expected integer for %s, but no more input available",
+              label, fieldName));
+    }
+
+    try {
+      return Integer.parseInt(tokens.get(index));
+    } catch (NumberFormatException e) {
+      throw new IllegalStateException(
+          String.format("%s: expected integer for %s, got: %s", label, fieldName,
+              tokens.get(index)));
     }
-    return builder.build();
   }
 
   private static <Doc> void readCanvas(Scanner s, AnimationBuilder<Doc> builder) {
@@ -87,16 +425,7 @@ public class AnimationReader {
   }
 
   private static <Doc> void readMotion(Scanner s, AnimationBuilder<Doc> builder) {
-    String[] fieldNames = new String[]{
-        "initial time",
-        "initial x-coordinate", "initial y-coordinate",
-        "initial width", "initial height",
-        "initial red value", "initial green value", "initial blue value",
-        "final time",
-        "final x-coordinate", "final y-coordinate",
-        "final width", "final height",
-        "final red value", "final green value", "final blue value",
-    };
+    String[] fieldNames = MOTION_FIELDS;
     int[] vals = new int[16];
     String name;
     if (s.hasNext()) {
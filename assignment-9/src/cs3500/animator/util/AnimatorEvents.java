@@ -0,0 +1,185 @@
+package cs3500.animator.util;
+
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events showing where time goes while an animation is parsed, checked and
+ * rendered. Events are only created once they are enabled, either by setting the {@value
+ * #PROPERTY} system property to true or by {@link #setEnabled(boolean)}, so that instrumented code
+ * only reads a flag while they are off. Enabled events are recorded by any flight recording which
+ * enables them, such as one started with the {@code animator.jfc} profile.
+ */
+public final class AnimatorEvents {
+
+  /**
+   * Name of the system property which enables events when set to true.
+   */
+  public static final String PROPERTY = "cs3500.animator.jfr";
+
+  private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+  // Not instantiable
+  private AnimatorEvents() {
+  }
+
+  /**
+   * Returns whether events are enabled.
+   *
+   * @return Whether events are enabled
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enables or disables events. Events already begun are still committed once disabled.
+   *
+   * @param enabled Whether to enable events
+   */
+  public static void setEnabled(boolean enabled) {
+    AnimatorEvents.enabled = enabled;
+  }
+
+  /**
+   * Creates an event with the given factory and begins timing it, if events are enabled and the
+   * event is recorded by a running flight recording. Callers fill in the event's fields and commit
+   * it once the work it times is done.
+   *
+   * @param factory Factory creating the event
+   * @param <E>     Type of event to create
+   * @return The begun event, or null if it is not recorded
+   */
+  public static <E extends Event> E begin(Supplier<E> factory) {
+    if (!enabled) {
+      return null;
+    }
+
+    E event = factory.get();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  /**
+   * Event timing the parse of an animation description, including building the model, with the
+   * number of declarations of each keyword parsed.
+   */
+  @Name("cs3500.animator.Parse")
+  @Label("Parse")
+  @Category({"Easy Animator", "Parsing"})
+  @Description("Parse of an animation description into a model")
+  public static class ParseEvent extends Event {
+
+    @Label("Threads")
+    public int threads;
+
+    @Label("Canvas Declarations")
+    public int canvases;
+
+    @Label("Shape Declarations")
+    public int shapes;
+
+    @Label("Motion Declarations")
+    public int motions;
+
+    @Label("Tempo Declarations")
+    public int tempos;
+
+    /**
+     * Counts a declaration of the given keyword.
+     *
+     * @param keyword Keyword of the declaration
+     */
+    public void countKeyword(String keyword) {
+      switch (keyword) {
+        case "canvas":
+          canvases++;
+          break;
+        case "shape":
+          shapes++;
+          break;
+        case "motion":
+          motions++;
+          break;
+        default:
+          tempos++;
+      }
+    }
+  }
+
+  /**
+   * Event timing the motion integrity check of a shape.
+   */
+  @Name("cs3500.animator.IntegrityCheck")
+  @Label("Motion Integrity Check")
+  @Category({"Easy Animator", "Model"})
+  @Description("Check that the motions of a shape have no gaps or implicit teleportation")
+  public static class IntegrityCheckEvent extends Event {
+
+    @Label("Shape")
+    public String shape;
+
+    @Label("Motions")
+    public int motions;
+
+    @Label("Passed")
+    public boolean passed;
+  }
+
+  /**
+   * Event timing a frame painted by a visual view, with the number of shapes visited, changed and
+   * drawn.
+   */
+  @Name("cs3500.animator.Frame")
+  @Label("Frame")
+  @Category({"Easy Animator", "Rendering"})
+  @Description("Frame painted by a visual view")
+  public static class FrameEvent extends Event {
+
+    @Label("Tick")
+    public int tick;
+
+    @Label("Shapes Visited")
+    @Description("Shapes visible at the tick, which are the only ones visited")
+    public int shapesVisited;
+
+    @Label("Shapes Changed")
+    @Description("Visible shapes whose state changed since the previous frame")
+    public int shapesChanged;
+
+    @Label("Shapes Drawn")
+    public int shapesDrawn;
+
+    @Label("Draw Calls Saved")
+    public int drawCallsSaved;
+  }
+
+  /**
+   * Event timing the SVG entry of a single shape, which is either rendered or taken from the
+   * renderer's cache.
+   */
+  @Name("cs3500.animator.SVGShape")
+  @Label("SVG Shape")
+  @Category({"Easy Animator", "Rendering"})
+  @Description("SVG entry of a single shape")
+  public static class SVGShapeEvent extends Event {
+
+    @Label("Shape")
+    public String shape;
+
+    @Label("Cached")
+    @Description("Whether the entry was taken from the cache instead of rendered")
+    public boolean cached;
+
+    @Label("Characters")
+    public int characters;
+  }
+}
@@ -0,0 +1,126 @@
+package cs3500.animator.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A builder which passes every declaration on to another builder, while recording the canvas and
+ * the shapes and motions present at tick 0. While the animation is still being parsed on one
+ * thread, the recorded declarations can be replayed on another into a fresh builder, giving a
+ * preview of the first frame of everything parsed so far.
+ *
+ * @param <Doc> The main model interface type describing animations
+ */
+public class FirstFrameBuilder<Doc> implements AnimationBuilder<Doc> {
+
+  private final AnimationBuilder<Doc> delegate;
+
+  // Types of every declared shape and the names of those recorded, only used by the parsing thread
+  private final Map<String, String> shapeTypes = new HashMap<>();
+  private final Set<String> recordedShapes = new HashSet<>();
+
+  // Declarations making up the first frame, in the order they were made, guarded by this object
+  private final List<Consumer<AnimationBuilder<Doc>>> firstFrame = new ArrayList<>();
+  private boolean hasBounds;
+  private int numBuilt;  // Number of declarations in the last first frame built
+
+  /**
+   * Instantiates a {@code FirstFrameBuilder} object which passes declarations on to the given
+   * builder.
+   *
+   * @param delegate Builder constructing the whole animation
+   * @throws NullPointerException Builder is null.
+   */
+  public FirstFrameBuilder(AnimationBuilder<Doc> delegate) throws NullPointerException {
+    this.delegate = Objects.requireNonNull(delegate, "Builder is null.");
+  }
+
+  @Override
+  public Doc build() {
+    return delegate.build();
+  }
+
+  @Override
+  public AnimationBuilder<Doc> setBounds(int x, int y, int width, int height) {
+    delegate.setBounds(x, y, width, height);
+    synchronized (this) {
+      firstFrame.add(builder -> builder.setBounds(x, y, width, height));
+      hasBounds = true;
+    }
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<Doc> declareShape(String name, String type) {
+    delegate.declareShape(name, type);
+    shapeTypes.put(name, type);
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<Doc> addMotion(String name,
+      int t1, int x1, int y1, int w1, int h1, int r1, int g1, int b1,
+      int t2, int x2, int y2, int w2, int h2, int r2, int g2, int b2) {
+    delegate.addMotion(name, t1, x1, y1, w1, h1, r1, g1, b1, t2, x2, y2, w2, h2, r2, g2, b2);
+
+    // Only motions covering tick 0 appear in the first frame, preceded by their shape
+    if (t1 <= 0 && 0 <= t2) {
+      String type = shapeTypes.get(name);
+      boolean newShape = recordedShapes.add(name);
+      synchronized (this) {
+        if (newShape) {
+          firstFrame.add(builder -> builder.declareShape(name, type));
+        }
+        firstFrame.add(builder -> builder.addMotion(name,
+            t1, x1, y1, w1, h1, r1, g1, b1, t2, x2, y2, w2, h2, r2, g2, b2));
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public AnimationBuilder<Doc> setTempo(int startTick, int endTick, double speedFactor) {
+    delegate.setTempo(startTick, endTick, speedFactor);
+    return this;
+  }
+
+  /**
+   * Replays the first frame declarations recorded so far into the given builder and builds it, if
+   * the canvas has been declared and anything has been recorded since the last first frame built.
+   * May be called from any thread.
+   *
+   * @param builder Fresh builder to construct the first frame with
+   * @return First frame of the animation parsed so far, or null if it has not changed
+   * @throws NullPointerException  Builder is null.
+   * @throws IllegalStateException Declarations are rejected by the builder.
+   */
+  public Doc buildFirstFrame(AnimationBuilder<Doc> builder)
+      throws NullPointerException, IllegalStateException {
+    Objects.requireNonNull(builder, "Builder is null.");
+
+    // Copy the declarations so that parsing is not held up while they are replayed
+    List<Consumer<AnimationBuilder<Doc>>> declarations;
+    synchronized (this) {
+      if (!hasBounds || firstFrame.size() == numBuilt) {
+        return null;
+      }
+      declarations = new ArrayList<>(firstFrame);
+      numBuilt = declarations.size();
+    }
+
+    try {
+      for (Consumer<AnimationBuilder<Doc>> declaration : declarations) {
+        declaration.accept(builder);
+      }
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("First frame is invalid: " + e.getMessage());
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,66 @@
+package cs3500.animator.util;
+
+import java.io.IOException;
+
+import java.nio.CharBuffer;
+
+import java.util.Objects;
+
+/**
+ * A readable which counts the characters and lines read through it from another readable, so that
+ * the progress of parsing it can be shown while it is read on another thread. Counts may be read
+ * from any thread, and lag behind parsing by the size of the parser's read buffer.
+ */
+public class ProgressReadable implements Readable {
+
+  private final Readable delegate;  // Readable to read characters from
+  private volatile long charsRead;  // Number of characters read so far
+  private volatile long linesRead;  // Number of line breaks read so far
+
+  /**
+   * Instantiates a {@code ProgressReadable} object which reads from the given readable.
+   *
+   * @param delegate Readable to read characters from
+   * @throws NullPointerException Readable is null.
+   */
+  public ProgressReadable(Readable delegate) throws NullPointerException {
+    this.delegate = Objects.requireNonNull(delegate, "Readable is null.");
+  }
+
+  @Override
+  public int read(CharBuffer buffer) throws IOException {
+    int start = buffer.position();
+    int numRead = delegate.read(buffer);
+    if (numRead > 0) {
+      // Only this thread writes the counts, so they can be updated without atomics
+      long lines = linesRead;
+      for (int i = start; i < start + numRead; i++) {
+        if (buffer.get(i) == '\n') {
+          lines++;
+        }
+      }
+      linesRead = lines;
+      charsRead = charsRead + numRead;
+    }
+
+    return numRead;
+  }
+
+  /**
+   * Returns the number of characters read so far.
+   *
+   * @return Number of characters read
+   */
+  public long getCharsRead() {
+    return charsRead;
+  }
+
+  /**
+   * Returns the number of lines read so far, counted by their line breaks.
+   *
+   * @return Number of lines read
+   */
+  public long getLinesRead() {
+    return linesRead;
+  }
+}
@@ -0,0 +1,261 @@
+package cs3500.animator.view;
+
+import cs3500.animator.model.EasyAnimatorImmutableModel;
+
+import cs3500.animator.model.shapes.VisitableShape;
+
+import cs3500.animator.view.renderers.VisualShapeRenderer;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Toolkit;
+
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+
+import java.awt.image.BufferStrategy;
+import java.awt.image.VolatileImage;
+
+import java.util.Objects;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+import javax.swing.JFrame;
+
+/**
+ * Visual view for Easy Animator as defined by {@link EasyAnimatorView}. Unlike {@link
+ * EasyAnimatorVisualView}, which repaints passively through the event dispatch thread, this view
+ * actively renders each frame on a dedicated thread into an accelerated {@link VolatileImage} and
+ * flips it onto a {@link Canvas} through a {@link BufferStrategy}, giving predictable frame times
+ * at high tick rates on large canvases.
+ *
+ * @param <Rectangle> Rectangle class used by implementation
+ * @param <Ellipse>   Ellipse class used by implementation
+ * @param <Cross>     Cross class used by implementation
+ */
+public class EasyAnimatorActiveView<Rectangle, Ellipse, Cross> extends JFrame
+    implements EasyAnimatorView<Rectangle, Ellipse, Cross> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer;
+  // Index of the shapes visible at each tick, used only by the render thread
+  private final EasyAnimatorShapeIndex<Rectangle, Ellipse, Cross> shapeIndex;
+  private final int numBuffers;
+
+  // Canvas which frames are flipped onto
+  private final Canvas canvas;
+
+  // Thread running the render loop, if one is running
+  private Thread renderThread;
+  private volatile boolean running;
+
+  // Off-screen frame, recreated whenever its contents are lost
+  private VolatileImage frame;
+
+  /**
+   * Instantiates an {@code EasyAnimatorActiveView} object with the given shape renderer and
+   * triple buffering.
+   *
+   * @param shapeRenderer Shape visitor used to render shapes
+   * @throws NullPointerException Shape renderer is null.
+   */
+  public EasyAnimatorActiveView(VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer)
+      throws NullPointerException {
+    this(shapeRenderer, 3);
+  }
+
+  /**
+   * Instantiates an {@code EasyAnimatorActiveView} object with the given shape renderer and number
+   * of buffers in its buffer strategy.
+   *
+   * @param shapeRenderer Shape visitor used to render shapes
+   * @param numBuffers    Number of buffers to flip between, either 2 or 3
+   * @throws NullPointerException     Shape renderer is null.
+   * @throws IllegalArgumentException Number of buffers is not 2 or 3.
+   */
+  public EasyAnimatorActiveView(VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer,
+      int numBuffers) throws NullPointerException, IllegalArgumentException {
+    super("Easy Animator");
+
+    this.shapeRenderer = Objects.requireNonNull(shapeRenderer, "Shape renderer is null.");
+    this.shapeIndex = new EasyAnimatorShapeIndex<>(shapeRenderer);
+    if (numBuffers != 2 && numBuffers != 3) {
+      throw new IllegalArgumentException("Number of buffers is not 2 or 3.");
+    }
+    this.numBuffers = numBuffers;
+
+    canvas = new Canvas();
+    canvas.setIgnoreRepaint(true);
+  }
+
+  @Override
+  public void render(
+      EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model,
+      Appendable ignored,
+      int tickDelay
+  ) throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(model, "Model is null.");
+    if (tickDelay <= 0) {
+      throw new IllegalArgumentException("Tick delay is non-positive.");
+    }
+
+    // Stop old render loop, if there is one
+    stopRendering();
+
+    // Set up shape renderer
+    shapeRenderer.resetTick();
+
+    // Set up frame, which must be displayable before a buffer strategy can be created
+    canvas.setPreferredSize(new Dimension(Math.min(model.getWidth(), 1024),
+        Math.min(model.getHeight(), 720)));
+    if (canvas.getParent() == null) {
+      setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+      setResizable(false);
+      setIgnoreRepaint(true);
+      add(canvas);
+      addWindowListener(new WindowAdapter() {
+        @Override
+        public void windowClosing(WindowEvent windowEvent) {
+          stopRendering();
+        }
+      });
+    }
+    pack();
+    setVisible(true);
+    canvas.createBufferStrategy(numBuffers);
+
+    // Start render loop
+    running = true;
+    renderThread = new Thread(() -> renderLoop(model, tickDelay), "Easy Animator Renderer");
+    renderThread.setDaemon(true);
+    renderThread.start();
+  }
+
+  // Stops the render loop and waits for it to finish, if one is running
+  private void stopRendering() {
+    running = false;
+    if (renderThread != null && renderThread != Thread.currentThread()) {
+      try {
+        renderThread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    renderThread = null;
+  }
+
+  // Renders one frame per tick until the animation is over or the loop is stopped
+  private void renderLoop(
+      EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model,
+      int tickDelay
+  ) {
+    BufferStrategy bufferStrategy = canvas.getBufferStrategy();
+    stepFrames(shapeRenderer, model.getNumTicks(), TimeUnit.MILLISECONDS.toNanos(tickDelay),
+        () -> running, () -> showFrame(model, bufferStrategy), System::nanoTime,
+        LockSupport::parkNanos);
+    running = false;
+  }
+
+  // Shows one frame per tick of the shape renderer until the given number of ticks is reached or
+  // running no longer holds, scheduling frames against absolute deadlines so that slow frames do
+  // not accumulate drift. Time is read from the given clock and waited out with the given parker,
+  // both in nanoseconds.
+  static void stepFrames(VisualShapeRenderer<?, ?, ?> shapeRenderer, int numTicks,
+      long tickNanos, BooleanSupplier running, Runnable showFrame, LongSupplier clock,
+      LongConsumer parker) {
+    long deadline = clock.getAsLong();
+
+    while (running.getAsBoolean()) {
+      showFrame.run();
+
+      // Stop the loop if the animation is over
+      if (shapeRenderer.nextTick() >= numTicks) {
+        break;
+      }
+
+      // Wait until the next tick is due
+      deadline += tickNanos;
+      long remaining;
+      while (running.getAsBoolean() && (remaining = deadline - clock.getAsLong()) > 0) {
+        parker.accept(remaining);
+      }
+    }
+  }
+
+  // Renders the current tick of the model and flips it onto the canvas, retrying if the contents
+  // of any of the buffers are lost while doing so
+  private void showFrame(
+      EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model,
+      BufferStrategy bufferStrategy
+  ) {
+    do {
+      do {
+        renderFrame(model);
+
+        Graphics2D graphics = (Graphics2D) bufferStrategy.getDrawGraphics();
+        try {
+          graphics.drawImage(frame, 0, 0, null);
+        } finally {
+          graphics.dispose();
+        }
+      } while (bufferStrategy.contentsRestored() || frame.contentsLost());
+
+      bufferStrategy.show();
+      Toolkit.getDefaultToolkit().sync();
+    } while (bufferStrategy.contentsLost());
+  }
+
+  // Renders the current tick of the model into the off-screen frame, recreating the frame if it is
+  // incompatible with the canvas
+  private void renderFrame(
+      EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model
+  ) {
+    GraphicsConfiguration configuration = canvas.getGraphicsConfiguration();
+    if (frame == null || frame.getWidth() != canvas.getWidth()
+        || frame.getHeight() != canvas.getHeight()
+        || frame.validate(configuration) == VolatileImage.IMAGE_INCOMPATIBLE) {
+      if (frame != null) {
+        frame.flush();
+      }
+      frame = configuration.createCompatibleVolatileImage(canvas.getWidth(), canvas.getHeight());
+    }
+
+    Graphics2D graphics = frame.createGraphics();
+    try {
+      drawTick(graphics, frame.getWidth(), frame.getHeight(), model, shapeRenderer, shapeIndex);
+    } finally {
+      graphics.dispose();
+    }
+  }
+
+  // Clears the given area of the given graphics and draws the shapes of the model visible at the
+  // shape renderer's current tick onto it, found through the given shape index
+  static <Rectangle, Ellipse, Cross> void drawTick(Graphics2D graphics, int width, int height,
+      EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model,
+      VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer,
+      EasyAnimatorShapeIndex<Rectangle, Ellipse, Cross> shapeIndex) {
+    graphics.setColor(Color.WHITE);
+    graphics.fillRect(0, 0, width, height);
+    graphics.translate(-model.getLeftmostX(), -model.getTopmostY());
+    shapeRenderer.setOutput(graphics);
+
+    // Cycle through the shapes visible at the current tick and render each of them
+    shapeIndex.seek(model, shapeRenderer.getTick());
+    for (int i = shapeIndex.nextVisible(0); i >= 0; i = shapeIndex.nextVisible(i + 1)) {
+      try {
+        shapeIndex.getShape(i).accept(shapeRenderer);
+      } catch (Exception ignored) {
+      }
+    }
+    shapeRenderer.flush();
+  }
+}
@@ -0,0 +1,411 @@
+package cs3500.animator.view;
+
+import cs3500.animator.model.EasyAnimatorImmutableModel;
+
+import cs3500.animator.model.shapes.VisitableShape;
+
+import cs3500.animator.view.renderers.VisualShapeRenderer;
+import cs3500.animator.view.renderers.VisualShapeRenderer.DetailLevel;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+import java.awt.image.BufferedImage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Renders upcoming ticks of an animation ahead of playback on a background producer thread, into a
+ * ring of reusable images, so that the event dispatch thread only has to blit the frame which is
+ * ready. While the pipeline is running, the shape renderer it is given is used exclusively by the
+ * producer thread, so all changes to the renderer must be made through the pipeline.
+ *
+ * @param <Rectangle> Rectangle class used by implementation
+ * @param <Ellipse>   Ellipse class used by implementation
+ * @param <Cross>     Cross class used by implementation
+ */
+public class EasyAnimatorFramePipeline<Rectangle, Ellipse, Cross> {
+
+  // Image of the animation at a single tick
+  private static final class Frame {
+
+    private final BufferedImage image;
+    private int tick;
+    private boolean last;  // Is this the final frame of a non-looping animation
+
+    private Frame(BufferedImage image) {
+      this.image = image;
+    }
+  }
+
+  private final EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>>
+      model;
+  private final VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer;
+  // Index of the shapes visible at each tick, used only by the producer thread
+  private final EasyAnimatorShapeIndex<Rectangle, Ellipse, Cross> shapeIndex;
+  private final Color background;
+  private final Runnable onDisplay;  // Repaints the display after a frame is shown out of playback
+  private final int numTicks;
+  private volatile EasyAnimatorLevelOfDetail levelOfDetail;  // Adapts detail to render times
+  private volatile EasyAnimatorMetrics metrics;  // Records render times and allocations
+
+  // All of the following state is guarded by this pipeline's monitor
+  private final Deque<Frame> free = new ArrayDeque<>();  // Frames which may be rendered into
+  private final Deque<Frame> ready = new ArrayDeque<>();  // Rendered frames in playback order
+  private Frame displayed;  // Frame currently being displayed, if any
+
+  // Renderer changes which the producer thread has yet to apply
+  private final List<Consumer<VisualShapeRenderer<Rectangle, Ellipse, Cross>>> changes =
+      new ArrayList<>();
+  private int generation;  // Incremented every time rendered frames are invalidated
+  private int seekTick;  // Tick the producer must render next, or -1 to continue as it is
+  private boolean displayOnReady;  // Display the next frame as soon as it is rendered
+  private boolean looping;
+  private boolean exhausted;  // Has the producer rendered the final frame of the animation
+  private boolean running;
+  private Thread producer;
+
+  /**
+   * Instantiates an {@code EasyAnimatorFramePipeline} object for the given model, shape renderer,
+   * number of frames and background color.
+   *
+   * @param model         Easy Animator model to be rendered
+   * @param shapeRenderer Shape visitor for rendering shapes using Swing framework
+   * @param numFrames     Number of frames in the ring, including the displayed frame
+   * @param background    Color frames are cleared to before rendering
+   * @param onDisplay     Callback run on the event dispatch thread after a frame is displayed
+   *                      through {@link #restart()} or {@link #refresh(Consumer)}
+   * @throws NullPointerException     Model, renderer, background or callback is null.
+   * @throws IllegalArgumentException Number of frames is less than 2.
+   */
+  public EasyAnimatorFramePipeline(
+      EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model,
+      VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer,
+      int numFrames,
+      Color background,
+      Runnable onDisplay
+  ) throws NullPointerException, IllegalArgumentException {
+    this.model = Objects.requireNonNull(model, "Model is null.");
+    this.shapeRenderer = Objects.requireNonNull(shapeRenderer, "Shape renderer is null.");
+    this.shapeIndex = new EasyAnimatorShapeIndex<>(shapeRenderer);
+    this.background = Objects.requireNonNull(background, "Background color is null.");
+    this.onDisplay = Objects.requireNonNull(onDisplay, "Display callback is null.");
+    if (numFrames < 2) {
+      throw new IllegalArgumentException("Number of frames is less than 2.");
+    }
+
+    numTicks = model.getNumTicks();
+    for (int i = 0; i < numFrames; i++) {
+      free.add(new Frame(new BufferedImage(Math.max(model.getWidth(), 1),
+          Math.max(model.getHeight(), 1), BufferedImage.TYPE_INT_RGB)));
+    }
+    seekTick = 0;
+  }
+
+  /**
+   * Sets the level of detail which the producer thread records the render time of every frame
+   * with, applying each new detail level to the shape renderer before rendering the next frame.
+   *
+   * @param levelOfDetail Level of detail to record render times with, or null to keep the shape
+   *                      renderer's detail level as it is
+   */
+  public void setLevelOfDetail(EasyAnimatorLevelOfDetail levelOfDetail) {
+    this.levelOfDetail = levelOfDetail;
+  }
+
+  /**
+   * Sets the playback metrics which the producer thread records the render time and heap
+   * allocation of every frame with.
+   *
+   * @param metrics Playback metrics to record frames with, or null to not record them
+   */
+  public void setMetrics(EasyAnimatorMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Starts rendering frames on the producer thread, from the first tick.
+   *
+   * @throws IllegalStateException Pipeline is already running.
+   */
+  public synchronized void start() throws IllegalStateException {
+    if (running) {
+      throw new IllegalStateException("Pipeline is already running.");
+    }
+
+    running = true;
+    producer = new Thread(this::produce, "Easy Animator Frame Producer");
+    producer.setDaemon(true);
+    producer.start();
+  }
+
+  /**
+   * Stops the producer thread and waits for it to finish, after which the shape renderer may be
+   * used directly again.
+   */
+  public void stop() {
+    Thread producer;
+    synchronized (this) {
+      running = false;
+      producer = this.producer;
+      this.producer = null;
+      notifyAll();
+    }
+
+    if (producer != null && producer != Thread.currentThread()) {
+      try {
+        producer.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Replaces the displayed frame with the next rendered frame, returning the replaced frame to the
+   * ring to be rendered into again.
+   *
+   * @return Whether there was a rendered frame to display
+   */
+  public synchronized boolean advance() {
+    Frame next = ready.poll();
+    if (next == null) {
+      return false;
+    }
+
+    if (displayed != null) {
+      free.add(displayed);
+    }
+    displayed = next;
+    notifyAll();
+
+    return true;
+  }
+
+  /**
+   * Returns the image of the displayed frame, which must not be modified.
+   *
+   * @return Image of displayed frame, or null if no frame has been displayed yet
+   */
+  public synchronized BufferedImage getDisplayedImage() {
+    return displayed == null ? null : displayed.image;
+  }
+
+  /**
+   * Returns the tick of the displayed frame.
+   *
+   * @return Tick of displayed frame, or 0 if no frame has been displayed yet
+   */
+  public synchronized int getDisplayedTick() {
+    return displayed == null ? 0 : displayed.tick;
+  }
+
+  /**
+   * Returns whether the displayed frame is the final frame of a non-looping animation.
+   *
+   * @return Whether the animation has finished playing
+   */
+  public synchronized boolean isFinished() {
+    return displayed != null && displayed.last;
+  }
+
+  /**
+   * Sets whether the animation loops back to the first tick after its final tick, re-rendering any
+   * frames following the displayed frame.
+   *
+   * @param looping Whether the animation loops
+   */
+  public synchronized void setLooping(boolean looping) {
+    this.looping = looping;
+    invalidate(null, followingTick(), false);
+  }
+
+  /**
+   * Applies the given change to the shape renderer on the producer thread, re-rendering any frames
+   * following the displayed frame.
+   *
+   * @param change Change to be applied to the shape renderer
+   * @throws NullPointerException Change is null.
+   */
+  public synchronized void update(Consumer<VisualShapeRenderer<Rectangle, Ellipse, Cross>> change)
+      throws NullPointerException {
+    invalidate(Objects.requireNonNull(change, "Change is null."), followingTick(), false);
+  }
+
+  /**
+   * Applies the given change to the shape renderer on the producer thread, re-rendering frames
+   * from the displayed frame onwards and displaying the re-rendered frame once it is ready.
+   *
+   * @param change Change to be applied to the shape renderer
+   * @throws NullPointerException Change is null.
+   */
+  public synchronized void refresh(Consumer<VisualShapeRenderer<Rectangle, Ellipse, Cross>> change)
+      throws NullPointerException {
+    invalidate(Objects.requireNonNull(change, "Change is null."), getDisplayedTick(), true);
+  }
+
+  /**
+   * Re-renders frames from the first tick onwards, displaying the first frame once it is ready.
+   */
+  public synchronized void restart() {
+    invalidate(null, 0, true);
+  }
+
+  // Returns the tick following the displayed frame, or the first tick if none is displayed yet
+  private int followingTick() {
+    return displayed == null ? 0 : displayed.tick + 1;
+  }
+
+  // Discards all rendered frames which have not been displayed and makes the producer continue
+  // from the given tick after applying the given change, if any
+  private void invalidate(Consumer<VisualShapeRenderer<Rectangle, Ellipse, Cross>> change,
+      int fromTick, boolean display) {
+    generation++;
+    if (change != null) {
+      changes.add(change);
+    }
+    free.addAll(ready);
+    ready.clear();
+    seekTick = fromTick;
+    displayOnReady = display;
+    notifyAll();
+  }
+
+  // Moves the shape renderer to the first tick at or after the given tick, wrapping around or
+  // marking the animation as exhausted if it is past the final tick
+  private void seek(int tick) {
+    // Jump to just before the tick and step once, so that discrete playback lands on the first
+    // discrete tick at or after it
+    if (tick > 0) {
+      shapeRenderer.setTick(tick - 1);
+      shapeRenderer.nextTick();
+    } else {
+      shapeRenderer.resetTick();
+    }
+
+    if (shapeRenderer.getTick() >= numTicks) {
+      if (looping) {
+        shapeRenderer.resetTick();
+      } else {
+        exhausted = true;
+      }
+    }
+  }
+
+  // Renders frames ahead of playback until the pipeline is stopped
+  private void produce() {
+    while (true) {
+      Frame frame;
+      int frameGeneration;
+
+      synchronized (this) {
+        // Wait for a free frame, or for an invalidation when the animation is exhausted
+        while (running && changes.isEmpty() && seekTick < 0 && (free.isEmpty() || exhausted)) {
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            return;
+          }
+        }
+        if (!running) {
+          return;
+        }
+
+        for (Consumer<VisualShapeRenderer<Rectangle, Ellipse, Cross>> change : changes) {
+          change.accept(shapeRenderer);
+        }
+        changes.clear();
+        if (seekTick >= 0) {
+          exhausted = false;
+          seek(seekTick);
+          seekTick = -1;
+        }
+        if (free.isEmpty() || exhausted) {
+          continue;
+        }
+
+        frame = free.poll();
+        frameGeneration = generation;
+      }
+
+      // Render outside of the lock so that the event dispatch thread is never kept waiting
+      int tick = shapeRenderer.getTick();
+      EasyAnimatorMetrics metrics = this.metrics;
+      long allocatedStart = metrics != null ? EasyAnimatorMetrics.getThreadAllocatedBytes() : -1;
+      long renderStart = System.nanoTime();
+      renderFrame(frame.image);
+      long renderNanos = System.nanoTime() - renderStart;
+      if (metrics != null) {
+        metrics.recordFrame(renderNanos, allocatedStart < 0 ? -1
+            : EasyAnimatorMetrics.getThreadAllocatedBytes() - allocatedStart);
+      }
+      EasyAnimatorLevelOfDetail levelOfDetail = this.levelOfDetail;
+      if (levelOfDetail != null) {
+        DetailLevel detailLevel = levelOfDetail.recordFrame(renderNanos);
+        if (detailLevel != null) {
+          shapeRenderer.setDetailLevel(detailLevel);
+        }
+      }
+      int nextTick = shapeRenderer.nextTick();
+
+      synchronized (this) {
+        if (frameGeneration != generation) {
+          // Frame was invalidated while being rendered
+          free.add(frame);
+          continue;
+        }
+
+        frame.tick = tick;
+        frame.last = false;
+        if (nextTick >= numTicks) {
+          if (looping) {
+            shapeRenderer.resetTick();
+          } else {
+            frame.last = true;
+            exhausted = true;
+          }
+        }
+        ready.add(frame);
+
+        if (displayOnReady) {
+          displayOnReady = false;
+          SwingUtilities.invokeLater(() -> {
+            if (advance()) {
+              onDisplay.run();
+            }
+          });
+        }
+      }
+    }
+  }
+
+  // Renders the shape renderer's current tick of the model into the given image
+  private void renderFrame(BufferedImage image) {
+    Graphics2D graphics = image.createGraphics();
+    try {
+      graphics.setColor(background);
+      graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+      graphics.translate(-model.getLeftmostX(), -model.getTopmostY());
+      shapeRenderer.setOutput(graphics);
+
+      // Cycle through the shapes visible at the current tick and render each of them
+      shapeIndex.seek(model, shapeRenderer.getTick());
+      for (int i = shapeIndex.nextVisible(0); i >= 0; i = shapeIndex.nextVisible(i + 1)) {
+        try {
+          shapeIndex.getShape(i).accept(shapeRenderer);
+        } catch (Exception ignored) {
+        }
+      }
+      shapeRenderer.flush();
+    } finally {
+      graphics.dispose();
+    }
+  }
+}
@@ -5,6 +5,7 @@ import cs3500.animator.model.EasyAnimatorImmutableModel;
 import cs3500.animator.model.shapes.VisitableShape;
 
 import cs3500.animator.view.renderers.VisualShapeRenderer;
+import cs3500.animator.view.renderers.VisualShapeRenderer.DetailLevel;
 import cs3500.animator.view.renderers.VisualShapeRenderer.PlaybackType;
 import cs3500.animator.view.renderers.VisualShapeRenderer.RenderType;
 
@@ -40,6 +41,8 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
   private JButton playPause;
   private JCheckBox outline;
   private JCheckBox discrete;
+  private JSlider ticksPerSecond;
+  private JLabel detail;
 
   private int numTicks;  // Total length of animation
   private ActionListener nonLooper;  // Timer listener that does not loop animation
@@ -57,6 +60,20 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
     super(shapeRenderer);
   }
 
+  /**
+   * Instantiates an {@code EasyAnimatorInteractiveView} object with the given shape renderer,
+   * which optionally renders frames ahead of playback on a background thread so that the event
+   * dispatch thread only has to blit them.
+   *
+   * @param shapeRenderer Shape visitor used to render shapes
+   * @param pipelined     Whether to render frames ahead of playback
+   * @throws NullPointerException Shape renderer is null.
+   */
+  public EasyAnimatorInteractiveView(VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer,
+      boolean pipelined) throws NullPointerException {
+    super(shapeRenderer, pipelined);
+  }
+
   /**
    * Sets the feature listener to the given object.
    *
@@ -75,14 +92,20 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
   ) throws NullPointerException, IllegalArgumentException {
     // Set up main animation panel
     super.render(model, ignored, tickDelay);
+    levelOfDetail.setBaseDelay(tickDelay);
 
     // If no view controller was specified, use itself
     if (featureListener == null) {
       featureListener = this;
     }
+    metrics.setFeatures(featureListener);
 
     // Find discrete ticks in model
-    shapeRenderer.setDiscreteTicks(model);
+    if (framePipeline != null) {
+      framePipeline.update(renderer -> renderer.setDiscreteTicks(model));
+    } else {
+      shapeRenderer.setDiscreteTicks(model);
+    }
 
     // Main interaction panel
     JPanel controlPanel = new JPanel();
@@ -93,13 +116,14 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
     JCheckBox looping = new JCheckBox("Looping");
     outline = new JCheckBox("Outline");
     discrete = new JCheckBox("Discrete Playback");
+    detail = new JLabel(getDetailText(levelOfDetail.getLevel()));
 
     // Set up TPS slider in its own panel
     JPanel sliderPanel = new JPanel();
     sliderPanel.setLayout(new BoxLayout(sliderPanel, BoxLayout.Y_AXIS));
     JLabel sliderLabel = new JLabel("Ticks Per Second", JLabel.CENTER);
     sliderLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-    JSlider ticksPerSecond = new JSlider(JSlider.HORIZONTAL, 1, 1000, 1000 / tickDelay);
+    ticksPerSecond = new JSlider(JSlider.HORIZONTAL, 1, 1000, 1000 / tickDelay);
     ticksPerSecond.setLabelTable(ticksPerSecond.createStandardLabels(999));
     ticksPerSecond.setPaintLabels(true);
     ticksPerSecond.setMinorTickSpacing(99);
@@ -124,6 +148,7 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
     controlPanel.add(looping);
     controlPanel.add(outline);
     controlPanel.add(discrete);
+    controlPanel.add(detail);
 
     // Initialize timer listeners
     numTicks = model.getNumTicks();
@@ -135,13 +160,9 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
         timer.stop();
         playPause.setText("Play");
       } else {
-        // Set proper tempo
-        double speedFactor = model.getTempo(shapeRenderer.getTick());
-        int newDelay = (int) (1000.0 / ticksPerSecond.getValue() / speedFactor + 0.5);
-        if (timer.getDelay() != newDelay) {
-          timer.setDelay(newDelay);
-        }
+        setTempo(model.getTempo(shapeRenderer.getTick()));
       }
+      recordTick(shapeRenderer.getTick());
     };
     looper = actionEvent -> {
       repaint();
@@ -150,14 +171,31 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
       if (shapeRenderer.nextTick() >= numTicks) {
         shapeRenderer.resetTick();
       } else {
-        // Set proper tempo
-        double speedFactor = model.getTempo(shapeRenderer.getTick());
-        int newDelay = (int) (1000.0 / ticksPerSecond.getValue() / speedFactor + 0.5);
-        if (timer.getDelay() != newDelay) {
-          timer.setDelay(newDelay);
-        }
+        setTempo(model.getTempo(shapeRenderer.getTick()));
       }
+      recordTick(shapeRenderer.getTick());
     };
+    if (framePipeline != null) {
+      // The pipeline loops by itself, so one listener serves for both
+      nonLooper = actionEvent -> {
+        // Display the next pre-rendered frame, holding the current one if it is late
+        if (!framePipeline.advance()) {
+          metrics.recordDroppedFrames(1);
+          return;
+        }
+        repaint();
+        Toolkit.getDefaultToolkit().sync();
+        recordTick(framePipeline.getDisplayedTick());
+
+        if (framePipeline.isFinished()) {
+          timer.stop();
+          playPause.setText("Play");
+        } else {
+          setTempo(model.getTempo(framePipeline.getDisplayedTick()));
+        }
+      };
+      looper = nonLooper;
+    }
     isLooping = false;
 
     SwingUtilities.invokeLater(() -> {
@@ -173,6 +211,34 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
     });
   }
 
+  // Sets the timer delay for the given speed factor at the base delay, which the slider and
+  // setDelay set, lengthened while continuous playback drops frames, and shows the detail level
+  // frames are rendered at
+  private void setTempo(double speedFactor) {
+    int newDelay = levelOfDetail.applyTempo(speedFactor);
+    if (timer.getDelay() != newDelay) {
+      timer.setDelay(newDelay);
+    }
+
+    String detailText = getDetailText(levelOfDetail.getLevel());
+    if (!detail.getText().equals(detailText)) {
+      detail.setText(detailText);
+    }
+  }
+
+  // Records the tick of the frame shown with the playback metrics, along with the ticks skipped to
+  // reach it while frames are dropped
+  private void recordTick(int tick) {
+    metrics.recordTick(tick);
+    metrics.recordDroppedFrames(levelOfDetail.getTicksPerFrame() - 1);
+  }
+
+  // Returns the label text showing the given detail level
+  private static String getDetailText(DetailLevel level) {
+    return "Detail: " + level.name().charAt(0) + level.name().substring(1).toLowerCase()
+        .replace('_', ' ');
+  }
+
   // Throws an IllegalStateException if the animation has not yet loaded
   private void checkIfLoaded() throws IllegalStateException {
     if (!isVisible()) {
@@ -193,7 +259,8 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
       timer.stop();
       playPause.setText("Play");
     } else {
-      if (shapeRenderer.getTick() >= numTicks) {
+      if (framePipeline != null ? framePipeline.isFinished()
+          : shapeRenderer.getTick() >= numTicks) {
         // If animation has ended, restart
         restart();
       }
@@ -217,9 +284,13 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
     playPause.setText("Play");
 
     // Rewind animation to beginning and render first frame
-    shapeRenderer.resetTick();
-    repaint();
-    Toolkit.getDefaultToolkit().sync();
+    if (framePipeline != null) {
+      framePipeline.restart();
+    } else {
+      shapeRenderer.resetTick();
+      repaint();
+      Toolkit.getDefaultToolkit().sync();
+    }
   }
 
   /**
@@ -233,6 +304,9 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
 
     // Stop animation, swap out timer listener for the other one, and resume
     timer.stop();
+    if (framePipeline != null) {
+      framePipeline.setLooping(!isLooping);
+    }
     if (isLooping) {
       timer.removeActionListener(looper);
       timer.addActionListener(nonLooper);
@@ -255,12 +329,18 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
   public void toggleOutline() throws IllegalStateException {
     checkIfLoaded();
 
-    if (outline.isSelected()) {
-      shapeRenderer.setRenderType(RenderType.OUTLINE);
-    } else {
-      shapeRenderer.setRenderType(RenderType.FILL);
+    RenderType renderType = outline.isSelected() ? RenderType.OUTLINE : RenderType.FILL;
+    if (framePipeline != null) {
+      // Re-render upcoming frames, and the displayed one too if the animation is paused
+      if (timer.isRunning()) {
+        framePipeline.update(renderer -> renderer.setRenderType(renderType));
+      } else {
+        framePipeline.refresh(renderer -> renderer.setRenderType(renderType));
+      }
+      return;
     }
 
+    shapeRenderer.setRenderType(renderType);
     if (!timer.isRunning()) {
       repaint();
       Toolkit.getDefaultToolkit().sync();
@@ -276,10 +356,13 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
   public void toggleDiscretePlayback() throws IllegalStateException {
     checkIfLoaded();
 
-    if (discrete.isSelected()) {
-      shapeRenderer.setPlaybackType(PlaybackType.DISCRETE);
+    PlaybackType playbackType =
+        discrete.isSelected() ? PlaybackType.DISCRETE : PlaybackType.CONTINUOUS;
+    levelOfDetail.setPlaybackType(playbackType);
+    if (framePipeline != null) {
+      framePipeline.update(renderer -> renderer.setPlaybackType(playbackType));
     } else {
-      shapeRenderer.setPlaybackType(PlaybackType.CONTINUOUS);
+      shapeRenderer.setPlaybackType(playbackType);
     }
   }
 
@@ -297,6 +380,55 @@ public class EasyAnimatorInteractiveView<Rectangle, Ellipse, Cross>
     }
     checkIfLoaded();
 
-    timer.setDelay(delay);
+    // Kept as the base delay, so that it lasts through later changes of tempo
+    levelOfDetail.setBaseDelay(delay);
+    timer.setDelay(levelOfDetail.getFrameDelay());
+  }
+
+  /**
+   * Returns the detail level the animation is currently rendered at.
+   *
+   * @return Current detail level
+   */
+  @Override
+  public DetailLevel getDetailLevel() {
+    return levelOfDetail.getLevel();
+  }
+
+  /**
+   * Sets the ratios of frame render time to tick delay above which the detail level of the
+   * animation is lowered and below which it is raised.
+   *
+   * @param degradeThreshold Ratio above which the detail level is lowered
+   * @param restoreThreshold Ratio below which the detail level is raised
+   * @throws IllegalArgumentException Restore threshold is non-positive or not less than the
+   *                                  degrade threshold.
+   */
+  @Override
+  public void setDetailThresholds(double degradeThreshold, double restoreThreshold)
+      throws IllegalArgumentException {
+    levelOfDetail.setThresholds(degradeThreshold, restoreThreshold);
+  }
+
+  /**
+   * Returns the ratio of frame render time to tick delay above which the detail level of the
+   * animation is lowered.
+   *
+   * @return Degrade threshold
+   */
+  @Override
+  public double getDegradeThreshold() {
+    return levelOfDetail.getDegradeThreshold();
+  }
+
+  /**
+   * Returns the ratio of frame render time to tick delay below which the detail level of the
+   * animation is raised.
+   *
+   * @return Restore threshold
+   */
+  @Override
+  public double getRestoreThreshold() {
+    return levelOfDetail.getRestoreThreshold();
   }
 }
@@ -0,0 +1,253 @@
+package cs3500.animator.view;
+
+import cs3500.animator.view.renderers.VisualShapeRenderer;
+import cs3500.animator.view.renderers.VisualShapeRenderer.DetailLevel;
+import cs3500.animator.view.renderers.VisualShapeRenderer.PlaybackType;
+
+import java.util.Objects;
+
+/**
+ * Chooses the detail level shapes are rendered with from how long frames take to render. While the
+ * average render time of a frame exceeds the degrade threshold times the frame budget, the detail
+ * level is lowered one step at a time; once it falls below the restore threshold times the budget,
+ * detail is restored one step at a time. The frame budget is the tick delay of playback, doubled
+ * while frames are dropped with continuous playback, since discrete playback never skips ticks.
+ * The tick delay is either set directly or found by scaling a base delay by the current tempo.
+ * Frames may be recorded from any thread.
+ */
+public class EasyAnimatorLevelOfDetail {
+
+  /**
+   * Default ratio of frame render time to frame budget above which the detail level is lowered.
+   */
+  public static final double DEFAULT_DEGRADE_THRESHOLD = 1.0;
+
+  /**
+   * Default ratio of frame render time to frame budget below which the detail level is raised.
+   */
+  public static final double DEFAULT_RESTORE_THRESHOLD = 0.5;
+
+  // Number of frames rendered at a detail level before it may change again, so that the average
+  // render time reflects the new level
+  private static final int SETTLING_FRAMES = 8;
+
+  // Weight of the latest frame in the moving average of render times
+  private static final double AVERAGE_WEIGHT = 0.25;
+
+  private DetailLevel level = DetailLevel.FULL;
+  private PlaybackType playbackType = PlaybackType.CONTINUOUS;
+  private double degradeThreshold = DEFAULT_DEGRADE_THRESHOLD;
+  private double restoreThreshold = DEFAULT_RESTORE_THRESHOLD;
+  private long tickDelayNanos;  // Tick delay of playback, or 0 if it is not set yet
+  private int baseDelay;  // Tick delay of playback at a speed factor of 1, or 0 if not set yet
+  private double speedFactor = 1;  // Speed factor of the tempo at the current tick
+  private double averageNanos;  // Moving average of frame render times at the detail level
+  private int settlingFrames;  // Frames left to record before the detail level may change
+
+  /**
+   * Instantiates an {@code EasyAnimatorLevelOfDetail} object at full detail, which stays there
+   * until a tick delay is set.
+   */
+  public EasyAnimatorLevelOfDetail() {
+    settlingFrames = SETTLING_FRAMES;
+  }
+
+  /**
+   * Sets the tick delay of playback, which frames must be rendered within to keep up.
+   *
+   * @param tickDelay Tick delay of playback in milliseconds
+   * @throws IllegalArgumentException Tick delay is non-positive.
+   */
+  public synchronized void setTickDelay(int tickDelay) throws IllegalArgumentException {
+    if (tickDelay <= 0) {
+      throw new IllegalArgumentException("Tick delay is non-positive.");
+    }
+
+    tickDelayNanos = tickDelay * 1_000_000L;
+  }
+
+  /**
+   * Sets the playback type frames are stepped through with, which decides whether ticks are
+   * skipped while frames are dropped.
+   *
+   * @param playbackType Playback type of the renderer
+   * @throws NullPointerException Playback type is null.
+   */
+  public synchronized void setPlaybackType(PlaybackType playbackType)
+      throws NullPointerException {
+    this.playbackType = Objects.requireNonNull(playbackType, "Playback type is null.");
+  }
+
+  /**
+   * Returns the playback type frames are stepped through with.
+   *
+   * @return Playback type of the renderer
+   */
+  public synchronized PlaybackType getPlaybackType() {
+    return playbackType;
+  }
+
+  /**
+   * Sets the tick delay of playback at a speed factor of 1, and sets the tick delay of playback to
+   * it scaled by the current speed factor. The base delay lasts until it is set again, however
+   * often the tempo changes.
+   *
+   * @param baseDelay Tick delay of playback at a speed factor of 1 in milliseconds
+   * @throws IllegalArgumentException Base delay is non-positive.
+   */
+  public synchronized void setBaseDelay(int baseDelay) throws IllegalArgumentException {
+    if (baseDelay <= 0) {
+      throw new IllegalArgumentException("Base delay is non-positive.");
+    }
+
+    this.baseDelay = baseDelay;
+    applyTempo(speedFactor);
+  }
+
+  /**
+   * Returns the tick delay of playback at a speed factor of 1.
+   *
+   * @return Base delay in milliseconds, or 0 if it is not set yet
+   */
+  public synchronized int getBaseDelay() {
+    return baseDelay;
+  }
+
+  /**
+   * Sets the speed factor of the tempo at the current tick, and sets the tick delay of playback to
+   * the base delay scaled by it, if the base delay is set.
+   *
+   * @param speedFactor Speed factor of the current tempo
+   * @return Delay between rendered frames in milliseconds, as given by {@link #getFrameDelay()}
+   * @throws IllegalArgumentException Speed factor is non-positive.
+   */
+  public synchronized int applyTempo(double speedFactor) throws IllegalArgumentException {
+    if (!(speedFactor > 0)) {
+      throw new IllegalArgumentException("Speed factor is non-positive.");
+    }
+
+    this.speedFactor = speedFactor;
+    if (baseDelay > 0) {
+      setTickDelay(Math.max((int) (baseDelay / speedFactor + 0.5), 1));
+    }
+
+    return getFrameDelay();
+  }
+
+  /**
+   * Returns the delay between rendered frames, which is the tick delay of playback lengthened by
+   * the ticks each frame covers.
+   *
+   * @return Frame delay in milliseconds, or 0 if the tick delay is not set yet
+   */
+  public synchronized int getFrameDelay() {
+    return getTickDelay() * getTicksPerFrame();
+  }
+
+  /**
+   * Returns the tick delay of playback.
+   *
+   * @return Tick delay of playback in milliseconds, or 0 if it is not set yet
+   */
+  public synchronized int getTickDelay() {
+    return (int) (tickDelayNanos / 1_000_000);
+  }
+
+  /**
+   * Sets the ratios of frame render time to frame budget above which the detail level is lowered
+   * and below which it is raised. A degrade threshold of infinity keeps full detail.
+   *
+   * @param degradeThreshold Ratio above which the detail level is lowered
+   * @param restoreThreshold Ratio below which the detail level is raised
+   * @throws IllegalArgumentException Restore threshold is non-positive or not less than the
+   *                                  degrade threshold.
+   */
+  public synchronized void setThresholds(double degradeThreshold, double restoreThreshold)
+      throws IllegalArgumentException {
+    if (!(restoreThreshold > 0)) {
+      throw new IllegalArgumentException("Restore threshold is non-positive.");
+    }
+    if (!(restoreThreshold < degradeThreshold)) {
+      throw new IllegalArgumentException("Restore threshold is not less than degrade threshold.");
+    }
+
+    this.degradeThreshold = degradeThreshold;
+    this.restoreThreshold = restoreThreshold;
+  }
+
+  /**
+   * Returns the ratio of frame render time to frame budget above which the detail level is lowered.
+   *
+   * @return Degrade threshold
+   */
+  public synchronized double getDegradeThreshold() {
+    return degradeThreshold;
+  }
+
+  /**
+   * Returns the ratio of frame render time to frame budget below which the detail level is raised.
+   *
+   * @return Restore threshold
+   */
+  public synchronized double getRestoreThreshold() {
+    return restoreThreshold;
+  }
+
+  /**
+   * Returns the current detail level.
+   *
+   * @return Current detail level
+   */
+  public synchronized DetailLevel getLevel() {
+    return level;
+  }
+
+  /**
+   * Returns the number of ticks each rendered frame covers at the current detail level and
+   * playback type, which the tick delay of playback should be multiplied by. Only continuous
+   * playback skips ticks while frames are dropped.
+   *
+   * @return Number of ticks per frame
+   */
+  public synchronized int getTicksPerFrame() {
+    return level == DetailLevel.DROPPED_FRAMES && playbackType == PlaybackType.CONTINUOUS
+        ? VisualShapeRenderer.DROPPED_FRAME_TICKS : 1;
+  }
+
+  /**
+   * Records the time taken to render a frame at the current detail level, lowering or raising the
+   * level if the average render time has crossed a threshold.
+   *
+   * @param renderNanos Time taken to render the frame in nanoseconds
+   * @return New detail level, or null if it did not change
+   */
+  public synchronized DetailLevel recordFrame(long renderNanos) {
+    averageNanos = averageNanos == 0 ? renderNanos
+        : averageNanos + AVERAGE_WEIGHT * (renderNanos - averageNanos);
+    if (tickDelayNanos == 0) {
+      return null;
+    }
+    if (settlingFrames > 0) {
+      settlingFrames--;
+      return null;
+    }
+
+    double ratio = averageNanos / (tickDelayNanos * getTicksPerFrame());
+    DetailLevel[] levels = DetailLevel.values();
+    if (ratio > degradeThreshold && level.ordinal() < levels.length - 1) {
+      return setLevel(levels[level.ordinal() + 1]);
+    } else if (ratio < restoreThreshold && level.ordinal() > 0) {
+      return setLevel(levels[level.ordinal() - 1]);
+    }
+
+    return null;
+  }
+
+  // Changes the detail level and starts averaging render times at it afresh
+  private DetailLevel setLevel(DetailLevel level) {
+    this.level = level;
+    averageNanos = 0;
+    settlingFrames = SETTLING_FRAMES;
+    return level;
+  }
+}
@@ -0,0 +1,398 @@
+package cs3500.animator.view;
+
+import cs3500.animator.model.EasyAnimatorImmutableModel;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import java.lang.reflect.InvocationTargetException;
+
+import java.util.Objects;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Playback metrics of a visual view, exposed over JMX as described by {@link
+ * EasyAnimatorMetricsMBean}. Frames may be recorded from any thread without locking: frame times
+ * are kept in a histogram of atomic counters, bucketed exactly below 16 microseconds and otherwise
+ * into 16 buckets per power of two, so percentiles are within 1/16 of the true frame time. Ticks
+ * are recorded by the thread driving playback. Operations are carried out on the event dispatch
+ * thread by the view's feature listener.
+ */
+public class EasyAnimatorMetrics implements EasyAnimatorMetricsMBean {
+
+  // Frame time histogram layout, in microseconds
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int NUM_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  // Length of the window over which achieved ticks per second are measured
+  private static final long TICK_WINDOW_NANOS = 1_000_000_000L;
+
+  private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+  private final EasyAnimatorLevelOfDetail levelOfDetail;  // Source of tick delay and detail level
+
+  // Frame statistics, updated from any rendering thread
+  private final AtomicLongArray frameTimes = new AtomicLongArray(NUM_BUCKETS);
+  private final AtomicLong framesRendered = new AtomicLong();
+  private final AtomicLong maxFrameMicros = new AtomicLong();
+  private final AtomicLong droppedFrames = new AtomicLong();
+  private final AtomicLong allocatedBytes = new AtomicLong();
+  private final AtomicLong allocationFrames = new AtomicLong();  // Frames allocation is known for
+
+  // Playback state, written only by the thread driving playback
+  private volatile int currentTick;
+  private volatile long lastTickNanos;
+  private volatile double achievedTicksPerSecond;
+  private long windowStartNanos;  // Start of the current tick window
+  private int windowTicks;  // Ticks moved forward within the current tick window
+
+  private volatile int numShapes;
+  private volatile int numMotions;
+  private volatile InteractiveFeatures features;  // Carries out operations, if interactive
+
+  /**
+   * Instantiates an {@code EasyAnimatorMetrics} object reporting the tick delay and detail level of
+   * the given level of detail.
+   *
+   * @param levelOfDetail Level of detail of the view's playback
+   * @throws NullPointerException Level of detail is null.
+   */
+  public EasyAnimatorMetrics(EasyAnimatorLevelOfDetail levelOfDetail) throws NullPointerException {
+    this.levelOfDetail = Objects.requireNonNull(levelOfDetail, "Level of detail is null.");
+  }
+
+  /**
+   * Returns the number of heap bytes allocated by the current thread so far, if the virtual
+   * machine can measure it.
+   *
+   * @return Bytes allocated by the current thread, or -1 if allocation cannot be measured
+   */
+  public static long getThreadAllocatedBytes() {
+    if (THREADS instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+      if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Sets the feature listener which carries out operations. Until it is set, operations throw an
+   * UnsupportedOperationException.
+   *
+   * @param features Feature listener of the view
+   * @throws NullPointerException Feature listener is null.
+   */
+  public void setFeatures(InteractiveFeatures features) throws NullPointerException {
+    this.features = Objects.requireNonNull(features, "Feature listener is null.");
+  }
+
+  /**
+   * Records the number of shapes and motions of the model being played back. The number of motions
+   * is recorded as -1 if a shape is malformed.
+   *
+   * @param model Model being played back
+   * @throws NullPointerException Model is null.
+   */
+  public void setModel(EasyAnimatorImmutableModel<?> model) throws NullPointerException {
+    Objects.requireNonNull(model, "Model is null.");
+
+    numShapes = model.getNumShapes();
+    try {
+      numMotions = model.getNumMotions();
+    } catch (IllegalStateException e) {
+      numMotions = -1;
+    }
+  }
+
+  /**
+   * Records a rendered frame. May be called from any thread.
+   *
+   * @param renderNanos    Time taken to render the frame in nanoseconds
+   * @param allocatedBytes Heap bytes allocated while rendering the frame, or a negative number if
+   *                       unknown
+   */
+  public void recordFrame(long renderNanos, long allocatedBytes) {
+    long micros = Math.max(renderNanos / 1000, 0);
+    frameTimes.incrementAndGet(getBucket(micros));
+    maxFrameMicros.accumulateAndGet(micros, Math::max);
+    framesRendered.incrementAndGet();
+
+    if (allocatedBytes >= 0) {
+      this.allocatedBytes.addAndGet(allocatedBytes);
+      allocationFrames.incrementAndGet();
+    }
+  }
+
+  /**
+   * Records that playback has moved to the given tick. Must only be called by the thread driving
+   * playback.
+   *
+   * @param tick Tick of the frame shown
+   */
+  public void recordTick(int tick) {
+    long now = System.nanoTime();
+
+    // Start a new window if playback has been paused, so that the pause is not averaged in
+    if (windowTicks == 0 || now - lastTickNanos > TICK_WINDOW_NANOS) {
+      windowStartNanos = now;
+      windowTicks = 0;
+    }
+    if (tick > currentTick) {
+      windowTicks += tick - currentTick;
+    }
+    if (now - windowStartNanos >= TICK_WINDOW_NANOS) {
+      achievedTicksPerSecond = windowTicks * 1e9 / (now - windowStartNanos);
+      windowStartNanos = now;
+      windowTicks = 0;
+    }
+
+    currentTick = tick;
+    lastTickNanos = now;
+  }
+
+  /**
+   * Records frames which were not shown on time. May be called from any thread.
+   *
+   * @param count Number of frames dropped
+   */
+  public void recordDroppedFrames(int count) {
+    if (count > 0) {
+      droppedFrames.addAndGet(count);
+    }
+  }
+
+  // Returns the histogram bucket of the given frame time in microseconds
+  private static int getBucket(long micros) {
+    if (micros < SUB_BUCKETS) {
+      return (int) micros;
+    }
+
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((micros >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  // Returns the frame time in microseconds at the middle of the given histogram bucket
+  private static double getBucketValue(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+
+    int shift = bucket / SUB_BUCKETS - 1;
+    long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+    return lower + ((1L << shift) - 1) / 2.0;
+  }
+
+  // Returns the frame time in milliseconds below which the given fraction of frames were rendered
+  private double getFrameTimePercentile(double fraction) {
+    long[] counts = new long[NUM_BUCKETS];
+    long total = 0;
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      counts[i] = frameTimes.get(i);
+      total += counts[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    long rank = Math.max((long) Math.ceil(fraction * total), 1);
+    long seen = 0;
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return getBucketValue(i) / 1000;
+      }
+    }
+    return getFrameTimeMaxMillis();
+  }
+
+  @Override
+  public int getCurrentTick() {
+    return currentTick;
+  }
+
+  @Override
+  public int getDelay() {
+    return levelOfDetail.getTickDelay();
+  }
+
+  @Override
+  public double getTargetTicksPerSecond() {
+    int tickDelay = getDelay();
+    return tickDelay == 0 ? 0 : 1000.0 / tickDelay;
+  }
+
+  @Override
+  public double getAchievedTicksPerSecond() {
+    return System.nanoTime() - lastTickNanos > TICK_WINDOW_NANOS ? 0 : achievedTicksPerSecond;
+  }
+
+  @Override
+  public long getFramesRendered() {
+    return framesRendered.get();
+  }
+
+  @Override
+  public long getDroppedFrames() {
+    return droppedFrames.get();
+  }
+
+  @Override
+  public double getFrameTimeMedianMillis() {
+    return getFrameTimePercentile(0.5);
+  }
+
+  @Override
+  public double getFrameTime90thPercentileMillis() {
+    return getFrameTimePercentile(0.9);
+  }
+
+  @Override
+  public double getFrameTime99thPercentileMillis() {
+    return getFrameTimePercentile(0.99);
+  }
+
+  @Override
+  public double getFrameTimeMaxMillis() {
+    return maxFrameMicros.get() / 1000.0;
+  }
+
+  @Override
+  public long getAllocatedBytesPerFrame() {
+    long frames = allocationFrames.get();
+    return frames == 0 ? -1 : allocatedBytes.get() / frames;
+  }
+
+  @Override
+  public int getNumShapes() {
+    return numShapes;
+  }
+
+  @Override
+  public int getNumMotions() {
+    return numMotions;
+  }
+
+  @Override
+  public String getDetailLevel() {
+    return levelOfDetail.getLevel().name();
+  }
+
+  @Override
+  public void resetStatistics() {
+    for (int i = 0; i < NUM_BUCKETS; i++) {
+      frameTimes.set(i, 0);
+    }
+    framesRendered.set(0);
+    maxFrameMicros.set(0);
+    droppedFrames.set(0);
+    allocatedBytes.set(0);
+    allocationFrames.set(0);
+  }
+
+  // Carries out the given operation with the feature listener on the event dispatch thread,
+  // rethrowing anything it throws
+  private void invokeFeature(Consumer<InteractiveFeatures> operation)
+      throws UnsupportedOperationException {
+    InteractiveFeatures features = this.features;
+    if (features == null) {
+      throw new UnsupportedOperationException("View is not interactive.");
+    }
+    if (SwingUtilities.isEventDispatchThread()) {
+      operation.accept(features);
+      return;
+    }
+
+    try {
+      SwingUtilities.invokeAndWait(() -> operation.accept(features));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the operation.");
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Operation failed: " + e.getCause().getMessage());
+    }
+  }
+
+  /**
+   * Toggles between playing and pausing the animation at the current tick.
+   *
+   * @throws UnsupportedOperationException View is not interactive.
+   * @throws IllegalStateException         Animation has not yet loaded.
+   */
+  @Override
+  public void togglePlayPause() throws UnsupportedOperationException, IllegalStateException {
+    invokeFeature(InteractiveFeatures::togglePlayPause);
+  }
+
+  /**
+   * Sets the current tick back to zero.
+   *
+   * @throws UnsupportedOperationException View is not interactive.
+   * @throws IllegalStateException         Animation has not yet loaded.
+   */
+  @Override
+  public void restart() throws UnsupportedOperationException, IllegalStateException {
+    invokeFeature(InteractiveFeatures::restart);
+  }
+
+  /**
+   * Toggles looping the animation.
+   *
+   * @throws UnsupportedOperationException View is not interactive.
+   * @throws IllegalStateException         Animation has not yet loaded.
+   */
+  @Override
+  public void toggleLooping() throws UnsupportedOperationException, IllegalStateException {
+    invokeFeature(InteractiveFeatures::toggleLooping);
+  }
+
+  /**
+   * Toggles drawing the shapes as outlines in the animation.
+   *
+   * @throws UnsupportedOperationException View is not interactive.
+   * @throws IllegalStateException         Animation has not yet loaded.
+   */
+  @Override
+  public void toggleOutline() throws UnsupportedOperationException, IllegalStateException {
+    invokeFeature(InteractiveFeatures::toggleOutline);
+  }
+
+  /**
+   * Toggles discrete playback of the animation.
+   *
+   * @throws UnsupportedOperationException View is not interactive.
+   * @throws IllegalStateException         Animation has not yet loaded.
+   */
+  @Override
+  public void toggleDiscretePlayback() throws UnsupportedOperationException,
+      IllegalStateException {
+    invokeFeature(InteractiveFeatures::toggleDiscretePlayback);
+  }
+
+  /**
+   * Sets the animation tick delay to the specified value.
+   *
+   * @param delay Tick delay of animation in milliseconds
+   * @throws UnsupportedOperationException View is not interactive.
+   * @throws IllegalArgumentException      Tick delay is non-positive.
+   * @throws IllegalStateException         Animation has not yet loaded.
+   */
+  @Override
+  public void setDelay(int delay) throws UnsupportedOperationException, IllegalArgumentException,
+      IllegalStateException {
+    invokeFeature(features -> features.setDelay(delay));
+  }
+}
@@ -0,0 +1,146 @@
+package cs3500.animator.view;
+
+/**
+ * Management interface of {@link EasyAnimatorMetrics}, through which a running animation can be
+ * monitored and controlled remotely over JMX. Operations mirror {@link InteractiveFeatures}, with
+ * the tick delay exposed as the writable {@code Delay} attribute.
+ */
+public interface EasyAnimatorMetricsMBean {
+
+  /**
+   * Returns the tick of the frame most recently shown.
+   *
+   * @return Current tick
+   */
+  int getCurrentTick();
+
+  /**
+   * Returns the current tick delay of playback, which is adjusted for the tempo at the current
+   * tick.
+   *
+   * @return Tick delay in milliseconds, or 0 if it is not set yet
+   */
+  int getDelay();
+
+  /**
+   * Returns the number of ticks per second playback is aiming for at the current tick delay.
+   *
+   * @return Target ticks per second, or 0 if no tick delay is set yet
+   */
+  double getTargetTicksPerSecond();
+
+  /**
+   * Returns the number of ticks per second playback moved forward by over the last full second.
+   *
+   * @return Achieved ticks per second, or 0 if playback has not moved within the last second
+   */
+  double getAchievedTicksPerSecond();
+
+  /**
+   * Returns the number of frames rendered since the statistics were last reset.
+   *
+   * @return Number of frames rendered
+   */
+  long getFramesRendered();
+
+  /**
+   * Returns the number of frames not shown on time since the statistics were last reset, counting
+   * both ticks skipped while frames are dropped and ticks at which the last frame was held.
+   *
+   * @return Number of dropped frames
+   */
+  long getDroppedFrames();
+
+  /**
+   * Returns the median time taken to render a frame.
+   *
+   * @return Median frame time in milliseconds
+   */
+  double getFrameTimeMedianMillis();
+
+  /**
+   * Returns the 90th percentile of the time taken to render a frame.
+   *
+   * @return 90th percentile frame time in milliseconds
+   */
+  double getFrameTime90thPercentileMillis();
+
+  /**
+   * Returns the 99th percentile of the time taken to render a frame.
+   *
+   * @return 99th percentile frame time in milliseconds
+   */
+  double getFrameTime99thPercentileMillis();
+
+  /**
+   * Returns the longest time taken to render a frame.
+   *
+   * @return Maximum frame time in milliseconds
+   */
+  double getFrameTimeMaxMillis();
+
+  /**
+   * Returns the average number of heap bytes allocated by the rendering thread per frame.
+   *
+   * @return Bytes allocated per frame, or -1 if allocation cannot be measured
+   */
+  long getAllocatedBytesPerFrame();
+
+  /**
+   * Returns the number of shapes in the animation.
+   *
+   * @return Number of shapes
+   */
+  int getNumShapes();
+
+  /**
+   * Returns the number of motions in the animation.
+   *
+   * @return Number of motions
+   */
+  int getNumMotions();
+
+  /**
+   * Returns the name of the detail level frames are rendered at.
+   *
+   * @return Current detail level
+   */
+  String getDetailLevel();
+
+  /**
+   * Resets the frame counts, frame time percentiles and allocation average.
+   */
+  void resetStatistics();
+
+  /**
+   * Toggles between playing and pausing the animation at the current tick.
+   */
+  void togglePlayPause();
+
+  /**
+   * Sets the current tick back to zero.
+   */
+  void restart();
+
+  /**
+   * Toggles looping the animation.
+   */
+  void toggleLooping();
+
+  /**
+   * Toggles drawing the shapes as outlines in the animation.
+   */
+  void toggleOutline();
+
+  /**
+   * Toggles discrete playback of the animation.
+   */
+  void toggleDiscretePlayback();
+
+  /**
+   * Sets the animation tick delay to the specified value.
+   *
+   * @param delay Tick delay of animation in milliseconds
+   */
+  void setDelay(int delay);
+}
@@ -0,0 +1,210 @@
+package cs3500.animator.view;
+
+import cs3500.animator.model.EasyAnimatorImmutableModel;
+
+import cs3500.animator.model.shapes.VisitableShape;
+
+import cs3500.animator.view.renderers.VisualShapeRenderer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Index of the shapes of a model by their lifetimes, which yields the shapes visible at a tick in
+ * the model's drawing order, along with those whose state changed since the previously indexed
+ * tick. A shape is visible from its start tick on, and is frozen in its end state after its end
+ * tick, so it only changes within its lifetime.
+ *
+ * <p>The index is rebuilt whenever the model's version changes, taking a single copy of the
+ * model's shapes for every frame rendered in the meantime. Moving forward from one tick to the
+ * next only touches the shapes which start or end in between, so rendering a frame costs time in
+ * proportion to the shapes visible rather than all shapes in the model. Moving back rescans the
+ * lifetimes from the first tick. An index is not safe to use from more than one thread.</p>
+ *
+ * @param <Rectangle> Rectangle class used by implementation
+ * @param <Ellipse>   Ellipse class used by implementation
+ * @param <Cross>     Cross class used by implementation
+ */
+public class EasyAnimatorShapeIndex<Rectangle, Ellipse, Cross> {
+
+  private final VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer;
+
+  private EasyAnimatorImmutableModel<?> indexedModel;  // Model the shapes were taken from
+  private long indexedVersion;  // Version of the model when the shapes were taken
+  private List<? extends VisitableShape<Rectangle, Ellipse, Cross>> shapes;
+  private long[] byStart;  // Start ticks packed with shape indices, in ascending order
+  private long[] byEnd;  // End ticks packed with shape indices, in ascending order
+
+  private final BitSet visible = new BitSet();  // Shapes started by the current tick
+  private final BitSet changing = new BitSet();  // Visible shapes ending after the previous tick
+  private int startCursor;  // Number of shapes in start order added to the visible shapes
+  private int endCursor;  // Number of shapes in end order removed from the changing shapes
+  private int tick = -1;  // Current tick, or -1 if no tick is indexed yet
+  private int previousTick = -1;  // Previously indexed tick, or -1 if every shape changed
+
+  /**
+   * Instantiates an {@code EasyAnimatorShapeIndex} object which finds the lifetimes of shapes
+   * through the given shape renderer.
+   *
+   * @param shapeRenderer Shape renderer which the shapes are drawn with
+   * @throws NullPointerException Shape renderer is null.
+   */
+  public EasyAnimatorShapeIndex(VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer)
+      throws NullPointerException {
+    this.shapeRenderer = Objects.requireNonNull(shapeRenderer, "Shape renderer is null.");
+  }
+
+  // Packs the given tick and shape index into a long which sorts by tick, then by index
+  private static long packEntry(int tick, int index) {
+    return (long) tick << 32 | index;
+  }
+
+  // Returns the tick of the given packed entry
+  private static int entryTick(long entry) {
+    return (int) (entry >> 32);
+  }
+
+  // Returns the shape index of the given packed entry
+  private static int entryIndex(long entry) {
+    return (int) entry;
+  }
+
+  // Takes the shapes of the given model and sorts them by start and end tick
+  private void rebuild(
+      EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model) {
+    long version = model.getVersion();
+    shapes = new ArrayList<>(model.getShapes());  // Indexed on every frame, so not linked
+
+    int numShapes = shapes.size();
+    byStart = new long[numShapes];
+    byEnd = new long[numShapes];
+    int index = 0;
+    for (VisitableShape<Rectangle, Ellipse, Cross> shape : shapes) {
+      // Shapes with malformed motions fail to draw, so they are never made visible instead
+      int startTick = Integer.MAX_VALUE;
+      int endTick = Integer.MAX_VALUE;
+      try {
+        startTick = shapeRenderer.getStartTick(shape);
+        endTick = shapeRenderer.getEndTick(shape);
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        startTick = Integer.MAX_VALUE;
+      }
+      byStart[index] = packEntry(startTick, index);
+      byEnd[index] = packEntry(endTick, index);
+      index++;
+    }
+    Arrays.sort(byStart);
+    Arrays.sort(byEnd);
+
+    indexedModel = model;
+    indexedVersion = version;
+    rescan();
+  }
+
+  // Forgets the current tick, so that the next one is found from the first tick with every
+  // visible shape changed
+  private void rescan() {
+    visible.clear();
+    changing.clear();
+    startCursor = 0;
+    endCursor = 0;
+    tick = -1;
+  }
+
+  /**
+   * Moves the index to the given tick of the given model, rebuilding it first if the model or its
+   * version has changed since it was last indexed.
+   *
+   * @param model Model which is being rendered
+   * @param tick  Tick which is being rendered
+   * @throws NullPointerException     Model is null.
+   * @throws IllegalArgumentException Tick is negative.
+   */
+  public void seek(
+      EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model,
+      int tick) throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(model, "Model is null.");
+    if (tick < 0) {
+      throw new IllegalArgumentException("Tick is negative.");
+    }
+
+    if (model != indexedModel || model.getVersion() != indexedVersion) {
+      rebuild(model);
+    } else if (tick < this.tick) {
+      rescan();
+    }
+    previousTick = this.tick;
+    this.tick = tick;
+
+    while (startCursor < byStart.length && entryTick(byStart[startCursor]) <= tick) {
+      int index = entryIndex(byStart[startCursor++]);
+      visible.set(index);
+      changing.set(index);
+    }
+    while (endCursor < byEnd.length && entryTick(byEnd[endCursor]) <= previousTick) {
+      changing.clear(entryIndex(byEnd[endCursor++]));
+    }
+  }
+
+  /**
+   * Returns the index of the first shape visible at the current tick, counting from the given
+   * index in the model's drawing order.
+   *
+   * @param fromIndex Index to start looking from, inclusive
+   * @return Index of the next visible shape, or -1 if there is none
+   */
+  public int nextVisible(int fromIndex) {
+    return visible.nextSetBit(Math.max(fromIndex, 0));
+  }
+
+  /**
+   * Returns the shape at the given index in the model's drawing order.
+   *
+   * @param index Index of the shape
+   * @return Shape at the given index
+   * @throws IllegalStateException     No tick is indexed yet.
+   * @throws IndexOutOfBoundsException Index is out of range.
+   */
+  public VisitableShape<Rectangle, Ellipse, Cross> getShape(int index)
+      throws IllegalStateException, IndexOutOfBoundsException {
+    if (shapes == null) {
+      throw new IllegalStateException("No tick is indexed yet.");
+    }
+
+    return shapes.get(index);
+  }
+
+  /**
+   * Returns whether the state of the shape at the given index changed between the previously
+   * indexed tick and the current tick. Every visible shape is counted as changed when the index
+   * has been rebuilt or has moved back since the previous tick.
+   *
+   * @param index Index of the shape
+   * @return Whether the shape changed since the previous tick
+   */
+  public boolean isChanged(int index) {
+    return index >= 0 && previousTick != tick && changing.get(index);
+  }
+
+  /**
+   * Returns the number of shapes visible at the current tick.
+   *
+   * @return Number of visible shapes
+   */
+  public int getNumVisible() {
+    return visible.cardinality();
+  }
+
+  /**
+   * Returns the number of visible shapes whose state changed since the previous tick, as
+   * described by {@link #isChanged(int)}.
+   *
+   * @return Number of changed shapes
+   */
+  public int getNumChanged() {
+    return previousTick != tick ? changing.cardinality() : 0;
+  }
+}
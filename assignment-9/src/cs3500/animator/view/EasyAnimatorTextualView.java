@@ -7,7 +7,6 @@ import cs3500.animator.model.shapes.VisitableShape;
 import java.io.IOException;
 
 import java.util.Objects;
-import java.util.Scanner;
 
 /**
  * Textual view for Easy Animator as defined by {@link EasyAnimatorView}. Allows users to render
@@ -16,6 +15,76 @@ import java.util.Scanner;
 public class EasyAnimatorTextualView<Rectangle, Ellipse, Cross>
     implements EasyAnimatorView<Rectangle, Ellipse, Cross> {
 
+  /**
+   * Appendable which rewrites a model's text description line by line as it is appended, replacing
+   * the ticks of each motion with times in seconds before forwarding the line to the output.
+   */
+  private static final class SecondsConverter implements Appendable {
+
+    private final Appendable output;
+    private final int tickDelay;
+    private final StringBuilder line;  // Line currently being received
+
+    // Instantiates a SecondsConverter object with the given output and tick delay
+    private SecondsConverter(Appendable output, int tickDelay) {
+      this.output = output;
+      this.tickDelay = tickDelay;
+      this.line = new StringBuilder();
+    }
+
+    @Override
+    public Appendable append(CharSequence charSequence) throws IOException {
+      return append(charSequence, 0, charSequence.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence charSequence, int start, int end) throws IOException {
+      for (int i = start; i < end; i++) {
+        append(charSequence.charAt(i));
+      }
+      return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+      if (c == '\n') {
+        flush();
+      } else {
+        line.append(c);
+      }
+      return this;
+    }
+
+    // Writes out the line currently being received, if any
+    private void flush() throws IOException {
+      if (line.length() == 0) {
+        return;
+      }
+
+      String[] words = line.toString().trim().split("\\s+");
+      line.setLength(0);
+
+      if (!words[0].equals("motion")) {
+        // Write out canvas and shape declaration lines as they are
+        output.append(String.join(" ", words)).append('\n');
+        return;
+      }
+
+      // Write out motion declaration line with ticks replaced by seconds
+      for (int i = 0; i < words.length; i++) {
+        if (i > 0) {
+          output.append(' ');
+        }
+        if (i == 2 || i == 10) {
+          output.append(String.format("%.2f", Integer.parseInt(words[i]) * tickDelay / 1000.0));
+        } else {
+          output.append(words[i]);
+        }
+      }
+      output.append('\n');
+    }
+  }
+
   @Override
   public void render(
       EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model,
@@ -23,31 +92,14 @@ public class EasyAnimatorTextualView<Rectangle, Ellipse, Cross>
       int tickDelay
   ) throws NullPointerException, IllegalArgumentException, IOException {
     Objects.requireNonNull(model, "Model is null");
+    Objects.requireNonNull(output, "Output appendable is null.");
     if (tickDelay <= 0) {
       throw new IllegalArgumentException("Tick delay is non-positive.");
     }
-    Scanner modelStringScanner = new Scanner(model.toString());
-
-    // Write out canvas dimensions
-    output.append(modelStringScanner.nextLine()).append('\n');
 
-    // Write out shapes
-    while (modelStringScanner.hasNext()) {
-      String firstWordOfLine = modelStringScanner.next();
-      if (firstWordOfLine.equals("shape")) {
-        // Write out shape declaration line
-        output.append(firstWordOfLine).append(modelStringScanner.nextLine()).append('\n');
-      } else {
-        // Write out motion declaration line with ticks replaced by seconds
-        output.append(String.format("%s %s %.2f %s %s %s %s %s %s %s %.2f %s %s %s %s %s %s %s\n",
-            firstWordOfLine, modelStringScanner.next(),
-            modelStringScanner.nextInt() * tickDelay / 1000.0, modelStringScanner.next(),
-            modelStringScanner.next(), modelStringScanner.next(), modelStringScanner.next(),
-            modelStringScanner.next(), modelStringScanner.next(), modelStringScanner.next(),
-            modelStringScanner.nextInt() * tickDelay / 1000.0, modelStringScanner.next(),
-            modelStringScanner.next(), modelStringScanner.next(), modelStringScanner.next(),
-            modelStringScanner.next(), modelStringScanner.next(), modelStringScanner.next()));
-      }
-    }
+    // Stream the model's description through the converter, one line at a time
+    SecondsConverter converter = new SecondsConverter(output, tickDelay);
+    model.appendTo(converter);
+    converter.flush();
   }
 }
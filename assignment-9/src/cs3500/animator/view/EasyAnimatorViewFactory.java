@@ -27,12 +27,24 @@ public class EasyAnimatorViewFactory {
     switch (Objects.requireNonNull(viewType, "View type is null.")) {
       case "svg":
         return new EasyAnimatorSVGView<>(new AnimatedShape2DSVGRenderer());
+      case "svg-compact":
+        return new EasyAnimatorSVGView<>(new AnimatedShape2DSVGRenderer(true));
       case "text":
         return new EasyAnimatorTextualView<>();
       case "visual":
         return new EasyAnimatorVisualView<>(new AnimatedShape2DVisualRenderer());
+      case "visual-active":
+        return new EasyAnimatorActiveView<>(new AnimatedShape2DVisualRenderer());
       case "interactive":
         return new EasyAnimatorInteractiveView<>(new AnimatedShape2DVisualRenderer());
+      case "visual-buffered":
+        return new EasyAnimatorVisualView<>(new AnimatedShape2DVisualRenderer(), true);
+      case "interactive-buffered":
+        return new EasyAnimatorInteractiveView<>(new AnimatedShape2DVisualRenderer(), true);
+      case "visual-batched":
+        return new EasyAnimatorVisualView<>(new AnimatedShape2DVisualRenderer(true));
+      case "interactive-batched":
+        return new EasyAnimatorInteractiveView<>(new AnimatedShape2DVisualRenderer(true));
       default:
         throw new IllegalArgumentException("View type does not match any supported types.");
     }
@@ -4,6 +4,8 @@ import cs3500.animator.model.EasyAnimatorImmutableModel;
 
 import cs3500.animator.model.shapes.VisitableShape;
 
+import cs3500.animator.util.ProgressReadable;
+
 import cs3500.animator.view.renderers.VisualShapeRenderer;
 
 import java.awt.Dimension;
@@ -11,9 +13,11 @@ import java.awt.Toolkit;
 
 import java.util.Objects;
 
+import java.util.function.Supplier;
+
 import javax.swing.BoxLayout;
 import javax.swing.JFrame;
-import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
 import javax.swing.Timer;
 
@@ -33,6 +37,26 @@ public class EasyAnimatorVisualView<Rectangle, Ellipse, Cross> extends JFrame
   // Timer used to indicate tick changes
   protected Timer timer;
 
+  // Number of frames rendered ahead of playback by the frame pipeline, including the displayed one
+  private static final int NUM_PIPELINE_FRAMES = 8;
+
+  private final boolean pipelined;
+
+  // Pipeline rendering frames ahead of playback, if the view is pipelined
+  protected EasyAnimatorFramePipeline<Rectangle, Ellipse, Cross> framePipeline;
+
+  // Lowers the detail of rendered frames while they take longer to render than the tick delay
+  protected final EasyAnimatorLevelOfDetail levelOfDetail = new EasyAnimatorLevelOfDetail();
+
+  // Playback metrics, recorded by every frame rendered
+  protected final EasyAnimatorMetrics metrics = new EasyAnimatorMetrics(levelOfDetail);
+
+  // Delay in milliseconds between refreshes of the loading progress and first frame preview
+  private static final int LOADING_REFRESH_DELAY = 200;
+
+  // Timer refreshing the loading progress and first frame preview, while they are shown
+  private Timer loadingTimer;
+
   /**
    * Instantiates an {@code EasyAnimatorVisualView} object with the given shape renderer.
    *
@@ -41,9 +65,24 @@ public class EasyAnimatorVisualView<Rectangle, Ellipse, Cross> extends JFrame
    */
   public EasyAnimatorVisualView(VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer)
       throws NullPointerException {
+    this(shapeRenderer, false);
+  }
+
+  /**
+   * Instantiates an {@code EasyAnimatorVisualView} object with the given shape renderer, which
+   * optionally renders frames ahead of playback on a background thread so that the event dispatch
+   * thread only has to blit them.
+   *
+   * @param shapeRenderer Shape visitor used to render shapes
+   * @param pipelined     Whether to render frames ahead of playback
+   * @throws NullPointerException Shape renderer is null.
+   */
+  public EasyAnimatorVisualView(VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer,
+      boolean pipelined) throws NullPointerException {
     super("Easy Animator");
 
     this.shapeRenderer = Objects.requireNonNull(shapeRenderer, "Shape renderer is null.");
+    this.pipelined = pipelined;
   }
 
   @Override
@@ -57,36 +96,79 @@ public class EasyAnimatorVisualView<Rectangle, Ellipse, Cross> extends JFrame
       throw new IllegalArgumentException("Tick delay is non-positive.");
     }
 
-    // Set up shape renderer
-    shapeRenderer.resetTick();
+    // Replace the loading progress and first frame preview, if they are shown
+    if (loadingTimer != null) {
+      loadingTimer.stop();
+      loadingTimer = null;
+      getContentPane().removeAll();
+    }
 
-    // Stop old timer, if there is one
+    // Stop old timer and pipeline, if there are any
     if (timer != null) {
       timer.stop();
     }
+    if (framePipeline != null) {
+      framePipeline.stop();
+      framePipeline = null;
+    }
+
+    // Set up shape renderer
+    shapeRenderer.resetTick();
+    levelOfDetail.setTickDelay(tickDelay);
+    metrics.setModel(model);
 
     // Set up new timer
     int numTicks = model.getNumTicks();
     timer = new Timer(tickDelay, actionEvent -> {
-      // Repaint and update the shape renderer every tick
-      repaint();
-      Toolkit.getDefaultToolkit().sync();
+      if (framePipeline != null) {
+        // Display the next pre-rendered frame every tick, holding the current one if it is late
+        if (framePipeline.advance()) {
+          repaint();
+          Toolkit.getDefaultToolkit().sync();
+        }
+
+        // Stop the timer if the animation is over
+        if (framePipeline.isFinished()) {
+          timer.stop();
+        }
+      } else {
+        // Repaint and update the shape renderer every tick
+        repaint();
+        Toolkit.getDefaultToolkit().sync();
 
-      // Stop the timer if the animation is over
-      if (shapeRenderer.nextTick() >= numTicks) {
-        timer.stop();
+        // Stop the timer if the animation is over
+        if (shapeRenderer.nextTick() >= numTicks) {
+          timer.stop();
+        }
       }
+
+      // Slow the timer down while frames are dropped, so that playback keeps the same speed
+      timer.setDelay(tickDelay * levelOfDetail.getTicksPerFrame());
     });
     timer.setCoalesce(false);
 
     // Main interface panel
-    JPanel panel = new EasyAnimatorVisualViewPanel<>(model, shapeRenderer);
+    EasyAnimatorVisualViewPanel<Rectangle, Ellipse, Cross> panel =
+        new EasyAnimatorVisualViewPanel<>(model, shapeRenderer);
+    if (pipelined) {
+      framePipeline = new EasyAnimatorFramePipeline<>(model, shapeRenderer, NUM_PIPELINE_FRAMES,
+          panel.getBackground(), () -> {
+            repaint();
+            Toolkit.getDefaultToolkit().sync();
+          });
+      panel.setFramePipeline(framePipeline);
+      framePipeline.setLevelOfDetail(levelOfDetail);
+      framePipeline.setMetrics(metrics);
+      framePipeline.start();
+    } else {
+      panel.setLevelOfDetail(levelOfDetail);
+      panel.setMetrics(metrics);
+    }
 
     // Wrap main panel in a scroll pane
     JScrollPane scrollPane = new JScrollPane(panel, JScrollPane.VERTICAL_SCROLLBAR_ALWAYS,
         JScrollPane.HORIZONTAL_SCROLLBAR_ALWAYS);
-    scrollPane.setPreferredSize(new Dimension(Math.min(model.getWidth() + 18, 1024),
-        Math.min(model.getHeight() + 18, 720)));
+    scrollPane.setPreferredSize(getScrollPaneSize(model));
 
     // Set up frame
     setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
@@ -99,4 +181,102 @@ public class EasyAnimatorVisualView<Rectangle, Ellipse, Cross> extends JFrame
     setVisible(true);
     timer.start();
   }
+
+  /**
+   * Returns the playback metrics of this view, which can be registered with an MBean server to
+   * monitor playback remotely.
+   *
+   * @return Playback metrics of this view
+   */
+  public EasyAnimatorMetrics getMetrics() {
+    return metrics;
+  }
+
+  // Returns the preferred size of a scroll pane showing the given model's canvas
+  private static Dimension getScrollPaneSize(EasyAnimatorImmutableModel<?> model) {
+    return new Dimension(Math.min(model.getWidth() + 18, 1024),
+        Math.min(model.getHeight() + 18, 720));
+  }
+
+  /**
+   * Opens the window before the model to be rendered is available, showing how much of its input
+   * has been read and a preview of its first frame, which are refreshed until the model is
+   * rendered. The preview is replaced whenever the given supplier returns a new one.
+   *
+   * @param progress   Readable counting how much input has been read
+   * @param firstFrame Supplier of the latest first frame preview, which returns null if it has
+   *                   not changed and may throw an IllegalStateException if it is invalid
+   * @throws NullPointerException Readable or first frame supplier is null.
+   */
+  public void showLoading(ProgressReadable progress,
+      Supplier<? extends EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse,
+          Cross>>> firstFrame) throws NullPointerException {
+    Objects.requireNonNull(progress, "Readable is null.");
+    Objects.requireNonNull(firstFrame, "First frame supplier is null.");
+
+    // Progress is shown as counts, since the length of the input is unknown
+    JProgressBar progressBar = new JProgressBar();
+    progressBar.setIndeterminate(true);
+    progressBar.setStringPainted(true);
+    progressBar.setString(getLoadingText(progress));
+
+    // The preview is empty until the canvas has been read
+    JScrollPane preview = new JScrollPane(JScrollPane.VERTICAL_SCROLLBAR_ALWAYS,
+        JScrollPane.HORIZONTAL_SCROLLBAR_ALWAYS);
+    preview.setPreferredSize(new Dimension(400, 300));
+
+    if (loadingTimer != null) {
+      loadingTimer.stop();
+    }
+    shapeRenderer.resetTick();
+    loadingTimer = new Timer(LOADING_REFRESH_DELAY, actionEvent -> {
+      progressBar.setString(getLoadingText(progress));
+
+      EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>> model;
+      try {
+        model = firstFrame.get();
+      } catch (IllegalStateException e) {
+        // Keep the last valid preview; the error is reported once parsing reaches it
+        return;
+      }
+      if (model != null) {
+        boolean firstPreview = preview.getViewport().getView() == null;
+        preview.setViewportView(new EasyAnimatorVisualViewPanel<>(model, shapeRenderer));
+        if (firstPreview) {
+          preview.setPreferredSize(getScrollPaneSize(model));
+          pack();
+        }
+      }
+    });
+
+    // Set up frame
+    getContentPane().removeAll();
+    setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+    setLayout(new BoxLayout(getContentPane(), BoxLayout.Y_AXIS));
+    add(progressBar);
+    add(preview);
+    pack();
+
+    // Show the interface and start refreshing it
+    setVisible(true);
+    loadingTimer.start();
+  }
+
+  /**
+   * Stops refreshing the loading progress and closes the window, for when the model being loaded
+   * will never be rendered. Does nothing if loading is not being shown.
+   */
+  public void cancelLoading() {
+    if (loadingTimer != null) {
+      loadingTimer.stop();
+      loadingTimer = null;
+      dispose();
+    }
+  }
+
+  // Returns the text describing how much input the given readable has read
+  private static String getLoadingText(ProgressReadable progress) {
+    return String.format("Loading: %,d lines (%,d KB) read", progress.getLinesRead(),
+        progress.getCharsRead() / 1024);
+  }
 }
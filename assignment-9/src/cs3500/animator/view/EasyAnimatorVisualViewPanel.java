@@ -4,12 +4,18 @@ import cs3500.animator.model.EasyAnimatorImmutableModel;
 
 import cs3500.animator.model.shapes.VisitableShape;
 
+import cs3500.animator.util.AnimatorEvents;
+import cs3500.animator.util.AnimatorEvents.FrameEvent;
+
 import cs3500.animator.view.renderers.VisualShapeRenderer;
+import cs3500.animator.view.renderers.VisualShapeRenderer.DetailLevel;
 
 import java.awt.Dimension;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 
+import java.awt.image.BufferedImage;
+
 import java.util.Objects;
 
 import javax.swing.JPanel;
@@ -26,6 +32,16 @@ public class EasyAnimatorVisualViewPanel<Rectangle, Ellipse, Cross> extends JPan
   private final EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse, Cross>>
       model;
   private final VisualShapeRenderer<Rectangle, Ellipse, Cross> shapeRenderer;
+  private final EasyAnimatorShapeIndex<Rectangle, Ellipse, Cross> shapeIndex;
+
+  // Pipeline supplying pre-rendered frames, if frames are not rendered while painting
+  private EasyAnimatorFramePipeline<Rectangle, Ellipse, Cross> framePipeline;
+
+  // Level of detail to record render times with, if detail adapts to them
+  private EasyAnimatorLevelOfDetail levelOfDetail;
+
+  // Playback metrics to record render times and allocations with, if any
+  private EasyAnimatorMetrics metrics;
 
   /**
    * Instantiates an {@code EasyAnimatorVisualViewPanel} object with the given model and shape
@@ -43,6 +59,40 @@ public class EasyAnimatorVisualViewPanel<Rectangle, Ellipse, Cross> extends JPan
 
     this.model = Objects.requireNonNull(model, "Model is null.");
     this.shapeRenderer = Objects.requireNonNull(shapeRenderer, "Shape renderer is null.");
+    this.shapeIndex = new EasyAnimatorShapeIndex<>(shapeRenderer);
+  }
+
+  /**
+   * Sets the pipeline to take pre-rendered frames from, after which painting only blits the
+   * pipeline's displayed frame instead of rendering the model.
+   *
+   * @param framePipeline Pipeline supplying pre-rendered frames
+   * @throws NullPointerException Frame pipeline is null.
+   */
+  public void setFramePipeline(EasyAnimatorFramePipeline<Rectangle, Ellipse, Cross> framePipeline)
+      throws NullPointerException {
+    this.framePipeline = Objects.requireNonNull(framePipeline, "Frame pipeline is null.");
+  }
+
+  /**
+   * Sets the level of detail which the render time of every painted frame is recorded with,
+   * applying each new detail level to the shape renderer before painting the next frame.
+   *
+   * @param levelOfDetail Level of detail to record render times with, or null to keep the shape
+   *                      renderer's detail level as it is
+   */
+  public void setLevelOfDetail(EasyAnimatorLevelOfDetail levelOfDetail) {
+    this.levelOfDetail = levelOfDetail;
+  }
+
+  /**
+   * Sets the playback metrics which the render time and heap allocation of every painted frame are
+   * recorded with.
+   *
+   * @param metrics Playback metrics to record frames with, or null to not record them
+   */
+  public void setMetrics(EasyAnimatorMetrics metrics) {
+    this.metrics = metrics;
   }
 
   @Override
@@ -52,17 +102,54 @@ public class EasyAnimatorVisualViewPanel<Rectangle, Ellipse, Cross> extends JPan
 
   @Override
   public void paintComponent(Graphics graphics) {
+    if (framePipeline != null) {
+      // Blit the frame which the pipeline has ready, if any
+      BufferedImage frame = framePipeline.getDisplayedImage();
+      if (frame != null) {
+        graphics.drawImage(frame, 0, 0, null);
+      }
+      return;
+    }
+
     // Set up graphics object and pass to shape renderer
+    FrameEvent event = AnimatorEvents.begin(FrameEvent::new);
     Graphics2D graphics2D = (Graphics2D) graphics;
     graphics2D.translate(-model.getLeftmostX(), -model.getTopmostY());
     shapeRenderer.setOutput(graphics2D);
 
-    // Cycle through model's shapes and render each of them
-    for (VisitableShape<Rectangle, Ellipse, Cross> shape : model.getShapes()) {
+    // Cycle through the shapes visible at the current tick and render each of them
+    long allocatedStart = metrics != null ? EasyAnimatorMetrics.getThreadAllocatedBytes() : -1;
+    long renderStart = System.nanoTime();
+    shapeIndex.seek(model, shapeRenderer.getTick());
+    int shapesVisited = 0;
+    for (int i = shapeIndex.nextVisible(0); i >= 0; i = shapeIndex.nextVisible(i + 1)) {
+      shapesVisited++;
       try {
-        shape.accept(shapeRenderer);
+        shapeIndex.getShape(i).accept(shapeRenderer);
       } catch (Exception ignored) {
       }
     }
+    shapeRenderer.flush();
+
+    if (event != null) {
+      event.tick = shapeRenderer.getTick();
+      event.shapesVisited = shapesVisited;
+      event.shapesChanged = shapeIndex.getNumChanged();
+      event.shapesDrawn = shapeRenderer.getShapesDrawn();
+      event.drawCallsSaved = shapeRenderer.getDrawCallsSaved();
+      event.commit();
+    }
+
+    long renderNanos = System.nanoTime() - renderStart;
+    if (metrics != null) {
+      metrics.recordFrame(renderNanos, allocatedStart < 0 ? -1
+          : EasyAnimatorMetrics.getThreadAllocatedBytes() - allocatedStart);
+    }
+    if (levelOfDetail != null) {
+      DetailLevel detailLevel = levelOfDetail.recordFrame(renderNanos);
+      if (detailLevel != null) {
+        shapeRenderer.setDetailLevel(detailLevel);
+      }
+    }
   }
 }
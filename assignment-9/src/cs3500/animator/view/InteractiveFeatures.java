@@ -1,5 +1,7 @@
 package cs3500.animator.view;
 
+import cs3500.animator.view.renderers.VisualShapeRenderer.DetailLevel;
+
 /**
  * Listener interface for classes using {@link EasyAnimatorInteractiveView}.
  */
@@ -37,4 +39,38 @@ public interface InteractiveFeatures {
    * @throws IllegalArgumentException Tick delay is non-positive.
    */
   void setDelay(int delay) throws IllegalArgumentException;
+
+  /**
+   * Returns the detail level the animation is currently rendered at, which is lowered while frames
+   * take longer to render than the tick delay allows and raised again once they are quick.
+   *
+   * @return Current detail level
+   */
+  DetailLevel getDetailLevel();
+
+  /**
+   * Sets the ratios of frame render time to tick delay above which the detail level is lowered and
+   * below which it is raised. A degrade threshold of infinity keeps full detail.
+   *
+   * @param degradeThreshold Ratio above which the detail level is lowered
+   * @param restoreThreshold Ratio below which the detail level is raised
+   * @throws IllegalArgumentException Restore threshold is non-positive or not less than the
+   *                                  degrade threshold.
+   */
+  void setDetailThresholds(double degradeThreshold, double restoreThreshold)
+      throws IllegalArgumentException;
+
+  /**
+   * Returns the ratio of frame render time to tick delay above which the detail level is lowered.
+   *
+   * @return Degrade threshold
+   */
+  double getDegradeThreshold();
+
+  /**
+   * Returns the ratio of frame render time to tick delay below which the detail level is raised.
+   *
+   * @return Restore threshold
+   */
+  double getRestoreThreshold();
 }
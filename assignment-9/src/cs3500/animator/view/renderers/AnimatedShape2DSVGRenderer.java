@@ -10,21 +10,110 @@ import cs3500.animator.model.shapes.AnimatedCross;
 import cs3500.animator.model.shapes.AnimatedCross.CrossRenderData;
 import cs3500.animator.model.shapes.AnimatedEllipse;
 import cs3500.animator.model.shapes.AnimatedRectangle;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.util.AnimatorEvents;
+import cs3500.animator.util.AnimatorEvents.SVGShapeEvent;
 
 import java.io.IOException;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents a shape visitor for rendering shapes as SVG entries as defined by {@link
- * SVGShapeRenderer}.
+ * SVGShapeRenderer}. In compact mode, entries are size-optimized: colors are written in hex,
+ * translations are written as a single {@code <animateMotion>} tag, visibility is switched with a
+ * {@code <set>} tag, and attributes which hold their default values are omitted.
  */
 public class AnimatedShape2DSVGRenderer
     implements SVGShapeRenderer<AnimatedRectangle, AnimatedEllipse, AnimatedCross> {
 
+  private final boolean compact;
+
   private Appendable output;
   private int tickDelay = -1;
 
+  // Rendered SVG entries of previously visited shapes, keyed by shape name. Entries of shapes not
+  // visited since the output was last set are pruned whenever it is set again, so the cache only
+  // holds shapes of the most recent render.
+  private final Map<String, Fragment> fragmentCache = new HashMap<>();
+  private final Set<String> visitedNames = new HashSet<>();  // Shapes visited since output set
+
+  // SVG entry of a shape, valid only for the shape version and tick delay it was rendered with
+  private static final class Fragment {
+
+    private final long version;
+    private final int tickDelay;
+    private final String text;
+
+    private Fragment(long version, int tickDelay, String text) {
+      this.version = version;
+      this.tickDelay = tickDelay;
+      this.text = text;
+    }
+  }
+
+  /**
+   * Instantiates an {@code AnimatedShape2DSVGRenderer} object which renders full SVG entries.
+   */
+  public AnimatedShape2DSVGRenderer() {
+    this(false);
+  }
+
+  /**
+   * Instantiates an {@code AnimatedShape2DSVGRenderer} object which renders either full or
+   * size-optimized SVG entries.
+   *
+   * @param compact Whether to render size-optimized SVG entries
+   */
+  public AnimatedShape2DSVGRenderer(boolean compact) {
+    this.compact = compact;
+  }
+
+  // Writes the SVG entry of a single shape to output
+  private interface FragmentWriter {
+
+    void write() throws IOException;
+  }
+
+  // Appends the SVG entry of the given shape to output, re-rendering it with the given writer only
+  // if the shape has been modified or the tick delay has changed since it was last rendered
+  private void appendFragment(AnimatedShape2D shape, FragmentWriter writer) throws IOException {
+    SVGShapeEvent event = AnimatorEvents.begin(SVGShapeEvent::new);
+    visitedNames.add(shape.getName());
+    Fragment fragment = fragmentCache.get(shape.getName());
+
+    boolean cached = fragment != null && fragment.version == shape.getVersion()
+        && fragment.tickDelay == tickDelay;
+    if (!cached) {
+      // Redirect output to a buffer while the shape is rendered
+      Appendable realOutput = output;
+      StringBuilder text = new StringBuilder();
+      output = text;
+      try {
+        writer.write();
+      } finally {
+        output = realOutput;
+      }
+
+      fragment = new Fragment(shape.getVersion(), tickDelay, text.toString());
+      fragmentCache.put(shape.getName(), fragment);
+    }
+
+    output.append(fragment.text);
+
+    if (event != null) {
+      event.shape = shape.getName();
+      event.cached = cached;
+      event.characters = fragment.text.length();
+      event.commit();
+    }
+  }
+
   // Appends all of the points of a cross to output for rendering as a polygon
   private void appendCrossPoints(CrossRenderData renderData) throws IOException {
     int[] xPoints = renderData.getXPoints();
@@ -56,6 +145,15 @@ public class AnimatedShape2DSVGRenderer
       throw new IllegalStateException("Tick delay is not set.");
     }
 
+    if (compact) {
+      appendFragment(cross, () -> writeCompactCross(cross));
+    } else {
+      appendFragment(cross, () -> writeCross(cross));
+    }
+  }
+
+  // Writes the SVG entry of the given cross to output
+  private void writeCross(AnimatedCross cross) throws IOException {
     // Write the polygon tag to the appendable with the initial shape state
     Color startColor = cross.getColor(cross.getStartTick());
     CrossRenderData startRenderData = cross.getRenderData(cross.getStartTick());
@@ -132,6 +230,15 @@ public class AnimatedShape2DSVGRenderer
       throw new IllegalStateException("Tick delay is not set.");
     }
 
+    if (compact) {
+      appendFragment(rectangle, () -> writeCompactRectangle(rectangle));
+    } else {
+      appendFragment(rectangle, () -> writeRectangle(rectangle));
+    }
+  }
+
+  // Writes the SVG entry of the given rectangle to output
+  private void writeRectangle(AnimatedRectangle rectangle) throws IOException {
     // Write the rect tag to the appendable with the initial shape state
     Position2D startPosition = rectangle.getPosition(rectangle.getStartTick());
     Dimensions2D startDimensions = rectangle.getDimensions(rectangle.getStartTick());
@@ -244,8 +351,17 @@ public class AnimatedShape2DSVGRenderer
       throw new IllegalStateException("Tick delay is not set.");
     }
 
-    // NOTE: We decided against abstracting out the common code between visitEllipse and
-    // visitRectangle because their differences, like in attribute names and radius calculations,
+    if (compact) {
+      appendFragment(ellipse, () -> writeCompactEllipse(ellipse));
+    } else {
+      appendFragment(ellipse, () -> writeEllipse(ellipse));
+    }
+  }
+
+  // Writes the SVG entry of the given ellipse to output
+  private void writeEllipse(AnimatedEllipse ellipse) throws IOException {
+    // NOTE: We decided against abstracting out the common code between writeEllipse and
+    // writeRectangle because their differences, like in attribute names and radius calculations,
     // were non-trivial, in that an abstraction would be overly-complex and would harm readability.
 
     // Write the ellipse tag to the appendable with the initial shape state
@@ -342,8 +458,208 @@ public class AnimatedShape2DSVGRenderer
     output.append("</ellipse>\n");
   }
 
+  // Rounds the given coordinate or length to the nearest integer
+  private static int round(double value) {
+    return (int) (value + 0.5);
+  }
+
+  // Appends the given color to output in the shortest hex notation which represents it exactly
+  private void appendHexColor(Color color) throws IOException {
+    int rgb = color.toPacked();
+    if (((rgb >> 4) & 0x0F0F0F) == (rgb & 0x0F0F0F)) {
+      output.append(String.format("#%x%x%x",
+          color.getRed() & 0xF, color.getGreen() & 0xF, color.getBlue() & 0xF));
+    } else {
+      output.append(String.format("#%06x", rgb));
+    }
+  }
+
+  // Appends the given integer attribute to output, omitting it if it holds its default of zero
+  private void appendCompactAttribute(String name, int value) throws IOException {
+    if (value != 0) {
+      output.append(' ').append(name).append("=\"").append(Integer.toString(value)).append('"');
+    }
+  }
+
+  // Appends the start of the opening tag of a compact SVG entry for the given shape to output
+  private void appendCompactOpening(String tag, AnimatedShape2D shape) throws IOException {
+    output.append('<').append(tag).append(" id=\"").append(shape.getName()).append('"');
+  }
+
+  // Appends the initial fill color of the given shape to output, along with hidden visibility if
+  // the shape does not start at the first tick
+  private void appendCompactStyle(AnimatedShape2D shape) throws IOException {
+    output.append(" fill=\"");
+    appendHexColor(shape.getColor(shape.getStartTick()));
+    output.append('"');
+    if (shape.getStartTick() > 0) {
+      output.append(" visibility=\"hidden\"");
+    }
+  }
+
+  // Appends the set tag which makes the given shape visible at its start tick to output, if the
+  // shape does not start at the first tick
+  private void appendCompactVisibility(AnimatedShape2D shape) throws IOException {
+    if (shape.getStartTick() > 0) {
+      output.append(String.format(
+          "<set attributeName=\"visibility\" to=\"visible\" begin=\"%dms\"/>\n",
+          shape.getStartTick() * tickDelay
+      ));
+    }
+  }
+
+  // Appends the timing attributes of the given motion to output
+  private void appendCompactTiming(Motion2D motion) throws IOException {
+    output.append(String.format(" begin=\"%dms\" dur=\"%dms\"",
+        motion.getStartTick() * tickDelay,
+        (motion.getEndTick() - motion.getStartTick()) * tickDelay));
+  }
+
+  // Appends a compact animate tag for the given attribute over the given motion to output, if the
+  // attribute changes over the motion
+  private void appendCompactAnimate(String name, Motion2D motion, int from, int to)
+      throws IOException {
+    if (from != to) {
+      output.append("<animate attributeName=\"").append(name).append('"');
+      appendCompactTiming(motion);
+      output.append(String.format(" from=\"%d\" to=\"%d\" fill=\"freeze\"/>\n", from, to));
+    }
+  }
+
+  // Appends a compact animate tag for the fill color over the given motion to output, if the color
+  // changes over the motion
+  private void appendCompactFill(Motion2D motion) throws IOException {
+    Color startColor = motion.getColor(motion.getStartTick());
+    Color endColor = motion.getColor(motion.getEndTick());
+
+    if (!startColor.equals(endColor)) {
+      output.append("<animate attributeName=\"fill\"");
+      appendCompactTiming(motion);
+      output.append(" from=\"");
+      appendHexColor(startColor);
+      output.append("\" to=\"");
+      appendHexColor(endColor);
+      output.append("\" fill=\"freeze\"/>\n");
+    }
+  }
+
+  // Appends an animateMotion tag translating the shape between the given offsets from its initial
+  // position over the given motion to output, if the offsets differ
+  private void appendCompactTranslation(Motion2D motion, int fromX, int fromY, int toX, int toY)
+      throws IOException {
+    if (fromX != toX || fromY != toY) {
+      output.append("<animateMotion");
+      appendCompactTiming(motion);
+      output.append(String.format(" path=\"M%d,%dL%d,%d\" fill=\"freeze\"/>\n",
+          fromX, fromY, toX, toY));
+    }
+  }
+
+  // Writes the compact SVG entry of the given cross to output
+  private void writeCompactCross(AnimatedCross cross) throws IOException {
+    appendCompactOpening("polygon", cross);
+    appendCompactStyle(cross);
+    output.append(" points=");
+    appendCrossPoints(cross.getRenderData(cross.getStartTick()));
+    output.append(">\n");
+    appendCompactVisibility(cross);
+
+    for (Motion2D motion : cross.getMotions()) {
+      appendCompactFill(motion);
+
+      CrossRenderData startRenderData = cross.getRenderData(motion.getStartTick());
+      CrossRenderData endRenderData = cross.getRenderData(motion.getEndTick());
+      if (!startRenderData.equals(endRenderData)) {
+        output.append("<animate attributeName=\"points\"");
+        appendCompactTiming(motion);
+        output.append(" from=");
+        appendCrossPoints(startRenderData);
+        output.append(" to=");
+        appendCrossPoints(endRenderData);
+        output.append(" fill=\"freeze\"/>\n");
+      }
+    }
+
+    output.append("</polygon>\n");
+  }
+
+  // Writes the compact SVG entry of the given rectangle to output, placing the rectangle at its
+  // initial position and translating it from there
+  private void writeCompactRectangle(AnimatedRectangle rectangle) throws IOException {
+    Position2D origin = rectangle.getPosition(rectangle.getStartTick());
+    Dimensions2D startDimensions = rectangle.getDimensions(rectangle.getStartTick());
+    int originX = round(origin.getX());
+    int originY = round(origin.getY());
+
+    appendCompactOpening("rect", rectangle);
+    appendCompactAttribute("x", originX);
+    appendCompactAttribute("y", originY);
+    appendCompactAttribute("width", round(startDimensions.getWidth()));
+    appendCompactAttribute("height", round(startDimensions.getHeight()));
+    appendCompactStyle(rectangle);
+    output.append(">\n");
+    appendCompactVisibility(rectangle);
+
+    for (Motion2D motion : rectangle.getMotions()) {
+      Position2D startPosition = motion.getPosition(motion.getStartTick());
+      Position2D endPosition = motion.getPosition(motion.getEndTick());
+      Dimensions2D endDimensions = motion.getDimensions(motion.getEndTick());
+      startDimensions = motion.getDimensions(motion.getStartTick());
+
+      appendCompactTranslation(motion,
+          round(startPosition.getX()) - originX, round(startPosition.getY()) - originY,
+          round(endPosition.getX()) - originX, round(endPosition.getY()) - originY);
+      appendCompactAnimate("width", motion,
+          round(startDimensions.getWidth()), round(endDimensions.getWidth()));
+      appendCompactAnimate("height", motion,
+          round(startDimensions.getHeight()), round(endDimensions.getHeight()));
+      appendCompactFill(motion);
+    }
+
+    output.append("</rect>\n");
+  }
+
+  // Writes the compact SVG entry of the given ellipse to output, placing the ellipse at its initial
+  // center and translating it from there
+  private void writeCompactEllipse(AnimatedEllipse ellipse) throws IOException {
+    Position2D origin = ellipse.getPosition(ellipse.getStartTick());
+    Dimensions2D startDimensions = ellipse.getDimensions(ellipse.getStartTick());
+    int originX = round(origin.getX() + startDimensions.getWidth() / 2);
+    int originY = round(origin.getY() + startDimensions.getHeight() / 2);
+
+    appendCompactOpening("ellipse", ellipse);
+    appendCompactAttribute("cx", originX);
+    appendCompactAttribute("cy", originY);
+    appendCompactAttribute("rx", round(startDimensions.getWidth() / 2));
+    appendCompactAttribute("ry", round(startDimensions.getHeight() / 2));
+    appendCompactStyle(ellipse);
+    output.append(">\n");
+    appendCompactVisibility(ellipse);
+
+    for (Motion2D motion : ellipse.getMotions()) {
+      Position2D startPosition = motion.getPosition(motion.getStartTick());
+      Position2D endPosition = motion.getPosition(motion.getEndTick());
+      Dimensions2D endDimensions = motion.getDimensions(motion.getEndTick());
+      startDimensions = motion.getDimensions(motion.getStartTick());
+
+      appendCompactTranslation(motion,
+          round(startPosition.getX() + startDimensions.getWidth() / 2) - originX,
+          round(startPosition.getY() + startDimensions.getHeight() / 2) - originY,
+          round(endPosition.getX() + endDimensions.getWidth() / 2) - originX,
+          round(endPosition.getY() + endDimensions.getHeight() / 2) - originY);
+      appendCompactAnimate("rx", motion,
+          round(startDimensions.getWidth() / 2), round(endDimensions.getWidth() / 2));
+      appendCompactAnimate("ry", motion,
+          round(startDimensions.getHeight() / 2), round(endDimensions.getHeight() / 2));
+      appendCompactFill(motion);
+    }
+
+    output.append("</ellipse>\n");
+  }
+
   /**
-   * Sets the output appendable.
+   * Sets the output appendable, which starts a new render. Cached entries of shapes not visited
+   * since the output was last set are discarded.
    *
    * @param output Appendable to send output to
    * @throws NullPointerException Output appendable is null.
@@ -351,6 +667,18 @@ public class AnimatedShape2DSVGRenderer
   @Override
   public void setOutput(Appendable output) throws NullPointerException {
     this.output = Objects.requireNonNull(output, "Output appendable is null.");
+
+    fragmentCache.keySet().retainAll(visitedNames);
+    visitedNames.clear();
+  }
+
+  /**
+   * Returns the number of shapes whose rendered SVG entries are cached.
+   *
+   * @return Number of cached entries
+   */
+  public int getNumCached() {
+    return fragmentCache.size();
   }
 
   @Override
@@ -0,0 +1,261 @@
+package cs3500.animator.view.renderers;
+
+import cs3500.animator.model.EasyAnimatorImmutableModel;
+
+import cs3500.animator.model.attributes.Dimensions2D;
+import cs3500.animator.model.attributes.Position2D;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedCross.CrossRenderData;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.view.renderers.VisualShapeRenderer.RenderType;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+import java.awt.image.BufferedImage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Rasterizes frames of an animation for very large canvases by splitting the canvas into square
+ * tiles, binning each shape into the tiles its state at the frame's tick overlaps, and rendering
+ * the tiles concurrently on a fork-join pool. Each tile is drawn by an {@link
+ * AnimatedShape2DVisualRenderer} clipped to the tile, so the output is pixel-identical to rendering
+ * the whole frame serially with that renderer. Outlines are the exception: Java2D clips stroked
+ * paths to the clip region before rasterizing them, which shifts pixels along tile edges, so frames
+ * rendered as outlines are drawn as a single tile.
+ */
+public class AnimatedShape2DTiledRasterizer {
+
+  private final int tileSize;
+  private final ForkJoinPool pool;
+  private RenderType renderType;
+
+  /**
+   * Instantiates an {@code AnimatedShape2DTiledRasterizer} object with 256 pixel tiles rendered on
+   * the common fork-join pool.
+   */
+  public AnimatedShape2DTiledRasterizer() {
+    this(256, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Instantiates an {@code AnimatedShape2DTiledRasterizer} object with the given tile size and
+   * fork-join pool.
+   *
+   * @param tileSize Width and height of each tile in pixels
+   * @param pool     Pool to render tiles on
+   * @throws IllegalArgumentException Tile size is non-positive.
+   * @throws NullPointerException     Pool is null.
+   */
+  public AnimatedShape2DTiledRasterizer(int tileSize, ForkJoinPool pool)
+      throws IllegalArgumentException, NullPointerException {
+    if (tileSize <= 0) {
+      throw new IllegalArgumentException("Tile size is non-positive.");
+    }
+
+    this.tileSize = tileSize;
+    this.pool = Objects.requireNonNull(pool, "Pool is null.");
+    this.renderType = RenderType.FILL;
+  }
+
+  /**
+   * Sets the render type to the given value.
+   *
+   * @param type Render type to be used
+   * @throws NullPointerException Render type is null.
+   */
+  public void setRenderType(RenderType type) throws NullPointerException {
+    this.renderType = Objects.requireNonNull(type, "Render type is null.");
+  }
+
+  // Region of the canvas along with the shapes which overlap it, in drawing order
+  private static final class Tile {
+
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+    private final List<AnimatedShape2D> shapes = new ArrayList<>();
+
+    private Tile(int x, int y, int width, int height) {
+      this.x = x;
+      this.y = y;
+      this.width = width;
+      this.height = height;
+    }
+  }
+
+  // Renders a range of tiles, splitting the range in half until single tiles remain
+  private final class TileTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Tile> tiles;
+    private final int from;
+    private final int to;
+    private final int tick;
+    private final BufferedImage image;
+    private final Color background;
+    private final int leftmostX;
+    private final int topmostY;
+
+    private TileTask(List<Tile> tiles, int from, int to, int tick, BufferedImage image,
+        Color background, int leftmostX, int topmostY) {
+      this.tiles = tiles;
+      this.from = from;
+      this.to = to;
+      this.tick = tick;
+      this.image = image;
+      this.background = background;
+      this.leftmostX = leftmostX;
+      this.topmostY = topmostY;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new TileTask(tiles, from, middle, tick, image, background, leftmostX, topmostY),
+            new TileTask(tiles, middle, to, tick, image, background, leftmostX, topmostY));
+        return;
+      }
+
+      Tile tile = tiles.get(from);
+      Graphics2D graphics = image.createGraphics();
+      try {
+        graphics.setClip(tile.x, tile.y, tile.width, tile.height);
+        graphics.setColor(background);
+        graphics.fillRect(tile.x, tile.y, tile.width, tile.height);
+        graphics.translate(-leftmostX, -topmostY);
+
+        // Each tile gets its own renderer, since renderers hold their output and tick
+        AnimatedShape2DVisualRenderer shapeRenderer = new AnimatedShape2DVisualRenderer();
+        shapeRenderer.setRenderType(renderType);
+        shapeRenderer.setTick(tick);
+        shapeRenderer.setOutput(graphics);
+        for (AnimatedShape2D shape : tile.shapes) {
+          try {
+            shape.accept(shapeRenderer);
+          } catch (Exception ignored) {
+          }
+        }
+      } finally {
+        graphics.dispose();
+      }
+    }
+  }
+
+  /**
+   * Renders the given tick of the model into the given image, which is first cleared to the given
+   * background color. The image is positioned at the model's leftmost and topmost coordinates.
+   *
+   * @param model      Easy Animator model to be rendered
+   * @param tick       Tick to be rendered
+   * @param image      Image to render into
+   * @param background Color to clear the image to
+   * @throws NullPointerException     Model, image or background color is null.
+   * @throws IllegalArgumentException Tick is negative.
+   */
+  public void render(EasyAnimatorImmutableModel<? extends AnimatedShape2D> model, int tick,
+      BufferedImage image, Color background)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(model, "Model is null.");
+    Objects.requireNonNull(image, "Image is null.");
+    Objects.requireNonNull(background, "Background color is null.");
+    if (tick < 0) {
+      throw new IllegalArgumentException("Tick is negative.");
+    }
+
+    // Split the image into tiles, or use one tile for outlines so they are not clipped differently
+    int size = renderType == RenderType.OUTLINE
+        ? Math.max(Math.max(image.getWidth(), image.getHeight()), 1) : tileSize;
+    int columns = (image.getWidth() + size - 1) / size;
+    int rows = (image.getHeight() + size - 1) / size;
+    List<Tile> tiles = new ArrayList<>(columns * rows);
+    for (int row = 0; row < rows; row++) {
+      for (int column = 0; column < columns; column++) {
+        int x = column * size;
+        int y = row * size;
+        tiles.add(new Tile(x, y, Math.min(size, image.getWidth() - x),
+            Math.min(size, image.getHeight() - y)));
+      }
+    }
+    if (tiles.isEmpty()) {
+      return;
+    }
+
+    // Bin each visible shape into the tiles its bounds overlap, keeping drawing order
+    int leftmostX = model.getLeftmostX();
+    int topmostY = model.getTopmostY();
+    int[] bounds = new int[4];
+    for (AnimatedShape2D shape : model.getShapes()) {
+      if (!getBounds(shape, tick, bounds)) {
+        continue;
+      }
+
+      int firstColumn = Math.max(Math.floorDiv(bounds[0] - leftmostX, size), 0);
+      int lastColumn = Math.min(Math.floorDiv(bounds[2] - leftmostX, size), columns - 1);
+      int firstRow = Math.max(Math.floorDiv(bounds[1] - topmostY, size), 0);
+      int lastRow = Math.min(Math.floorDiv(bounds[3] - topmostY, size), rows - 1);
+      for (int row = firstRow; row <= lastRow; row++) {
+        for (int column = firstColumn; column <= lastColumn; column++) {
+          tiles.get(row * columns + column).shapes.add(shape);
+        }
+      }
+    }
+
+    pool.invoke(new TileTask(tiles, 0, tiles.size(), tick, image, background, leftmostX,
+        topmostY));
+  }
+
+  // Writes the inclusive pixel bounds of the given shape at the given tick to the given array as
+  // left, top, right and bottom, with a pixel of margin for outlines, returning false instead if
+  // the shape is not drawn at the tick
+  private static boolean getBounds(AnimatedShape2D shape, int tick, int[] bounds) {
+    int stateTick;
+    try {
+      if (tick < shape.getStartTick()) {
+        return false;
+      }
+      stateTick = Math.min(tick, shape.getEndTick());
+    } catch (IllegalStateException e) {
+      // Shape has no motions, so it is never drawn
+      return false;
+    }
+
+    if (shape instanceof AnimatedCross) {
+      CrossRenderData renderData = ((AnimatedCross) shape).getRenderData(stateTick);
+      int[] xPoints = renderData.getXPoints();
+      int[] yPoints = renderData.getYPoints();
+      bounds[0] = bounds[2] = xPoints[0];
+      bounds[1] = bounds[3] = yPoints[0];
+      for (int i = 1; i < CrossRenderData.NUM_POINTS; i++) {
+        bounds[0] = Math.min(bounds[0], xPoints[i]);
+        bounds[1] = Math.min(bounds[1], yPoints[i]);
+        bounds[2] = Math.max(bounds[2], xPoints[i]);
+        bounds[3] = Math.max(bounds[3], yPoints[i]);
+      }
+    } else {
+      Position2D position = shape.getPosition(stateTick);
+      Dimensions2D dimensions = shape.getDimensions(stateTick);
+      bounds[0] = (int) (position.getX() + 0.5);
+      bounds[1] = (int) (position.getY() + 0.5);
+      bounds[2] = bounds[0] + (int) (dimensions.getWidth() + 0.5);
+      bounds[3] = bounds[1] + (int) (dimensions.getHeight() + 0.5);
+    }
+
+    bounds[0]--;
+    bounds[1]--;
+    bounds[2]++;
+    bounds[3]++;
+    return true;
+  }
+}
@@ -17,34 +17,89 @@ import cs3500.animator.model.shapes.AnimatedShape2D;
 import cs3500.animator.model.shapes.VisitableShape;
 
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 
 /**
- * Represents a shape visitor for visually rendering shapes using the Swing framework.
+ * Represents a shape visitor for visually rendering shapes using the Swing framework. In batching
+ * mode, shapes of the same color and primitive are gathered into a single path and drawn with one
+ * call, as described by {@link VisualShapeRenderer#flush()}.
  */
 public class AnimatedShape2DVisualRenderer
     implements VisualShapeRenderer<AnimatedRectangle, AnimatedEllipse, AnimatedCross> {
 
+  // Maximum number of batches waiting to be drawn, beyond which the earliest batch is drawn
+  private static final int MAX_PENDING_BATCHES = 16;
+
+  // Primitive shapes which are batched separately
+  private enum Primitive {
+    RECTANGLE, ELLIPSE, POLYGON
+  }
+
+  // Shapes of a single color and primitive waiting to be drawn together
+  private static final class Batch {
+
+    private final Path2D.Float path = new Path2D.Float();
+    private int rgb;
+    private Primitive primitive;
+    private int minX;  // Pixel bounds covered by the batched shapes, exclusive at the maximum
+    private int minY;
+    private int maxX;
+    private int maxY;
+
+    // Returns whether the given pixel bounds overlap the bounds of the batched shapes
+    private boolean overlaps(int x, int y, int width, int height) {
+      return x < maxX && minX < x + width && y < maxY && minY < y + height;
+    }
+  }
+
+  private final boolean batching;
+  private final List<Batch> pendingBatches = new ArrayList<>();  // Batches in drawing order
+  private final Deque<Batch> spareBatches = new ArrayDeque<>();  // Drawn batches for reuse
+  private final Ellipse2D.Float ellipse = new Ellipse2D.Float();  // Reused to append ellipses
+  private int drawCallsSaved;  // Shapes drawn as part of an earlier shape's call since output set
+  private int shapesDrawn;  // Shapes drawn or batched since output set
+
   private Graphics2D output;
+  private Object outputAntialiasing;  // Antialiasing hint the output graphics object was given
   private PlaybackType playbackType;
-  private List<Integer> discreteTicks;
-  private Iterator<Integer> discreteTickIterator;
+  private int[] discreteTicks;  // Sorted start and end ticks of every motion, without duplicates
+  private EasyAnimatorImmutableModel<?> discreteTicksModel;  // Model the discrete ticks came from
+  private long discreteTicksVersion;  // Version of the model when the discrete ticks were found
   private RenderType renderType;
+  private DetailLevel detailLevel;
   private int tick;
 
   /**
-   * Instantiates an {@code AnimatedShape2DVisualRenderer} with default values.
+   * Instantiates an {@code AnimatedShape2DVisualRenderer} with default values, which draws every
+   * shape as it is visited.
    */
   public AnimatedShape2DVisualRenderer() {
+    this(false);
+  }
+
+  /**
+   * Instantiates an {@code AnimatedShape2DVisualRenderer} with default values, which optionally
+   * batches shapes and draws them once they are flushed.
+   *
+   * @param batching Whether to batch shapes of the same color and primitive
+   */
+  public AnimatedShape2DVisualRenderer(boolean batching) {
+    this.batching = batching;
     this.output = null;
     this.playbackType = PlaybackType.CONTINUOUS;
     this.discreteTicks = null;
     this.renderType = RenderType.FILL;
+    this.detailLevel = DetailLevel.FULL;
     this.tick = 0;
   }
 
@@ -67,11 +122,36 @@ public class AnimatedShape2DVisualRenderer
         tickCopy = endTick;
       }
 
+      if (isSkipped(cross.getDimensions(tickCopy))) {
+        return;
+      }
+      shapesDrawn++;
+
       Color color = cross.getColor(tickCopy);
+      if (detailLevel.compareTo(DetailLevel.SIMPLE_CROSSES) >= 0) {
+        // Draw the cross' bounding rectangle instead of its outline
+        drawRectangle(color, cross.getPosition(tickCopy), cross.getDimensions(tickCopy));
+        return;
+      }
+
       CrossRenderData renderData = cross.getRenderData(tickCopy);
+      if (batching) {
+        Position2D position = cross.getPosition(tickCopy);
+        Dimensions2D dimensions = cross.getDimensions(tickCopy);
+        Path2D.Float path = getBatchPath(color, Primitive.POLYGON, (int) position.getX(),
+            (int) position.getY(), (int) Math.ceil(position.getX() + dimensions.getWidth()),
+            (int) Math.ceil(position.getY() + dimensions.getHeight()));
+        int[] xPoints = renderData.getXPoints();
+        int[] yPoints = renderData.getYPoints();
+        path.moveTo(xPoints[0], yPoints[0]);
+        for (int i = 1; i < CrossRenderData.NUM_POINTS; i++) {
+          path.lineTo(xPoints[i], yPoints[i]);
+        }
+        path.closePath();
+        return;
+      }
 
       output.setColor(new java.awt.Color(color.getRed(), color.getGreen(), color.getBlue()));
-
       if (renderType == RenderType.FILL) {
         output.fillPolygon(renderData.getXPoints(), renderData.getYPoints(),
             CrossRenderData.NUM_POINTS);
@@ -102,20 +182,130 @@ public class AnimatedShape2DVisualRenderer
         tickCopy = endTick;
       }
 
-      Color color = rectangle.getColor(tickCopy);
-      Position2D position = rectangle.getPosition(tickCopy);
       Dimensions2D dimensions = rectangle.getDimensions(tickCopy);
+      if (isSkipped(dimensions)) {
+        return;
+      }
+      shapesDrawn++;
 
-      output.setColor(new java.awt.Color(color.getRed(), color.getGreen(), color.getBlue()));
+      drawRectangle(rectangle.getColor(tickCopy), rectangle.getPosition(tickCopy), dimensions);
+    }
+  }
 
-      if (renderType == RenderType.FILL) {
-        output.fillRect((int) (position.getX() + 0.5), (int) (position.getY() + 0.5),
-            (int) (dimensions.getWidth() + 0.5), (int) (dimensions.getHeight() + 0.5));
-      } else {
-        output.drawRect((int) (position.getX() + 0.5), (int) (position.getY() + 0.5),
-            (int) (dimensions.getWidth() + 0.5), (int) (dimensions.getHeight() + 0.5));
+  // Returns whether a shape of the given dimensions is too small to be drawn at the detail level
+  private boolean isSkipped(Dimensions2D dimensions) {
+    return detailLevel.compareTo(DetailLevel.NO_SUBPIXEL_SHAPES) >= 0
+        && (dimensions.getWidth() < 1 || dimensions.getHeight() < 1);
+  }
+
+  // Draws or batches a rectangle of the given color, position and dimensions in the render type
+  private void drawRectangle(Color color, Position2D position, Dimensions2D dimensions) {
+    int x = (int) (position.getX() + 0.5);
+    int y = (int) (position.getY() + 0.5);
+    int width = (int) (dimensions.getWidth() + 0.5);
+    int height = (int) (dimensions.getHeight() + 0.5);
+
+    if (batching) {
+      Path2D.Float path =
+          getBatchPath(color, Primitive.RECTANGLE, x, y, x + width, y + height);
+      path.moveTo(x, y);
+      path.lineTo(x + width, y);
+      path.lineTo(x + width, y + height);
+      path.lineTo(x, y + height);
+      path.closePath();
+      return;
+    }
+
+    output.setColor(new java.awt.Color(color.getRed(), color.getGreen(), color.getBlue()));
+    if (renderType == RenderType.FILL) {
+      output.fillRect(x, y, width, height);
+    } else {
+      output.drawRect(x, y, width, height);
+    }
+  }
+
+  // Returns the path of the pending batch which a shape of the given color, primitive and pixel
+  // bounds should be added to. The shape may join the latest batch of its color and primitive if
+  // it does not overlap any batch after that one, since drawing the batches in order then keeps
+  // every overlapping pair of shapes in model order. Otherwise, a new batch is started.
+  private Path2D.Float getBatchPath(Color color, Primitive primitive, int minX, int minY,
+      int maxX, int maxY) {
+    int rgb = color.getRed() << 16 | color.getGreen() << 8 | color.getBlue();
+
+    // Widen the bounds by a pixel for outlines and antialiased edges
+    int x = minX - 1;
+    int y = minY - 1;
+    int width = maxX - minX + 2;
+    int height = maxY - minY + 2;
+
+    Batch target = null;
+    for (int i = pendingBatches.size() - 1; i >= 0; i--) {
+      Batch batch = pendingBatches.get(i);
+      if (batch.rgb == rgb && batch.primitive == primitive) {
+        target = batch;
+        break;
       }
+      if (batch.overlaps(x, y, width, height)) {
+        break;
+      }
+    }
+
+    if (target != null) {
+      drawCallsSaved++;
+      target.minX = Math.min(target.minX, x);
+      target.minY = Math.min(target.minY, y);
+      target.maxX = Math.max(target.maxX, x + width);
+      target.maxY = Math.max(target.maxY, y + height);
+    } else {
+      if (pendingBatches.size() == MAX_PENDING_BATCHES) {
+        drawBatch(pendingBatches.remove(0));
+      }
+      target = spareBatches.isEmpty() ? new Batch() : spareBatches.pop();
+      target.rgb = rgb;
+      target.primitive = primitive;
+      target.minX = x;
+      target.minY = y;
+      target.maxX = x + width;
+      target.maxY = y + height;
+      pendingBatches.add(target);
+    }
+
+    return target.path;
+  }
+
+  // Draws the shapes of the given batch with one call and keeps the batch for reuse
+  private void drawBatch(Batch batch) {
+    output.setColor(new java.awt.Color(batch.rgb));
+    if (renderType == RenderType.FILL) {
+      output.fill(batch.path);
+    } else {
+      output.draw(batch.path);
+    }
+
+    batch.path.reset();
+    spareBatches.push(batch);
+  }
+
+  /**
+   * Draws every batched shape which has not been drawn yet, in an order which keeps overlapping
+   * shapes in the order they were visited.
+   */
+  @Override
+  public void flush() {
+    for (Batch batch : pendingBatches) {
+      drawBatch(batch);
     }
+    pendingBatches.clear();
+  }
+
+  @Override
+  public int getDrawCallsSaved() {
+    return drawCallsSaved;
+  }
+
+  @Override
+  public int getShapesDrawn() {
+    return shapesDrawn;
   }
 
   /**
@@ -138,18 +328,31 @@ public class AnimatedShape2DVisualRenderer
         tickCopy = endTick;
       }
 
+      Dimensions2D dimensions = ellipse.getDimensions(tickCopy);
+      if (isSkipped(dimensions)) {
+        return;
+      }
+      shapesDrawn++;
+
       Color color = ellipse.getColor(tickCopy);
       Position2D position = ellipse.getPosition(tickCopy);
-      Dimensions2D dimensions = ellipse.getDimensions(tickCopy);
+      int x = (int) (position.getX() + 0.5);
+      int y = (int) (position.getY() + 0.5);
+      int width = (int) (dimensions.getWidth() + 0.5);
+      int height = (int) (dimensions.getHeight() + 0.5);
+
+      if (batching) {
+        this.ellipse.setFrame(x, y, width, height);
+        getBatchPath(color, Primitive.ELLIPSE, x, y, x + width, y + height)
+            .append(this.ellipse, false);
+        return;
+      }
 
       output.setColor(new java.awt.Color(color.getRed(), color.getGreen(), color.getBlue()));
-
       if (renderType == RenderType.FILL) {
-        output.fillOval((int) (position.getX() + 0.5), (int) (position.getY() + 0.5),
-            (int) (dimensions.getWidth() + 0.5), (int) (dimensions.getHeight() + 0.5));
+        output.fillOval(x, y, width, height);
       } else {
-        output.drawOval((int) (position.getX() + 0.5), (int) (position.getY() + 0.5),
-            (int) (dimensions.getWidth() + 0.5), (int) (dimensions.getHeight() + 0.5));
+        output.drawOval(x, y, width, height);
       }
     }
   }
@@ -170,31 +373,101 @@ public class AnimatedShape2DVisualRenderer
       throw new IllegalArgumentException("Model is of invalid type.");
     }
 
-    // Find all unique discrete ticks in model
-    List<Integer> discreteTicks = new ArrayList<>();
-    for (AnimatedShape2D shape : castModel.getShapes()) {
+    // Keep the existing ticks if the model has not changed since they were found
+    if (model == discreteTicksModel && model.getVersion() == discreteTicksVersion) {
+      return;
+    }
+    long version = model.getVersion();
+    List<AnimatedShape2D> shapes = castModel.getShapes();
+    int numMotions = 0;
+    for (AnimatedShape2D shape : shapes) {
+      numMotions += shape.getMotions().size();
+    }
+
+    // Gather the start and end ticks of every motion, then sort them and drop duplicates
+    int[] ticks = new int[2 * numMotions];
+    int numTicks = 0;
+    for (AnimatedShape2D shape : shapes) {
       for (Motion2D motion : shape.getMotions()) {
-        if (!discreteTicks.contains(motion.getStartTick())) {
-          discreteTicks.add(motion.getStartTick());
-        }
-        if (!discreteTicks.contains(motion.getEndTick())) {
-          discreteTicks.add(motion.getEndTick());
-        }
+        ticks[numTicks++] = motion.getStartTick();
+        ticks[numTicks++] = motion.getEndTick();
+      }
+    }
+    Arrays.sort(ticks, 0, numTicks);
+    int numUnique = 0;
+    for (int j = 0; j < numTicks; j++) {
+      if (numUnique == 0 || ticks[j] != ticks[numUnique - 1]) {
+        ticks[numUnique++] = ticks[j];
       }
     }
-    Collections.sort(discreteTicks);
 
-    this.discreteTicks = discreteTicks;
-    this.discreteTickIterator = this.discreteTicks.iterator();
+    this.discreteTicks = Arrays.copyOf(ticks, numUnique);
+    this.discreteTicksModel = model;
+    this.discreteTicksVersion = version;
+  }
+
+  // Returns the given shape as an animated 2D shape, throwing an IllegalArgumentException if it is
+  // of another type
+  private static AnimatedShape2D castShape(
+      VisitableShape<AnimatedRectangle, AnimatedEllipse, AnimatedCross> shape)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(shape, "Shape is null.");
+    if (!(shape instanceof AnimatedShape2D)) {
+      throw new IllegalArgumentException("Shape is of invalid type.");
+    }
+
+    return (AnimatedShape2D) shape;
+  }
+
+  @Override
+  public int getStartTick(VisitableShape<AnimatedRectangle, AnimatedEllipse, AnimatedCross> shape)
+      throws NullPointerException, IllegalArgumentException, IllegalStateException {
+    return castShape(shape).getStartTick();
+  }
+
+  @Override
+  public int getEndTick(VisitableShape<AnimatedRectangle, AnimatedEllipse, AnimatedCross> shape)
+      throws NullPointerException, IllegalArgumentException, IllegalStateException {
+    return castShape(shape).getEndTick();
   }
 
   @Override
   public void setRenderType(RenderType type) throws NullPointerException {
-    this.renderType = Objects.requireNonNull(type, "Render type is null.");
+    Objects.requireNonNull(type, "Render type is null.");
+    if (output != null) {
+      flush();
+    }
+    this.renderType = type;
+  }
+
+  @Override
+  public void setDetailLevel(DetailLevel level) throws NullPointerException {
+    Objects.requireNonNull(level, "Detail level is null.");
+    if (output != null) {
+      flush();
+    }
+    this.detailLevel = level;
+    if (output != null) {
+      setAntialiasing();
+    }
+  }
+
+  // Turns antialiasing of the output graphics object off if the detail level is too low for it,
+  // or otherwise restores the antialiasing the output graphics object was given
+  private void setAntialiasing() {
+    if (detailLevel.compareTo(DetailLevel.NO_ANTIALIASING) >= 0) {
+      output.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+          RenderingHints.VALUE_ANTIALIAS_OFF);
+    } else if (outputAntialiasing != null) {
+      output.setRenderingHint(RenderingHints.KEY_ANTIALIASING, outputAntialiasing);
+    }
   }
 
   /**
-   * Sets the output graphics object and resets the tick counter.
+   * Sets the output graphics object and resets the counts of shapes drawn and draw calls saved.
+   * Shapes are drawn with the antialiasing the graphics object was given, which is turned off
+   * while the detail level is too low for it. Batched shapes which were not flushed to the
+   * previous graphics object are discarded.
    *
    * @param output Graphics object to draw to
    * @throws NullPointerException Output graphics object is null.
@@ -202,48 +475,74 @@ public class AnimatedShape2DVisualRenderer
   @Override
   public void setOutput(Graphics2D output) throws NullPointerException {
     this.output = Objects.requireNonNull(output, "Output graphics object is null.");
+    outputAntialiasing = output.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+    setAntialiasing();
+
+    for (Batch batch : pendingBatches) {
+      batch.path.reset();
+      spareBatches.push(batch);
+    }
+    pendingBatches.clear();
+    drawCallsSaved = 0;
+    shapesDrawn = 0;
   }
 
   @Override
   public void resetTick() {
     tick = 0;
-
-    // Reset iterator if discrete ticks were given
-    if (discreteTicks != null) {
-      discreteTickIterator = discreteTicks.iterator();
-    }
   }
 
   @Override
   public int nextTick() throws IllegalStateException {
     if (playbackType == PlaybackType.CONTINUOUS) {
-      tick++;
+      tick += detailLevel == DetailLevel.DROPPED_FRAMES ? DROPPED_FRAME_TICKS : 1;
     } else {
-      if (discreteTickIterator == null) {
-        throw new IllegalStateException("Iterator is null.");
+      if (discreteTicks == null) {
+        throw new IllegalStateException("Discrete ticks are not set.");
       }
 
-      // Find the next discrete tick
-      int nextTick = 0;
-      if (discreteTickIterator.hasNext()) {
-        nextTick = discreteTickIterator.next();
-        while (discreteTickIterator.hasNext() && nextTick < tick) {
-          nextTick = discreteTickIterator.next();
-        }
-      }
+      // Move to the first discrete tick after the current tick. If there is none, the animation
+      // has ended, so progress tick by one to end.
+      int index = findFirstAfter(tick);
+      tick = index < discreteTicks.length ? discreteTicks[index] : tick + 1;
+    }
 
-      // If next discrete tick doesn't exist, animation has ended, so progress tick by one to end.
-      // Otherwise, set tick to next tick
-      if (nextTick == 0 || nextTick < tick) {
-        tick++;
-      } else {
-        tick = nextTick;
+    return tick;
+  }
+
+  @Override
+  public int previousTick() throws IllegalStateException {
+    if (playbackType == PlaybackType.CONTINUOUS) {
+      tick = Math.max(tick - 1, 0);
+    } else {
+      if (discreteTicks == null) {
+        throw new IllegalStateException("Discrete ticks are not set.");
       }
+
+      // Move to the last discrete tick before the current tick, or the first tick if there is none
+      int index = findFirstAfter(tick - 1) - 1;
+      tick = index >= 0 ? discreteTicks[index] : 0;
     }
 
     return tick;
   }
 
+  // Returns the index of the first discrete tick greater than the given tick, or the number of
+  // discrete ticks if there is none
+  private int findFirstAfter(int tick) {
+    int index = Arrays.binarySearch(discreteTicks, tick);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  @Override
+  public void setTick(int tick) throws IllegalArgumentException {
+    if (tick < 0) {
+      throw new IllegalArgumentException("Tick is negative.");
+    }
+
+    this.tick = tick;
+  }
+
   @Override
   public int getTick() {
     return tick;
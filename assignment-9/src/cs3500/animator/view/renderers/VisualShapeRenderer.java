@@ -42,6 +42,30 @@ public interface VisualShapeRenderer<Rectangle, Ellipse, Cross>
   void setDiscreteTicks(EasyAnimatorImmutableModel<? extends VisitableShape<Rectangle, Ellipse,
       Cross>> model) throws NullPointerException, IllegalArgumentException;
 
+  /**
+   * Returns the tick at which the given shape is first drawn.
+   *
+   * @param shape Shape to find the start tick of
+   * @return Start tick of shape
+   * @throws NullPointerException     Shape is null.
+   * @throws IllegalArgumentException Shape is of an invalid type.
+   * @throws IllegalStateException    Shape's motions are malformed.
+   */
+  int getStartTick(VisitableShape<Rectangle, Ellipse, Cross> shape)
+      throws NullPointerException, IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Returns the tick after which the given shape is drawn frozen in its end state.
+   *
+   * @param shape Shape to find the end tick of
+   * @return End tick of shape
+   * @throws NullPointerException     Shape is null.
+   * @throws IllegalArgumentException Shape is of an invalid type.
+   * @throws IllegalStateException    Shape's motions are malformed.
+   */
+  int getEndTick(VisitableShape<Rectangle, Ellipse, Cross> shape)
+      throws NullPointerException, IllegalArgumentException, IllegalStateException;
+
   /**
    * Represents the render type for shapes, either being filled or outlined.
    */
@@ -57,19 +81,87 @@ public interface VisualShapeRenderer<Rectangle, Ellipse, Cross>
    */
   void setRenderType(RenderType type) throws NullPointerException;
 
+  /**
+   * Represents how much detail shapes are rendered with, which is lowered when rendering cannot
+   * keep up with playback. Each level keeps the reductions of the levels before it: {@code
+   * NO_SUBPIXEL_SHAPES} skips shapes less than a pixel wide or high, {@code SIMPLE_CROSSES} draws
+   * crosses as their bounding rectangles, {@code NO_ANTIALIASING} turns off any antialiasing the
+   * output was set up with, and {@code DROPPED_FRAMES} moves forward {@link #DROPPED_FRAME_TICKS}
+   * ticks at a time with continuous playback.
+   */
+  enum DetailLevel {
+    FULL, NO_SUBPIXEL_SHAPES, SIMPLE_CROSSES, NO_ANTIALIASING, DROPPED_FRAMES
+  }
+
+  /**
+   * Number of ticks the tick counter moves by with continuous playback at the {@code
+   * DROPPED_FRAMES} detail level.
+   */
+  int DROPPED_FRAME_TICKS = 2;
+
+  /**
+   * Sets the detail level to the given value.
+   *
+   * @param level Detail level to be used
+   * @throws NullPointerException Detail level is null.
+   */
+  void setDetailLevel(DetailLevel level) throws NullPointerException;
+
+  /**
+   * Draws any shapes which have been visited but not yet drawn. Renderers which batch shapes must
+   * be flushed after the last shape of every frame; other renderers draw shapes as they are
+   * visited, so flushing them does nothing.
+   */
+  void flush();
+
+  /**
+   * Returns the number of shapes which were drawn as part of another shape's draw call by
+   * batching, since the output graphics object was last set, which is once per frame.
+   *
+   * @return Number of draw calls saved
+   */
+  int getDrawCallsSaved();
+
+  /**
+   * Returns the number of shapes which were drawn or batched to be drawn, leaving out those not
+   * yet visible and those skipped at the detail level, since the output graphics object was last
+   * set, which is once per frame.
+   *
+   * @return Number of shapes drawn
+   */
+  int getShapesDrawn();
+
   /**
    * Resets the tick count to 0.
    */
   void resetTick();
 
   /**
-   * Increments the tick counter by 1.
+   * Increments the tick counter by 1, or by {@link #DROPPED_FRAME_TICKS} at the {@code
+   * DROPPED_FRAMES} detail level, or with discrete playback, moves it to the next discrete tick.
    *
    * @return New tick count
-   * @throws IllegalStateException Discrete playback is selected and iterator is null.
+   * @throws IllegalStateException Discrete playback is selected and discrete ticks are not set.
    */
   int nextTick() throws IllegalStateException;
 
+  /**
+   * Decrements the tick counter by 1, or with discrete playback, moves it to the previous discrete
+   * tick. The tick counter never goes below 0.
+   *
+   * @return New tick count
+   * @throws IllegalStateException Discrete playback is selected and discrete ticks are not set.
+   */
+  int previousTick() throws IllegalStateException;
+
+  /**
+   * Sets the tick counter to the given value.
+   *
+   * @param tick New tick count
+   * @throws IllegalArgumentException Tick is negative.
+   */
+  void setTick(int tick) throws IllegalArgumentException;
+
   /**
    * Returns the current tick count.
    *
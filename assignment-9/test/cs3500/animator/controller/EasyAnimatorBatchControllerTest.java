@@ -0,0 +1,132 @@
+package cs3500.animator.controller;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link EasyAnimatorBatchController} class.
+ */
+public class EasyAnimatorBatchControllerTest {
+
+  private static final String ANIMATION = "canvas 0 0 100 100\n"
+      + "shape R rectangle\n"
+      + "motion R 1 0 0 10 10 255 0 0 10 50 50 10 10 255 0 0\n";
+
+  private File inputDirectory;
+  private File outputDirectory;
+
+  @Before
+  public void setUp() throws IOException {
+    inputDirectory = Files.createTempDirectory("batch-in").toFile();
+    outputDirectory = new File(Files.createTempDirectory("batch-out").toFile(), "nested");
+    inputDirectory.deleteOnExit();
+  }
+
+  // Writes a file with the given name and contents to the input directory
+  private void writeInput(String name, String contents) throws IOException {
+    File file = new File(inputDirectory, name);
+    Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    file.deleteOnExit();
+  }
+
+  @Test
+  public void run() throws IOException {
+    writeInput("a.txt", ANIMATION);
+    writeInput("b.txt", ANIMATION);
+    writeInput("bad.txt", "canvas 0 0 100\n");
+
+    EasyAnimatorBatchController controller =
+        new EasyAnimatorBatchController(inputDirectory, outputDirectory, "text", 10);
+    controller.setMaxJobs(2);
+    StringBuilder log = new StringBuilder();
+    assertEquals(1, controller.run(log));
+
+    String expected = new String(Files.readAllBytes(new File(outputDirectory, "a.txt").toPath()),
+        StandardCharsets.UTF_8);
+    assertEquals("canvas 0 0 100 100\n"
+        + "shape R rectangle\n"
+        + "motion R 0.10 0 0 10 10 255 0 0 1.00 50 50 10 10 255 0 0\n", expected);
+    assertTrue(new File(outputDirectory, "b.txt").isFile());
+
+    String result = log.toString();
+    assertTrue(result.contains("OK a.txt -> a.txt"));
+    assertTrue(result.contains("OK b.txt -> b.txt"));
+    assertTrue(result.contains("FAILED bad.txt: Input readable failed"));
+    assertTrue(result.contains("Converted 2 of 3 files"));
+    assertTrue(result.contains("Latency p50"));
+  }
+
+  @Test
+  public void runRefusesToOverwriteInputs() throws IOException {
+    writeInput("a.txt", ANIMATION);
+
+    StringBuilder log = new StringBuilder();
+    assertEquals(1, new EasyAnimatorBatchController(inputDirectory, inputDirectory, "text", 10)
+        .run(log));
+    assertTrue(log.toString().contains("FAILED a.txt: Output file a.txt is already in use."));
+    assertEquals(ANIMATION, new String(
+        Files.readAllBytes(new File(inputDirectory, "a.txt").toPath()), StandardCharsets.UTF_8));
+  }
+
+  @Test(expected = IOException.class)
+  public void runMissingInputDirectory() throws IOException {
+    new EasyAnimatorBatchController(new File(inputDirectory, "missing"), outputDirectory, "svg",
+        10).run(new StringBuilder());
+  }
+
+  @Test
+  public void getOutputName() {
+    EasyAnimatorBatchController controller =
+        new EasyAnimatorBatchController(inputDirectory, outputDirectory, "svg-compact", 10);
+    assertEquals("hanoi.svg", controller.getOutputName("hanoi.txt"));
+    assertEquals("hanoi.svg", controller.getOutputName("hanoi.txt.gz"));
+    assertEquals("hanoi.svg", controller.getOutputName("hanoi"));
+    assertEquals("toh.v2.svg", controller.getOutputName("toh.v2.txt"));
+    assertEquals("demo.svg", controller.getOutputName("demo.TXT.GZ"));
+    assertEquals("demo.svg", controller.getOutputName("demo.txt.Zz"));
+  }
+
+  @Test
+  public void runLeavesNoOutputForFailures() throws IOException {
+    writeInput("bad.txt", "canvas 0 0 100\n");
+
+    StringBuilder log = new StringBuilder();
+    assertEquals(1, new EasyAnimatorBatchController(inputDirectory, outputDirectory, "svg", 10)
+        .run(log));
+    assertTrue(log.toString().contains("FAILED bad.txt"));
+    // Neither the output nor the temporary file it was being written to remain
+    assertArrayEquals(new String[0], outputDirectory.list());
+  }
+
+  @Test
+  public void runSkipsSvgInputsIgnoringCase() throws IOException {
+    writeInput("a.txt", ANIMATION);
+    writeInput("X.SVG", "<svg></svg>");
+
+    StringBuilder log = new StringBuilder();
+    assertEquals(0, new EasyAnimatorBatchController(inputDirectory, outputDirectory, "text", 10)
+        .run(log));
+    assertTrue(log.toString().contains("Converted 1 of 1 files"));
+    assertArrayEquals(new String[]{"a.txt"}, outputDirectory.list());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructorVisualViewType() {
+    new EasyAnimatorBatchController(inputDirectory, outputDirectory, "visual", 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setNonPositiveMaxJobs() {
+    new EasyAnimatorBatchController(inputDirectory, outputDirectory, "svg", 10).setMaxJobs(0);
+  }
+}
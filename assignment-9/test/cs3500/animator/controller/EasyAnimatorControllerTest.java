@@ -1,6 +1,8 @@
 package cs3500.animator.controller;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import cs3500.animator.model.BasicEasyAnimator;
 import cs3500.animator.model.EasyAnimatorImmutableModel;
@@ -24,9 +26,12 @@ import cs3500.animator.view.renderers.AnimatedShape2DVisualRenderer;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 
 import java.util.Objects;
 
+import java.util.concurrent.CompletionException;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -170,6 +175,68 @@ public class EasyAnimatorControllerTest {
     );
   }
 
+  @Test
+  public void runTextualParallelParse() throws IOException {
+    controller.run(builder, TEXTUAL_VIEW, TICK_RATE);
+    String sequentialOutput = output.toString();
+
+    output = new StringBuilder();
+    controller = new EasyAnimatorController<>(
+        new InputStreamReader(getClass().getResourceAsStream("/smalldemo.txt")), output);
+    controller.setParseThreads(4);
+    controller.run(BasicEasyAnimator.builder(), TEXTUAL_VIEW, TICK_RATE);
+    assertEquals(sequentialOutput, output.toString());
+  }
+
+  @Test
+  public void runParallelParseMalformedInput() {
+    controller = new EasyAnimatorController<>(
+        new StringReader("canvas 0 0 10 10\nshape R rectangle\nmotion R 1 2 3\n"), output);
+    controller.setParseThreads(2);
+    try {
+      controller.run(builder, TEXTUAL_VIEW, TICK_RATE);
+      fail("Malformed input was parsed.");
+    } catch (IOException e) {
+      assertEquals("Input readable failed: Line 3: Motion: expected integer for initial "
+          + "width, but no more input available", e.getMessage());
+    }
+  }
+
+  @Test
+  public void runAsyncTextual() throws IOException {
+    controller.run(builder, TEXTUAL_VIEW, TICK_RATE);
+    String syncOutput = output.toString();
+
+    output = new StringBuilder();
+    controller = new EasyAnimatorController<>(
+        new InputStreamReader(getClass().getResourceAsStream("/smalldemo.txt")), output);
+    controller.runAsync(BasicEasyAnimator::builder, TEXTUAL_VIEW, TICK_RATE).join();
+    assertEquals(syncOutput, output.toString());
+  }
+
+  @Test
+  public void runAsyncMalformedInput() {
+    controller = new EasyAnimatorController<>(
+        new StringReader("canvas 0 0 10 10\nshape R rectangle\nmotion R 1 2 3\n"), output);
+    try {
+      controller.runAsync(BasicEasyAnimator::builder, TEXTUAL_VIEW, TICK_RATE).join();
+      fail("Malformed input was parsed.");
+    } catch (CompletionException e) {
+      assertTrue(e.getCause() instanceof IOException);
+      assertTrue(e.getCause().getMessage().startsWith("Input readable failed: "));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void runAsyncNonPositiveTickRate() {
+    controller.runAsync(BasicEasyAnimator::builder, TEXTUAL_VIEW, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setNonPositiveParseThreads() {
+    controller.setParseThreads(0);
+  }
+
   @Test
   public void runInteractive() throws IOException {
     StringBuilder log = new StringBuilder();
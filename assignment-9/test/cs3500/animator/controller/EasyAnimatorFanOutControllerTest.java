@@ -0,0 +1,144 @@
+package cs3500.animator.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.animator.model.BasicEasyAnimator;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+
+import cs3500.animator.view.EasyAnimatorViewFactory;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link EasyAnimatorFanOutController} class.
+ */
+public class EasyAnimatorFanOutControllerTest {
+
+  private static final String ANIMATION = "canvas 0 0 100 100\n"
+      + "shape R rectangle\n"
+      + "motion R 1 0 0 10 10 255 0 0 10 50 50 10 10 255 0 0\n";
+
+  private EasyAnimatorFanOutController controller;
+
+  @Before
+  public void setUp() {
+    controller = new EasyAnimatorFanOutController(new StringReader(ANIMATION), 10);
+  }
+
+  // Renders the animation to the given view type on its own
+  private static String renderAlone(String viewType) throws IOException {
+    StringBuilder output = new StringBuilder();
+    new EasyAnimatorController<AnimatedRectangle, AnimatedEllipse, AnimatedCross>(
+        new StringReader(ANIMATION), output)
+        .run(BasicEasyAnimator.builder(), EasyAnimatorViewFactory.create(viewType), 10);
+    return output.toString();
+  }
+
+  @Test
+  public void runRendersEveryView() throws IOException {
+    StringBuilder text = new StringBuilder();
+    StringBuilder svg = new StringBuilder();
+    StringBuilder compact = new StringBuilder();
+    controller.addView("text", text, "a.txt");
+    controller.addView("svg", svg, "a.svg");
+    controller.addView("svg-compact", compact, "b.svg");
+    StringBuilder log = new StringBuilder();
+    assertEquals(0, controller.run(log));
+
+    assertEquals(renderAlone("text"), text.toString());
+    assertEquals(renderAlone("svg"), svg.toString());
+    assertEquals(renderAlone("svg-compact"), compact.toString());
+
+    String result = log.toString();
+    assertTrue(result.startsWith("Parsed in "));
+    assertTrue(result.contains("OK text -> a.txt ("));
+    assertTrue(result.contains("OK svg -> a.svg ("));
+    assertTrue(result.contains("OK svg-compact -> b.svg ("));
+    assertTrue(result.contains("Rendered 3 of 3 views in "));
+  }
+
+  @Test
+  public void runReportsFailedView() throws IOException {
+    Appendable broken = new Appendable() {
+      @Override
+      public Appendable append(CharSequence charSequence) throws IOException {
+        throw new IOException("Disk full.");
+      }
+
+      @Override
+      public Appendable append(CharSequence charSequence, int i, int i1) throws IOException {
+        throw new IOException("Disk full.");
+      }
+
+      @Override
+      public Appendable append(char c) throws IOException {
+        throw new IOException("Disk full.");
+      }
+    };
+    StringBuilder text = new StringBuilder();
+    controller.addView("svg", broken, "full.svg");
+    controller.addView("text", text, "a.txt");
+    StringBuilder log = new StringBuilder();
+    assertEquals(1, controller.run(log));
+
+    assertFalse(text.toString().isEmpty());
+    assertTrue(log.toString().contains("FAILED svg -> full.svg: "));
+    assertTrue(log.toString().contains("Rendered 1 of 2 views in "));
+  }
+
+  @Test
+  public void runMotionsWithGap() throws IOException {
+    controller = new EasyAnimatorFanOutController(new StringReader("canvas 0 0 100 100\n"
+        + "shape R rectangle\n"
+        + "motion R 0 0 0 10 10 0 0 0 5 0 0 10 10 0 0 0\n"
+        + "motion R 7 0 0 10 10 0 0 0 9 0 0 10 10 0 0 0\n"), 10);
+    StringBuilder text = new StringBuilder();
+    controller.addView("text", text, "a.txt");
+    controller.addView("svg", new StringBuilder(), "a.svg");
+    StringBuilder log = new StringBuilder();
+    assertEquals(2, controller.run(log));
+
+    assertTrue(text.toString().isEmpty());
+    assertTrue(log.toString().contains("FAILED text -> a.txt: Motion set contains gaps.\n"));
+    assertTrue(log.toString().contains("FAILED svg -> a.svg: Motion set contains gaps.\n"));
+    assertTrue(log.toString().contains("Rendered 0 of 2 views in "));
+  }
+
+  @Test(expected = IOException.class)
+  public void runMalformedInput() throws IOException {
+    controller = new EasyAnimatorFanOutController(new StringReader("canvas 0 0 100\n"), 10);
+    controller.addView("text", new StringBuilder(), "a.txt");
+    controller.run(new StringBuilder());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void runWithoutViews() throws IOException {
+    controller.run(new StringBuilder());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addViewNotRenderingToOutput() {
+    controller.addView("visual", new StringBuilder(), "a.txt");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addViewSharedOutput() {
+    StringBuilder output = new StringBuilder();
+    controller.addView("text", output, "a.txt");
+    controller.addView("svg", output, "a.txt");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructorNonPositiveTickRate() {
+    new EasyAnimatorFanOutController(new StringReader(ANIMATION), 0);
+  }
+}
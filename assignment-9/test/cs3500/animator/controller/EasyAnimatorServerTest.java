@@ -0,0 +1,206 @@
+package cs3500.animator.controller;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringReader;
+
+import java.net.InetAddress;
+import java.net.Socket;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link EasyAnimatorServer} and {@link EasyAnimatorClient}
+ * classes.
+ */
+public class EasyAnimatorServerTest {
+
+  private static final String ANIMATION = "canvas 0 0 100 100\n"
+      + "shape R rectangle\n"
+      + "motion R 1 0 0 10 10 255 0 0 10 50 50 10 10 255 0 0\n";
+  private static final String TEXT = "canvas 0 0 100 100\n"
+      + "shape R rectangle\n"
+      + "motion R 0.10 0 0 10 10 255 0 0 1.00 50 50 10 10 255 0 0\n";
+
+  // Starts a server caching a single model on any free port, which serves until it is closed
+  private static EasyAnimatorServer startServer() throws IOException {
+    return startServer(Runtime.getRuntime().availableProcessors());
+  }
+
+  // Starts a server caching a single model on any free port and serving up to the given number of
+  // connections at once, which serves until it is closed
+  private static EasyAnimatorServer startServer(int maxConnections) throws IOException {
+    EasyAnimatorServer server = new EasyAnimatorServer(0, 1);
+    server.setMaxConnections(maxConnections);
+    Thread serverThread = new Thread(() -> {
+      try {
+        server.serve();
+      } catch (IOException ignored) {
+      }
+    });
+    serverThread.setDaemon(true);
+    serverThread.start();
+    return server;
+  }
+
+  // Renders the given animation on the given server through a new connection
+  private static String render(EasyAnimatorServer server, String animation, String viewType)
+      throws IOException {
+    StringBuilder output = new StringBuilder();
+    try (EasyAnimatorClient client = new EasyAnimatorClient(server.getPort())) {
+      client.render(new StringReader(animation), output, viewType, 10);
+    }
+    return output.toString();
+  }
+
+  @Test
+  public void renderCachesModels() throws IOException {
+    try (EasyAnimatorServer server = startServer()) {
+      assertEquals(TEXT, render(server, ANIMATION, "text"));
+      assertEquals(0, server.getCacheHits());
+      assertEquals(1, server.getCacheMisses());
+
+      // Same description is served from the cache, whatever the view type
+      assertTrue(render(server, ANIMATION, "svg").startsWith("<svg"));
+      assertEquals(1, server.getCacheHits());
+      assertEquals(1, server.getCacheMisses());
+
+      // Capacity is 1, so a different description evicts the first one
+      render(server, ANIMATION.replace("R", "S"), "text");
+      assertEquals(TEXT, render(server, ANIMATION, "text"));
+      assertEquals(1, server.getCacheHits());
+      assertEquals(3, server.getCacheMisses());
+    }
+  }
+
+  @Test
+  public void renderSeveralOnOneConnection() throws IOException {
+    try (EasyAnimatorServer server = startServer();
+        EasyAnimatorClient client = new EasyAnimatorClient(server.getPort())) {
+      for (int i = 0; i < 3; i++) {
+        StringBuilder output = new StringBuilder();
+        client.render(new StringReader(ANIMATION), output, "text", 10);
+        assertEquals(TEXT, output.toString());
+      }
+    }
+  }
+
+  @Test
+  public void renderErrors() throws IOException {
+    try (EasyAnimatorServer server = startServer();
+        EasyAnimatorClient client = new EasyAnimatorClient(server.getPort())) {
+      try {
+        client.render(new StringReader("canvas 0 0 100\n"), new StringBuilder(), "text", 10);
+        fail("Malformed description was rendered.");
+      } catch (IOException e) {
+        assertTrue(e.getMessage().startsWith("Input readable failed"));
+      }
+
+      try {
+        client.render(new StringReader(ANIMATION), new StringBuilder(), "visual", 10);
+        fail("Visual view was rendered on the server.");
+      } catch (IOException e) {
+        assertEquals("View type does not render to text: visual", e.getMessage());
+      }
+
+      // Connection survives errors
+      StringBuilder output = new StringBuilder();
+      client.render(new StringReader(ANIMATION), output, "text", 10);
+      assertEquals(TEXT, output.toString());
+    }
+  }
+
+  @Test
+  public void renderMotionsWithGapNotCached() throws IOException {
+    String animation = "canvas 0 0 100 100\n"
+        + "shape R rectangle\n"
+        + "motion R 0 0 0 10 10 0 0 0 5 0 0 10 10 0 0 0\n"
+        + "motion R 7 0 0 10 10 0 0 0 9 0 0 10 10 0 0 0\n";
+    try (EasyAnimatorServer server = startServer()) {
+      for (int i = 0; i < 2; i++) {
+        try {
+          render(server, animation, "svg");
+          fail("Motions with a gap were rendered.");
+        } catch (IOException e) {
+          assertEquals("Motion set contains gaps.", e.getMessage());
+        }
+      }
+      assertEquals(0, server.getCacheHits());
+      assertEquals(2, server.getCacheMisses());
+    }
+  }
+
+  @Test
+  public void renderDescriptionTooLong() throws IOException {
+    try (EasyAnimatorServer server = startServer();
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+      OutputStream out = socket.getOutputStream();
+      out.write("RENDER text 10 2000000000\n".getBytes(StandardCharsets.UTF_8));
+      out.flush();
+
+      InputStream in = socket.getInputStream();
+      assertEquals("ERROR Description is longer than " + EasyAnimatorServer.MAX_DESCRIPTION_LENGTH
+          + " bytes.", EasyAnimatorServer.readLine(in));
+      assertEquals(-1, in.read());
+    }
+  }
+
+  @Test
+  public void connectionsBeyondLimitRefused() throws IOException {
+    try (EasyAnimatorServer server = startServer(1);
+        EasyAnimatorClient client = new EasyAnimatorClient(server.getPort())) {
+      // A completed request shows the first connection is being served
+      StringBuilder output = new StringBuilder();
+      client.render(new StringReader(ANIMATION), output, "text", 10);
+      assertEquals(TEXT, output.toString());
+
+      try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+        InputStream in = socket.getInputStream();
+        assertEquals("ERROR Server is busy.", EasyAnimatorServer.readLine(in));
+        assertEquals(-1, in.read());
+      }
+
+      // Connection being served is unaffected
+      output = new StringBuilder();
+      client.render(new StringReader(ANIMATION), output, "text", 10);
+      assertEquals(TEXT, output.toString());
+    }
+  }
+
+  @Test
+  public void readFullyInChunks() throws IOException {
+    byte[] bytes = new byte[200_000];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    assertArrayEquals(bytes,
+        EasyAnimatorServer.readFully(new ByteArrayInputStream(bytes), bytes.length));
+  }
+
+  @Test(expected = EOFException.class)
+  public void readFullyStreamEndsEarly() throws IOException {
+    EasyAnimatorServer.readFully(new ByteArrayInputStream(new byte[10]), 2_000_000_000);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructorNegativeCapacity() throws IOException {
+    new EasyAnimatorServer(0, -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setNonPositiveMaxConnections() throws IOException {
+    try (EasyAnimatorServer server = new EasyAnimatorServer(0, 1)) {
+      server.setMaxConnections(0);
+    }
+  }
+}
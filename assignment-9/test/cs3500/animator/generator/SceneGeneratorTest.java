@@ -0,0 +1,118 @@
+package cs3500.animator.generator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorModel;
+
+import cs3500.animator.model.motions.Motion2D;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.util.AnimationReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link SceneGenerator} class.
+ */
+public class SceneGeneratorTest {
+
+  // Generates a scene with the given seed and parameters
+  private static String generate(long seed, int numShapes, int motionsPerShape)
+      throws IOException {
+    StringBuilder output = new StringBuilder();
+    SceneGenerator generator = new SceneGenerator(output, seed);
+    generator.setNumShapes(numShapes);
+    generator.setMotionsPerShape(motionsPerShape);
+    generator.setCanvasSize(300, 200);
+    generator.setTempos(3, 0.5, 4);
+    generator.generate();
+    return output.toString();
+  }
+
+  // Counts the lines of the given text which start with the given keyword
+  private static int countLines(String text, String keyword) {
+    int count = 0;
+    for (String line : text.split("\n")) {
+      if (line.startsWith(keyword + " ")) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void constructorNullOutput() {
+    new SceneGenerator(null, 0);
+  }
+
+  @Test
+  public void generateIsReproducible() throws IOException {
+    assertEquals(generate(7, 20, 5), generate(7, 20, 5));
+    assertNotEquals(generate(7, 20, 5), generate(8, 20, 5));
+  }
+
+  @Test
+  public void generateParsesIntoValidModel() throws IOException {
+    String scene = generate(1, 50, 12);
+    assertTrue(scene.startsWith("canvas 0 0 300 200\n"));
+    assertEquals(50, countLines(scene, "shape"));
+    assertEquals(50 * 12, countLines(scene, "motion"));
+    assertEquals(3, countLines(scene, "tempo"));
+
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> model =
+        AnimationReader.parseFile(new StringReader(scene), BasicEasyAnimator.builder());
+    assertEquals(50, model.getShapes().size());
+    for (AnimatedShape2D shape : model.getShapes()) {
+      assertEquals(12, shape.getMotions().size());
+
+      // Querying a shape's state checks that its motions have no gaps or teleports
+      shape.getPosition(shape.getEndTick());
+      for (Motion2D motion : shape.getMotions()) {
+        int tick = motion.getEndTick();
+        assertTrue(motion.getPosition(tick).getX() >= 0);
+        assertTrue(motion.getPosition(tick).getX() + motion.getDimensions(tick).getWidth() <= 300);
+        assertTrue(motion.getPosition(tick).getY() + motion.getDimensions(tick).getHeight() <= 200);
+      }
+    }
+  }
+
+  @Test
+  public void generateShapeMix() throws IOException {
+    StringBuilder output = new StringBuilder();
+    SceneGenerator generator = new SceneGenerator(output, 3);
+    generator.setShapeMix(0, 0, 1);
+    generator.setMotionLengths(5, 5);
+    generator.generate();
+
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> model =
+        AnimationReader.parseFile(new StringReader(output.toString()), BasicEasyAnimator.builder());
+    assertEquals(100, model.getShapes().size());
+    for (AnimatedShape2D shape : model.getShapes()) {
+      assertTrue(shape instanceof AnimatedCross);
+      assertEquals(50, shape.getEndTick() - shape.getStartTick());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setShapeMixAllZero() {
+    new SceneGenerator(new StringBuilder(), 0).setShapeMix(0, 0, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setMotionLengthsInverted() {
+    new SceneGenerator(new StringBuilder(), 0).setMotionLengths(5, 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setTemposNonPositiveSpeedFactor() {
+    new SceneGenerator(new StringBuilder(), 0).setTempos(1, 0, 1);
+  }
+}
@@ -1,6 +1,7 @@
 package cs3500.animator.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 import cs3500.animator.model.motions.Motion2D;
 
@@ -12,6 +13,8 @@ import cs3500.animator.model.attributes.Color;
 import cs3500.animator.model.attributes.Dimensions2D;
 import cs3500.animator.model.attributes.Position2D;
 
+import cs3500.animator.util.AnimationBuilder;
+
 import java.util.LinkedList;
 import java.util.List;
 
@@ -309,6 +312,19 @@ public class BasicEasyAnimatorTest {
     populatedModel.getNumTicks();
   }
 
+  @Test
+  public void getNumShapesAndMotions() {
+    assertEquals(0, emptyModel.getNumShapes());
+    assertEquals(0, emptyModel.getNumMotions());
+
+    assertEquals(3, populatedModel.getNumShapes());
+    assertEquals(1, populatedModel.getNumMotions());
+    populatedModel.addMotion("E", motion);
+    populatedModel.removeShape("R");
+    assertEquals(2, populatedModel.getNumShapes());
+    assertEquals(2, populatedModel.getNumMotions());
+  }
+
   @Test
   public void getShapes() {
     assertEquals(new LinkedList<>(), emptyModel.getShapes());
@@ -339,6 +355,85 @@ public class BasicEasyAnimatorTest {
     assertEquals(populatedModel.getShapes(), builderModel.getShapes());
   }
 
+  @Test
+  public void builderRepeatedValues() {
+    // Many distinct values, each repeated many times, all passed to motions in packed form
+    AnimationBuilder<EasyAnimatorModel<AnimatedShape2D, Motion2D>> builder =
+        BasicEasyAnimator.builder().setBounds(0, 0, 1, 1).declareShape("R", "rectangle");
+    for (int i = 0; i < 20000; i++) {
+      int j = i + 1;
+      builder.addMotion("R",
+          i, i % 5003, i % 4999, i % 4993, i % 4987, i % 251, i % 241, i % 239,
+          j, j % 5003, j % 4999, j % 4993, j % 4987, j % 251, j % 241, j % 239);
+    }
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> builderModel = builder.build();
+
+    List<Motion2D> motions = builderModel.getShapes().get(0).getMotions();
+    assertEquals(20000, motions.size());
+    for (Motion2D motion : motions) {
+      int tick = motion.getEndTick();
+      assertEquals(new Position2D(tick % 5003, tick % 4999), motion.getPosition(tick));
+      assertEquals(new Dimensions2D(tick % 4993, tick % 4987), motion.getDimensions(tick));
+      assertEquals(new Color(tick % 251, tick % 241, tick % 239), motion.getColor(tick));
+    }
+  }
+
+  @Test
+  public void builderTicksBeyondSharedKeys() {
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> builderModel = BasicEasyAnimator.builder()
+        .setBounds(0, 0, 1, 1)
+        .declareShape("R", "rectangle")
+        .addMotion("R",
+            (1 << 20) - 2, 0, 0, 10, 10, 255, 255, 255,
+            (1 << 20) + 2, 0, 0, 10, 10, 255, 255, 255
+        )
+        .build();
+
+    assertEquals((1 << 20) + 3, builderModel.getNumTicks());
+    assertEquals(new Position2D(0, 0),
+        builderModel.getShapes().get(0).getMotions().get(0).getPosition(1 << 20));
+  }
+
+  @Test
+  public void builderTickKeysPerLoad() {
+    // Each builder keeps its own tick keys, so loads sharing ticks stay independent
+    for (int load = 0; load < 2; load++) {
+      EasyAnimatorModel<AnimatedShape2D, Motion2D> builderModel = BasicEasyAnimator.builder()
+          .setBounds(0, 0, 1, 1)
+          .declareShape("R", "rectangle")
+          .declareShape("C", "ellipse")
+          .addMotion("R", 0, 0, 0, 10, 10, 255, 255, 255, 2000, 0, 0, 10, 10, 255, 255, 255)
+          .addMotion("C", 1000, 5, 5, 10, 10, 0, 0, 0, 3000, 5, 5, 10, 10, 0, 0, 0)
+          .build();
+
+      assertEquals(3001, builderModel.getNumTicks());
+      assertEquals(2, builderModel.getNumMotions());
+      assertEquals(new Position2D(5, 5), builderModel.getShapes().get(1).getPosition(1500));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builderInvalidColor() {
+    BasicEasyAnimator.builder()
+        .setBounds(0, 0, 1, 1)
+        .declareShape("R", "rectangle")
+        .addMotion("R",
+            0, 0, 0, 10, 10, 255, 255, 255,
+            10, 0, 0, 10, 10, 256, 255, 255
+        );
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void builderNegativeDimensions() {
+    BasicEasyAnimator.builder()
+        .setBounds(0, 0, 1, 1)
+        .declareShape("R", "rectangle")
+        .addMotion("R",
+            0, 0, 0, 10, -10, 255, 255, 255,
+            10, 0, 0, 10, 10, 255, 255, 255
+        );
+  }
+
   @Test
   public void testToString() {
     assertEquals(
@@ -354,4 +449,24 @@ public class BasicEasyAnimatorTest {
         populatedModel.toString()
     );
   }
-}
\ No newline at end of file
+
+  @Test
+  public void getVersion() {
+    long version = emptyModel.getVersion();
+    emptyModel.addShape(emptyRectangle);
+    long addedShape = emptyModel.getVersion();
+    assertNotEquals(version, addedShape);
+
+    emptyModel.addMotion("R", motion);
+    long addedMotion = emptyModel.getVersion();
+    assertNotEquals(addedShape, addedMotion);
+
+    // Reading the model does not change its version
+    emptyModel.getShapes();
+    emptyModel.getNumTicks();
+    assertEquals(addedMotion, emptyModel.getVersion());
+
+    emptyModel.removeMotion("R", motion);
+    assertNotEquals(addedMotion, emptyModel.getVersion());
+  }
+}
@@ -122,4 +122,31 @@ public class ColorTest {
     assertEquals("255 255 255", white.toString());
     assertEquals("123 244 10", random.toString());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testPacked() {
+    int packed = Color.pack(123, 244, 10);
+    assertEquals(0x7BF40A, packed);
+    assertEquals(123, Color.red(packed));
+    assertEquals(244, Color.green(packed));
+    assertEquals(10, Color.blue(packed));
+
+    assertEquals(packed, random.toPacked());
+    assertEquals(random, Color.fromPacked(packed));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPacked() {
+    Color.fromPacked(0x1000000);
+  }
+
+  @Test
+  public void testInterpolate() {
+    int blackPacked = black.toPacked();
+    int whitePacked = white.toPacked();
+
+    assertEquals(blackPacked, Color.interpolate(blackPacked, whitePacked, 0));
+    assertEquals(whitePacked, Color.interpolate(blackPacked, whitePacked, 1));
+    assertEquals(Color.pack(128, 128, 128), Color.interpolate(blackPacked, whitePacked, 0.5));
+  }
+}
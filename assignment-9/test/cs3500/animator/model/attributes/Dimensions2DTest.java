@@ -2,6 +2,7 @@ package cs3500.animator.model.attributes;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -91,4 +92,20 @@ public class Dimensions2DTest {
     assertEquals("7   5", dimTwo.toString());
     assertEquals("300 99", dimThree.toString());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testPacked() {
+    long packed = Dimensions2D.pack(300, 98.8);
+    assertEquals(300, Dimensions2D.width(packed), 0.001);
+    assertEquals(98.8, Dimensions2D.height(packed), 0.001);
+
+    assertEquals(packed, dimThree.toPacked());
+    assertEquals(dimThree, Dimensions2D.fromPacked(packed));
+    assertTrue(Dimensions2D.approximatelyEqual(packed, new Dimensions2D(300, 98.8).toPacked()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativePacked() {
+    Dimensions2D.fromPacked(Position2D.pack(-1, 1));
+  }
+}
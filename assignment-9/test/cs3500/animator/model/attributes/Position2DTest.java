@@ -2,6 +2,7 @@ package cs3500.animator.model.attributes;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -81,4 +82,36 @@ public class Position2DTest {
     assertEquals("-6  5", posTwo.toString());
     assertEquals("300 -98", posThree.toString());
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testPacked() {
+    long packed = Position2D.pack(-6.7, 5);
+    assertEquals(-6.7, Position2D.x(packed), 0.001);
+    assertEquals(5, Position2D.y(packed), 0.001);
+
+    assertEquals(packed, posTwo.toPacked());
+    assertEquals(posTwo, Position2D.fromPacked(packed));
+    assertTrue(Position2D.approximatelyEqual(packed, new Position2D(-6.7, 5).toPacked()));
+  }
+
+  @Test
+  public void testInterpolate() {
+    long start = posOne.toPacked();
+    long end = posThree.toPacked();
+
+    assertEquals(posOne, Position2D.fromPacked(Position2D.interpolate(start, end, 0)));
+    assertEquals(posThree, Position2D.fromPacked(Position2D.interpolate(start, end, 1)));
+    assertEquals(new Position2D(150.6, -48.4),
+        Position2D.fromPacked(Position2D.interpolate(start, end, 0.5)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOutOfRange() {
+    new Position2D(1e10, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNotANumber() {
+    new Position2D(0, Double.NaN);
+  }
+}
@@ -7,6 +7,8 @@ import cs3500.animator.model.attributes.Color;
 import cs3500.animator.model.attributes.Dimensions2D;
 import cs3500.animator.model.attributes.Position2D;
 
+import java.io.IOException;
+
 import org.junit.Test;
 
 /**
@@ -252,4 +254,85 @@ public class Motion2DTest {
         motionTwo.toString());
   }
 
-}
\ No newline at end of file
+  @Test
+  public void testAppendTo() throws IOException {
+    StringBuilder output = new StringBuilder();
+    motionThree.appendTo(output);
+    assertEquals(motionThree.toString(), output.toString());
+
+    // Wide values must stay separated from their neighbouring fields
+    Motion2D wide = Motion2D.builder().setStartTick(1).setEndTick(2).setStartColor(white)
+        .setStartPosition(new Position2D(1000, 1010)).setStartDimensions(sampleDimension).build();
+    assertEquals("1   1000 1010 4   5   255 255 255   2   1000 1010 4   5   255 255 255",
+        wide.toString());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testAppendToNullOutput() throws IOException {
+    motionOne.appendTo(null);
+  }
+
+  @Test
+  public void testZeroTickMotionState() {
+    Motion2D zeroTick = Motion2D.builder().setStartTick(3).setEndTick(3).setStartColor(white)
+        .setStartPosition(samplePoint).setStartDimensions(sampleDimension).build();
+
+    assertEquals(samplePoint, zeroTick.getPosition(3));
+    assertEquals(sampleDimension, zeroTick.getDimensions(3));
+    assertEquals(white, zeroTick.getColor(3));
+  }
+
+  @Test
+  public void testPackedStates() {
+    Motion2D packed = Motion2D.builder().setStartTick(5).setEndTick(10)
+        .setStartPositionPacked(samplePoint.toPacked())
+        .setEndPositionPacked(Position2D.pack(4, 5))
+        .setStartDimensionsPacked(sampleDimension.toPacked())
+        .setEndDimensionsPacked(Dimensions2D.pack(6, 10))
+        .setStartColorPacked(Color.pack(255, 255, 255))
+        .setEndColorPacked(black.toPacked())
+        .build();
+
+    assertEquals(motionThree, packed);
+    assertEquals(motionThree.toString(), packed.toString());
+  }
+
+  @Test
+  public void testPackedEndStatesDefaultToStart() {
+    Motion2D packed = Motion2D.builder().setStartTick(6).setEndTick(9)
+        .setStartPositionPacked(samplePoint.toPacked())
+        .setStartDimensionsPacked(sampleDimension.toPacked())
+        .setStartColorPacked(black.toPacked())
+        .build();
+
+    assertEquals(motionOne, packed);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testNullStartPositionClearsPacked() {
+    // A null attribute unsets a packed state given earlier
+    Motion2D.builder().setStartTick(6).setEndTick(9).setStartColor(black)
+        .setStartDimensions(sampleDimension).setStartPositionPacked(samplePoint.toPacked())
+        .setStartPosition(null).build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPackedZeroTickMismatch() {
+    Motion2D.builder().setStartTick(3).setEndTick(3)
+        .setStartPositionPacked(samplePoint.toPacked())
+        .setStartDimensionsPacked(sampleDimension.toPacked())
+        .setStartColorPacked(white.toPacked())
+        .setEndColorPacked(black.toPacked())
+        .build();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPackedColor() {
+    Motion2D.builder().setStartColorPacked(0x1000000);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativePackedDimensions() {
+    Motion2D.builder().setEndDimensionsPacked(Position2D.pack(-4, 5));
+  }
+}
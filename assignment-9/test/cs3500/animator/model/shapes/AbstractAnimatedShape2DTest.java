@@ -9,8 +9,10 @@ import cs3500.animator.model.attributes.Position2D;
 
 import cs3500.animator.model.motions.Motion2D;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -80,6 +82,34 @@ public abstract class AbstractAnimatedShape2DTest {
     assertNotEquals(emptyRectangleClone, emptyRectangle);
   }
 
+  @Test
+  public void addMotionWithTickKeys() {
+    List<Integer> keyedTicks = new ArrayList<>();
+    emptyRectangle.addMotion(motion1, tick -> {
+      keyedTicks.add(tick);
+      return tick;
+    });
+
+    // Every tick the motion covers is keyed through the given function
+    List<Integer> expected = new ArrayList<>();
+    for (int tick = 0; tick <= 10; tick++) {
+      expected.add(tick);
+    }
+    assertEquals(expected, keyedTicks);
+    assertEquals(rectangleOneMotion.getMotions(), emptyRectangle.getMotions());
+    assertEquals(new Position2D(5, 5), emptyRectangle.getPosition(5));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void addMotionNullTickKeys() {
+    emptyRectangle.addMotion(motion1, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addOverlappingMotionWithTickKeys() {
+    rectangleThreeMotions.addMotion(motion2, Integer::valueOf);
+  }
+
   @Test(expected = NullPointerException.class)
   public void addNullMotionEmptyShape() {
     emptyEllipse.addMotion(null);
@@ -182,6 +212,23 @@ public abstract class AbstractAnimatedShape2DTest {
     assertEquals("R3", rectangleThreeMotions.getName());
   }
 
+  @Test
+  public void getVersion() {
+    long version = emptyRectangle.getVersion();
+    assertNotEquals(version, emptyEllipse.getVersion());
+
+    AnimatedShape2D emptyRectangleClone = (AnimatedShape2D) emptyRectangle.clone();
+    assertEquals(version, emptyRectangleClone.getVersion());
+
+    emptyRectangle.addMotion(motion1);
+    assertNotEquals(version, emptyRectangle.getVersion());
+    assertEquals(version, emptyRectangleClone.getVersion());
+
+    version = emptyRectangle.getVersion();
+    emptyRectangle.removeMotion(motion1);
+    assertNotEquals(version, emptyRectangle.getVersion());
+  }
+
   @Test
   public void getPosition() {
     assertEquals(new Position2D(5, 5), rectangleOneMotion.getPosition(5));
@@ -0,0 +1,128 @@
+package cs3500.animator.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorImmutableModel;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.view.EasyAnimatorView;
+import cs3500.animator.view.EasyAnimatorViewFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+
+import java.nio.file.Files;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link AnimationCache} class.
+ */
+public class AnimationCacheTest {
+
+  private static final String ANIMATION = "canvas 0 0 100 100\n"
+      + "shape R rectangle\n"
+      + "shape C ellipse\n"
+      + "motion R 1 0 0 10 10 255 0 0 10 50 50 10 10 255 0 0\n"
+      + "motion C 2 5 5 20 20 0 0 255 8 5 5 40 40 0 0 255\n"
+      + "tempo 1 5 2.5\n";
+
+  private File directory;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("animation-cache").toFile();
+    directory.deleteOnExit();
+  }
+
+  // Returns the text rendering of the given model
+  private static String render(EasyAnimatorImmutableModel<AnimatedShape2D> model)
+      throws IOException {
+    EasyAnimatorView<AnimatedRectangle, AnimatedEllipse, AnimatedCross> view =
+        EasyAnimatorViewFactory.create("text");
+    StringBuilder output = new StringBuilder();
+    view.render(model, output, 100);
+    return output.toString();
+  }
+
+  // Returns the entry files in the cache directory
+  private File[] getEntries() {
+    return directory.listFiles((dir, name) -> name.endsWith(".model"));
+  }
+
+  @Test
+  public void parseFileReplaysEntry() throws IOException {
+    AnimationCache cache = new AnimationCache(directory, 1 << 20);
+    String expected =
+        render(AnimationReader.parseFile(new StringReader(ANIMATION), BasicEasyAnimator.builder()));
+
+    // Miss parses the input and stores an entry
+    assertEquals(expected,
+        render(cache.parseFile(new StringReader(ANIMATION), BasicEasyAnimator.builder(), 1)));
+    assertEquals(1, getEntries().length);
+    assertEquals(AnimationCache.getKey(ANIMATION) + ".model", getEntries()[0].getName());
+
+    // Hit replays the entry and marks it as recently used
+    getEntries()[0].setLastModified(1000);
+    assertEquals(expected,
+        render(cache.parseFile(new StringReader(ANIMATION), BasicEasyAnimator.builder(), 2)));
+    assertTrue(getEntries()[0].lastModified() > 1000);
+  }
+
+  @Test
+  public void parseFileCorruptEntry() throws IOException {
+    AnimationCache cache = new AnimationCache(directory, 1 << 20);
+    cache.parseFile(new StringReader(ANIMATION), BasicEasyAnimator.builder(), 1);
+    File entry = getEntries()[0];
+    byte[] bytes = Files.readAllBytes(entry.toPath());
+    Files.write(entry.toPath(), Arrays.copyOf(bytes, bytes.length - 5));
+
+    // Truncated entry is discarded and the input parsed again
+    String expected =
+        render(AnimationReader.parseFile(new StringReader(ANIMATION), BasicEasyAnimator.builder()));
+    assertEquals(expected,
+        render(cache.parseFile(new StringReader(ANIMATION), BasicEasyAnimator.builder(), 1)));
+    assertEquals(bytes.length, entry.length());
+  }
+
+  @Test
+  public void parseFileEvictsLeastRecentlyUsed() throws IOException {
+    AnimationCache cache = new AnimationCache(directory, 1 << 20);
+    cache.parseFile(new StringReader(ANIMATION), BasicEasyAnimator.builder(), 1);
+    long entrySize = getEntries()[0].length();
+
+    // Room for two entries of this size, so the third evicts the oldest
+    cache = new AnimationCache(directory, 2 * entrySize);
+    String second = ANIMATION.replace('R', 'S');
+    String third = ANIMATION.replace('R', 'T');
+    new File(directory, AnimationCache.getKey(ANIMATION) + ".model").setLastModified(1000);
+    cache.parseFile(new StringReader(second), BasicEasyAnimator.builder(), 1);
+    new File(directory, AnimationCache.getKey(second) + ".model").setLastModified(2000);
+    cache.parseFile(new StringReader(third), BasicEasyAnimator.builder(), 1);
+
+    assertEquals(2, getEntries().length);
+    assertTrue(new File(directory, AnimationCache.getKey(second) + ".model").isFile());
+    assertTrue(new File(directory, AnimationCache.getKey(third) + ".model").isFile());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void parseFileMalformedInput() {
+    new AnimationCache(directory, 1 << 20)
+        .parseFile(new StringReader("canvas 0 0 100\n"), BasicEasyAnimator.builder(), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructorNonPositiveSize() {
+    new AnimationCache(directory, 0);
+  }
+}
@@ -0,0 +1,131 @@
+package cs3500.animator.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorModel;
+
+import cs3500.animator.model.motions.Motion2D;
+
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link AnimationFiles} class.
+ */
+public class AnimationFilesTest {
+
+  private static final String ANIMATION = "canvas 0 0 100 100\n"
+      + "shape R rectangle\n"
+      + "shape C ellipse\n"
+      + "motion R 1 0 0 10 10 255 0 0 10 50 50 10 10 255 0 0\n"
+      + "motion C 2 5 5 20 20 0 0 255 8 5 5 40 40 0 0 255\n"
+      + "tempo 1 5 2.5\n";
+
+  private File directory;
+
+  @Before
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("animation-files").toFile();
+    directory.deleteOnExit();
+  }
+
+  // Writes the animation to the file with the given name through AnimationFiles, returning it
+  private File write(String name) throws IOException {
+    File file = new File(directory, name);
+    file.deleteOnExit();
+    try (Writer writer = AnimationFiles.openOutput(file.getPath())) {
+      writer.write(ANIMATION);
+    }
+    return file;
+  }
+
+  // Reads the given file back through AnimationFiles and checks that it holds the animation
+  private static void checkRoundTrip(File file) throws IOException {
+    StringBuilder text = new StringBuilder();
+    try (BufferedReader reader = AnimationFiles.openInput(file.getPath())) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        text.append(line).append('\n');
+      }
+    }
+    assertEquals(ANIMATION, text.toString());
+
+    try (BufferedReader reader = AnimationFiles.openInput(file.getPath())) {
+      EasyAnimatorModel<AnimatedShape2D, Motion2D> model =
+          AnimationReader.parseFile(reader, BasicEasyAnimator.builder());
+      assertEquals(2, model.getShapes().size());
+      assertEquals(2, model.getNumMotions());
+      assertEquals(2.5, model.getTempo(1), 0);
+    }
+  }
+
+  // Returns the first two bytes of the given file
+  private static byte[] header(File file) throws IOException {
+    byte[] bytes = Files.readAllBytes(file.toPath());
+    return new byte[]{bytes[0], bytes[1]};
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void openInputNullPath() throws IOException {
+    AnimationFiles.openInput(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void openOutputNullPath() throws IOException {
+    AnimationFiles.openOutput(null);
+  }
+
+  @Test(expected = IOException.class)
+  public void openInputMissingFile() throws IOException {
+    AnimationFiles.openInput(new File(directory, "missing.txt").getPath());
+  }
+
+  @Test
+  public void roundTripGzip() throws IOException {
+    File file = write("animation.txt.gz");
+    // Gzip streams start with the magic number 0x1f8b
+    assertArrayEquals(new byte[]{0x1f, (byte) 0x8b}, header(file));
+    checkRoundTrip(file);
+  }
+
+  @Test
+  public void roundTripDeflate() throws IOException {
+    File file = write("animation.txt.zz");
+    // Zlib streams start with deflate at the default window size and compression level
+    assertArrayEquals(new byte[]{0x78, (byte) 0x9c}, header(file));
+    checkRoundTrip(file);
+  }
+
+  @Test
+  public void extensionIgnoresCase() throws IOException {
+    File gzip = write("animation.txt.GZ");
+    assertArrayEquals(new byte[]{0x1f, (byte) 0x8b}, header(gzip));
+    checkRoundTrip(gzip);
+
+    File deflate = write("animation.txt.Zz");
+    assertArrayEquals(new byte[]{0x78, (byte) 0x9c}, header(deflate));
+    checkRoundTrip(deflate);
+  }
+
+  @Test
+  public void otherExtensionsUncompressed() throws IOException {
+    for (String name : new String[]{"animation.txt", "animation.gzip", "animation.zz.txt", "gz"}) {
+      File file = write(name);
+      assertArrayEquals(ANIMATION.getBytes(StandardCharsets.UTF_8),
+          Files.readAllBytes(file.toPath()));
+      checkRoundTrip(file);
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package cs3500.animator.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorModel;
+
+import cs3500.animator.model.motions.Motion2D;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.util.AnimatorEvents.ParseEvent;
+
+import cs3500.animator.view.EasyAnimatorVisualViewPanel;
+
+import cs3500.animator.view.renderers.AnimatedShape2DSVGRenderer;
+import cs3500.animator.view.renderers.AnimatedShape2DVisualRenderer;
+
+import java.awt.image.BufferedImage;
+
+import java.io.StringReader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Test;
+
+/**
+ * Tests the flight recorder events of the {@link AnimatorEvents} class.
+ */
+public class AnimatorEventsTest {
+
+  private static final String ANIMATION = "canvas 0 0 100 100\n"
+      + "shape R rectangle\n"
+      + "motion R 0 0 0 10 10 255 0 0 5 10 10 10 10 255 0 0\n"
+      + "motion R 5 10 10 10 10 255 0 0 10 20 20 10 10 255 0 0\n"
+      + "shape C ellipse\n"
+      + "motion C 5 0 0 10 10 0 0 255 10 0 0 10 10 0 0 255\n"
+      + "tempo 0 10 2.0\n";
+
+  private static final String[] EVENT_NAMES = {"cs3500.animator.Parse",
+      "cs3500.animator.IntegrityCheck", "cs3500.animator.Frame", "cs3500.animator.SVGShape"};
+
+  // Returns the recorded events with the given name
+  private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String name) {
+    List<RecordedEvent> named = new ArrayList<>();
+    for (RecordedEvent event : events) {
+      if (event.getEventType().getName().equals(name)) {
+        named.add(event);
+      }
+    }
+    return named;
+  }
+
+  @Test
+  public void beginDisabled() {
+    boolean wasEnabled = AnimatorEvents.isEnabled();
+    AnimatorEvents.setEnabled(false);
+    try {
+      assertNull(AnimatorEvents.begin(ParseEvent::new));
+    } finally {
+      AnimatorEvents.setEnabled(wasEnabled);
+    }
+  }
+
+  @Test
+  public void beginNotRecorded() {
+    boolean wasEnabled = AnimatorEvents.isEnabled();
+    AnimatorEvents.setEnabled(true);
+    try {
+      assertNull(AnimatorEvents.begin(ParseEvent::new));
+    } finally {
+      AnimatorEvents.setEnabled(wasEnabled);
+    }
+  }
+
+  @Test
+  public void eventsAreRecorded() throws Exception {
+    boolean wasEnabled = AnimatorEvents.isEnabled();
+    AnimatorEvents.setEnabled(true);
+    Path file = Files.createTempFile("animator", ".jfr");
+    try (Recording recording = new Recording()) {
+      for (String name : EVENT_NAMES) {
+        recording.enable(name).withThreshold(Duration.ZERO);
+      }
+      recording.start();
+      assertNotNull(AnimatorEvents.begin(ParseEvent::new));
+
+      // Parse, render as SVG twice to hit the cache, and paint a frame at tick 3
+      EasyAnimatorModel<AnimatedShape2D, Motion2D> model =
+          AnimationReader.parseFile(new StringReader(ANIMATION), BasicEasyAnimator.builder());
+      AnimatedShape2DSVGRenderer svgRenderer = new AnimatedShape2DSVGRenderer();
+      svgRenderer.setOutput(new StringBuilder());
+      svgRenderer.setTickDelay(100);
+      List<AnimatedShape2D> shapes = model.getShapes();
+      for (int i = 0; i < 2; i++) {
+        for (AnimatedShape2D shape : shapes) {
+          shape.accept(svgRenderer);
+        }
+      }
+      AnimatedShape2DVisualRenderer visualRenderer = new AnimatedShape2DVisualRenderer();
+      visualRenderer.setTick(3);
+      new EasyAnimatorVisualViewPanel<AnimatedRectangle, AnimatedEllipse, AnimatedCross>(
+          model, visualRenderer)
+          .paintComponent(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB)
+              .createGraphics());
+
+      recording.stop();
+      recording.dump(file);
+    } finally {
+      AnimatorEvents.setEnabled(wasEnabled);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    Files.delete(file);
+
+    List<RecordedEvent> parses = getEvents(events, "cs3500.animator.Parse");
+    assertEquals(1, parses.size());
+    assertEquals(1, parses.get(0).getInt("threads"));
+    assertEquals(1, parses.get(0).getInt("canvases"));
+    assertEquals(2, parses.get(0).getInt("shapes"));
+    assertEquals(3, parses.get(0).getInt("motions"));
+    assertEquals(1, parses.get(0).getInt("tempos"));
+
+    // The model hands out copies of its shapes, which are checked once by each renderer
+    List<RecordedEvent> checks = getEvents(events, "cs3500.animator.IntegrityCheck");
+    assertEquals(4, checks.size());
+    for (RecordedEvent check : checks) {
+      assertTrue(check.getBoolean("passed"));
+      assertEquals(check.getString("shape").equals("R") ? 2 : 1, check.getInt("motions"));
+    }
+
+    List<RecordedEvent> svgShapes = getEvents(events, "cs3500.animator.SVGShape");
+    assertEquals(4, svgShapes.size());
+    assertFalse(svgShapes.get(0).getBoolean("cached"));
+    assertTrue(svgShapes.get(3).getBoolean("cached"));
+    assertEquals(svgShapes.get(0).getInt("characters"), svgShapes.get(2).getInt("characters"));
+
+    // The ellipse has not appeared by tick 3, so it is not visited
+    List<RecordedEvent> frames = getEvents(events, "cs3500.animator.Frame");
+    assertEquals(1, frames.size());
+    assertEquals(3, frames.get(0).getInt("tick"));
+    assertEquals(1, frames.get(0).getInt("shapesVisited"));
+    assertEquals(1, frames.get(0).getInt("shapesChanged"));
+    assertEquals(1, frames.get(0).getInt("shapesDrawn"));
+  }
+
+  @Test
+  public void failedIntegrityCheckIsRecorded() throws Exception {
+    boolean wasEnabled = AnimatorEvents.isEnabled();
+    AnimatorEvents.setEnabled(true);
+    Path file = Files.createTempFile("animator", ".jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable("cs3500.animator.IntegrityCheck").withThreshold(Duration.ZERO);
+      recording.start();
+      // Gap between ticks 5 and 7
+      EasyAnimatorModel<AnimatedShape2D, Motion2D> model = AnimationReader.parseFile(
+          new StringReader("canvas 0 0 100 100\n"
+              + "shape R rectangle\n"
+              + "motion R 0 0 0 10 10 0 0 0 5 0 0 10 10 0 0 0\n"
+              + "motion R 7 0 0 10 10 0 0 0 9 0 0 10 10 0 0 0\n"),
+          BasicEasyAnimator.builder());
+      try {
+        model.getShapes().get(0).getStartTick();
+      } catch (IllegalStateException expected) {
+        // The failed check is still recorded
+      }
+      recording.stop();
+      recording.dump(file);
+    } finally {
+      AnimatorEvents.setEnabled(wasEnabled);
+    }
+
+    List<RecordedEvent> checks =
+        getEvents(RecordingFile.readAllEvents(file), "cs3500.animator.IntegrityCheck");
+    Files.delete(file);
+    assertEquals(1, checks.size());
+    assertFalse(checks.get(0).getBoolean("passed"));
+    assertEquals(2, checks.get(0).getInt("motions"));
+  }
+}
@@ -0,0 +1,71 @@
+package cs3500.animator.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorModel;
+
+import cs3500.animator.model.motions.Motion2D;
+
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import java.io.StringReader;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link FirstFrameBuilder} class.
+ */
+public class FirstFrameBuilderTest {
+
+  private FirstFrameBuilder<EasyAnimatorModel<AnimatedShape2D, Motion2D>> builder;
+
+  @Before
+  public void setUp() {
+    builder = new FirstFrameBuilder<>(BasicEasyAnimator.builder());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void constructorNullBuilder() {
+    new FirstFrameBuilder<>(null);
+  }
+
+  @Test
+  public void buildsWholeAnimation() {
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> model = AnimationReader.parseFile(
+        new StringReader("canvas 0 0 10 10\nshape R rectangle\nshape C ellipse\n"
+            + "motion R 0 0 0 5 5 255 0 0 5 5 5 5 5 255 0 0\n"
+            + "motion C 3 0 0 5 5 0 0 255 8 0 0 5 5 0 0 255\n"
+            + "tempo 0 4 2.0\n"), builder);
+    assertEquals(2, model.getShapes().size());
+    assertEquals(2.0, model.getTempo(0), 0);
+  }
+
+  @Test
+  public void firstFrameHasShapesAtTickZero() {
+    assertNull(builder.buildFirstFrame(BasicEasyAnimator.builder()));
+
+    builder.setBounds(0, 0, 10, 10);
+    builder.declareShape("R", "rectangle");
+    builder.declareShape("C", "ellipse");
+    builder.addMotion("R", 0, 0, 0, 5, 5, 255, 0, 0, 5, 5, 5, 5, 5, 255, 0, 0);
+    builder.addMotion("R", 5, 5, 5, 5, 5, 255, 0, 0, 9, 0, 0, 5, 5, 255, 0, 0);
+    builder.addMotion("C", 3, 0, 0, 5, 5, 0, 0, 255, 8, 0, 0, 5, 5, 0, 0, 255);
+
+    // Only the rectangle's first motion is present at tick 0
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> firstFrame =
+        builder.buildFirstFrame(BasicEasyAnimator.builder());
+    assertEquals(1, firstFrame.getShapes().size());
+    assertEquals("R", firstFrame.getShapes().get(0).getName());
+    assertEquals(1, firstFrame.getShapes().get(0).getMotions().size());
+    assertEquals(10, firstFrame.getWidth());
+
+    // The first frame is only built again once it changes
+    assertNull(builder.buildFirstFrame(BasicEasyAnimator.builder()));
+    builder.declareShape("E", "cross");
+    builder.addMotion("E", 0, 1, 1, 2, 2, 0, 255, 0, 2, 1, 1, 2, 2, 0, 255, 0);
+    assertEquals(2, builder.buildFirstFrame(BasicEasyAnimator.builder()).getShapes().size());
+  }
+}
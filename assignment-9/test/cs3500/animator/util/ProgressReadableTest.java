@@ -0,0 +1,33 @@
+package cs3500.animator.util;
+
+import static org.junit.Assert.assertEquals;
+
+import cs3500.animator.model.BasicEasyAnimator;
+
+import java.io.StringReader;
+
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link ProgressReadable} class.
+ */
+public class ProgressReadableTest {
+
+  @Test(expected = NullPointerException.class)
+  public void constructorNullReadable() {
+    new ProgressReadable(null);
+  }
+
+  @Test
+  public void countsWhatIsParsed() {
+    String animation = "canvas 0 0 10 10\n"
+        + "shape R rectangle\n"
+        + "motion R 0 0 0 5 5 255 0 0 10 5 5 5 5 255 0 0\n";
+    ProgressReadable progress = new ProgressReadable(new StringReader(animation));
+    assertEquals(0, progress.getCharsRead());
+
+    AnimationReader.parseFile(progress, BasicEasyAnimator.builder());
+    assertEquals(animation.length(), progress.getCharsRead());
+    assertEquals(3, progress.getLinesRead());
+  }
+}
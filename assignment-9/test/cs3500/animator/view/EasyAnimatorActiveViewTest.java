@@ -0,0 +1,168 @@
+package cs3500.animator.view;
+
+import static org.junit.Assert.assertEquals;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorImmutableModel;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.util.AnimationReader;
+
+import cs3500.animator.view.renderers.AnimatedShape2DVisualRenderer;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+import java.awt.image.BufferedImage;
+
+import java.io.InputStreamReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the frame stepping and drawing of {@link EasyAnimatorActiveView}, which run without a
+ * display.
+ */
+public class EasyAnimatorActiveViewTest {
+
+  private static final EasyAnimatorImmutableModel<AnimatedShape2D> MODEL =
+      AnimationReader.parseFile(
+          new InputStreamReader(
+              EasyAnimatorActiveViewTest.class.getResourceAsStream("/smalldemo.txt")
+          ),
+          BasicEasyAnimator.builder()
+      );
+
+  private static final long TICK_NANOS = 10;
+
+  private AnimatedShape2DVisualRenderer renderer;
+  private long now;  // Current time of the fake clock
+  private List<Integer> ticks;  // Ticks of the frames shown, in order
+  private List<Long> times;  // Times at which the frames were shown, in order
+
+  @Before
+  public void setUp() {
+    renderer = new AnimatedShape2DVisualRenderer();
+    now = 0;
+    ticks = new ArrayList<>();
+    times = new ArrayList<>();
+  }
+
+  // Records the current tick and time as a shown frame
+  private void showFrame() {
+    ticks.add(renderer.getTick());
+    times.add(now);
+  }
+
+  // Steps through the given number of ticks on the fake clock, showing frames with the given
+  // action while running holds
+  private void stepFrames(int numTicks, Runnable showFrame, int maxFrames) {
+    EasyAnimatorActiveView.stepFrames(renderer, numTicks, TICK_NANOS,
+        () -> ticks.size() < maxFrames, showFrame, () -> now, nanos -> now += nanos);
+  }
+
+  // Renders the given tick of the model directly with a fresh renderer
+  private static BufferedImage renderDirectly(int tick) throws Exception {
+    AnimatedShape2DVisualRenderer renderer = new AnimatedShape2DVisualRenderer();
+    for (int i = 0; i < tick; i++) {
+      renderer.nextTick();
+    }
+
+    BufferedImage image =
+        new BufferedImage(MODEL.getWidth(), MODEL.getHeight(), BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(Color.WHITE);
+    graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+    graphics.translate(-MODEL.getLeftmostX(), -MODEL.getTopmostY());
+    renderer.setOutput(graphics);
+    for (AnimatedShape2D shape : MODEL.getShapes()) {
+      shape.accept(renderer);
+    }
+    graphics.dispose();
+
+    return image;
+  }
+
+  // Returns a copy of the given image
+  private static BufferedImage copy(BufferedImage image) {
+    BufferedImage copy =
+        new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+    copy.setData(image.getData());
+    return copy;
+  }
+
+  // Asserts that the given images are identical pixel for pixel
+  private static void assertSameImage(BufferedImage expected, BufferedImage actual) {
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+      }
+    }
+  }
+
+  @Test
+  public void stepsEveryTickOnSchedule() {
+    stepFrames(5, this::showFrame, Integer.MAX_VALUE);
+
+    assertEquals(List.of(0, 1, 2, 3, 4), ticks);
+    assertEquals(List.of(0L, 10L, 20L, 30L, 40L), times);
+    // The loop ends after the last frame without waiting for another tick
+    assertEquals(40, now);
+  }
+
+  @Test
+  public void slowFrameDoesNotDrift() {
+    stepFrames(8, () -> {
+      showFrame();
+      if (renderer.getTick() == 2) {
+        now += 25;
+      }
+    }, Integer.MAX_VALUE);
+
+    // Frames due while the slow frame was shown follow at once, then the schedule resumes
+    assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7), ticks);
+    assertEquals(List.of(0L, 10L, 20L, 45L, 45L, 50L, 60L, 70L), times);
+  }
+
+  @Test
+  public void stopsWhenNotRunning() {
+    stepFrames(MODEL.getNumTicks(), this::showFrame, 3);
+
+    assertEquals(List.of(0, 1, 2), ticks);
+    assertEquals(3, renderer.getTick());
+  }
+
+  @Test
+  public void drawTickMatchesDirectRendering() throws Exception {
+    EasyAnimatorShapeIndex<AnimatedRectangle, AnimatedEllipse, AnimatedCross> shapeIndex =
+        new EasyAnimatorShapeIndex<>(renderer);
+    BufferedImage image =
+        new BufferedImage(MODEL.getWidth(), MODEL.getHeight(), BufferedImage.TYPE_INT_RGB);
+    List<BufferedImage> frames = new ArrayList<>();
+
+    // Each frame is drawn over the previous one, as with the view's off-screen frame
+    stepFrames(MODEL.getNumTicks(), () -> {
+      showFrame();
+      Graphics2D graphics = image.createGraphics();
+      EasyAnimatorActiveView.drawTick(graphics, image.getWidth(), image.getHeight(), MODEL,
+          renderer, shapeIndex);
+      graphics.dispose();
+      if (renderer.getTick() % 7 == 0) {
+        frames.add(copy(image));
+      }
+    }, Integer.MAX_VALUE);
+
+    assertEquals(MODEL.getNumTicks(), ticks.size());
+    for (int i = 0; i < frames.size(); i++) {
+      assertSameImage(renderDirectly(i * 7), frames.get(i));
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package cs3500.animator.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorImmutableModel;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.util.AnimationReader;
+
+import cs3500.animator.view.renderers.AnimatedShape2DVisualRenderer;
+import cs3500.animator.view.renderers.VisualShapeRenderer.RenderType;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+import java.awt.image.BufferedImage;
+
+import java.io.InputStreamReader;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of {@link EasyAnimatorFramePipeline}.
+ */
+public class EasyAnimatorFramePipelineTest {
+
+  private static final EasyAnimatorImmutableModel<AnimatedShape2D> MODEL =
+      AnimationReader.parseFile(
+          new InputStreamReader(
+              EasyAnimatorFramePipelineTest.class.getResourceAsStream("/smalldemo.txt")
+          ),
+          BasicEasyAnimator.builder()
+      );
+
+  private EasyAnimatorFramePipeline<AnimatedRectangle, AnimatedEllipse, AnimatedCross> pipeline;
+
+  @Before
+  public void setUp() {
+    pipeline = new EasyAnimatorFramePipeline<>(MODEL, new AnimatedShape2DVisualRenderer(), 4,
+        Color.WHITE, () -> {
+        });
+  }
+
+  // Waits until the pipeline has a frame ready and displays it
+  private void advance() throws InterruptedException {
+    for (int i = 0; i < 5000 && !pipeline.advance(); i++) {
+      Thread.sleep(1);
+    }
+  }
+
+  // Renders the given tick of the model directly with a fresh renderer
+  private static BufferedImage renderDirectly(int tick, RenderType renderType)
+      throws Exception {
+    AnimatedShape2DVisualRenderer renderer = new AnimatedShape2DVisualRenderer();
+    renderer.setRenderType(renderType);
+    for (int i = 0; i < tick; i++) {
+      renderer.nextTick();
+    }
+
+    BufferedImage image =
+        new BufferedImage(MODEL.getWidth(), MODEL.getHeight(), BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(Color.WHITE);
+    graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+    graphics.translate(-MODEL.getLeftmostX(), -MODEL.getTopmostY());
+    renderer.setOutput(graphics);
+    for (AnimatedShape2D shape : MODEL.getShapes()) {
+      shape.accept(renderer);
+    }
+    graphics.dispose();
+
+    return image;
+  }
+
+  // Asserts that the given images are identical pixel for pixel
+  private static void assertSameImage(BufferedImage expected, BufferedImage actual) {
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructorTooFewFrames() {
+    new EasyAnimatorFramePipeline<>(MODEL, new AnimatedShape2DVisualRenderer(), 1, Color.WHITE,
+        () -> {
+        });
+  }
+
+  @Test
+  public void playsEveryTickInOrder() throws Exception {
+    assertNull(pipeline.getDisplayedImage());
+    assertFalse(pipeline.advance());
+
+    pipeline.start();
+    try {
+      for (int tick = 0; tick < MODEL.getNumTicks(); tick++) {
+        advance();
+        assertEquals(tick, pipeline.getDisplayedTick());
+        assertEquals(tick == MODEL.getNumTicks() - 1, pipeline.isFinished());
+      }
+      assertSameImage(renderDirectly(MODEL.getNumTicks() - 1, RenderType.FILL),
+          pipeline.getDisplayedImage());
+    } finally {
+      pipeline.stop();
+    }
+  }
+
+  @Test
+  public void restartAndUpdateInvalidateFrames() throws Exception {
+    pipeline.start();
+    try {
+      for (int tick = 0; tick < 20; tick++) {
+        advance();
+      }
+      assertEquals(19, pipeline.getDisplayedTick());
+
+      // Frames rendered before the change are discarded
+      pipeline.update(renderer -> renderer.setRenderType(RenderType.OUTLINE));
+      advance();
+      assertEquals(20, pipeline.getDisplayedTick());
+      assertSameImage(renderDirectly(20, RenderType.OUTLINE), pipeline.getDisplayedImage());
+
+      // Restarting displays the first frame by itself once it is ready
+      pipeline.restart();
+      for (int i = 0; i < 5000 && pipeline.getDisplayedTick() != 0; i++) {
+        Thread.sleep(1);
+      }
+      assertEquals(0, pipeline.getDisplayedTick());
+    } finally {
+      pipeline.stop();
+    }
+  }
+
+  @Test
+  public void looping() throws InterruptedException {
+    pipeline.setLooping(true);
+    pipeline.start();
+    try {
+      for (int tick = 0; tick < MODEL.getNumTicks(); tick++) {
+        advance();
+      }
+      assertFalse(pipeline.isFinished());
+
+      advance();
+      assertEquals(0, pipeline.getDisplayedTick());
+      assertTrue(pipeline.getDisplayedImage() != null);
+    } finally {
+      pipeline.stop();
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package cs3500.animator.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import cs3500.animator.view.renderers.VisualShapeRenderer.DetailLevel;
+import cs3500.animator.view.renderers.VisualShapeRenderer.PlaybackType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link EasyAnimatorLevelOfDetail} class.
+ */
+public class EasyAnimatorLevelOfDetailTest {
+
+  private EasyAnimatorLevelOfDetail levelOfDetail;
+
+  @Before
+  public void setUp() {
+    levelOfDetail = new EasyAnimatorLevelOfDetail();
+    levelOfDetail.setTickDelay(10);
+  }
+
+  // Records frames of the given render time in milliseconds until the detail level changes
+  private DetailLevel recordUntilChange(double renderMillis) {
+    for (int i = 0; i < 100; i++) {
+      DetailLevel level = levelOfDetail.recordFrame((long) (renderMillis * 1_000_000));
+      if (level != null) {
+        return level;
+      }
+    }
+    return null;
+  }
+
+  @Test
+  public void degradesAndRestoresOneLevelAtATime() {
+    assertEquals(DetailLevel.FULL, levelOfDetail.getLevel());
+
+    // Frames over budget lower the detail level step by step, down to dropping frames
+    for (int i = 1; i < DetailLevel.values().length; i++) {
+      assertEquals(DetailLevel.values()[i], recordUntilChange(15));
+    }
+    assertEquals(2, levelOfDetail.getTicksPerFrame());
+    assertNull(recordUntilChange(15));
+
+    // Budget doubles while frames are dropped, so these frames are quick enough to restore
+    assertEquals(DetailLevel.NO_ANTIALIASING, recordUntilChange(9));
+    assertEquals(1, levelOfDetail.getTicksPerFrame());
+
+    // Frames between the thresholds keep the detail level
+    assertNull(recordUntilChange(7));
+    assertEquals(DetailLevel.SIMPLE_CROSSES, recordUntilChange(4));
+  }
+
+  @Test
+  public void discretePlaybackKeepsTickDelay() {
+    for (int i = 1; i < DetailLevel.values().length; i++) {
+      recordUntilChange(15);
+    }
+    assertEquals(DetailLevel.DROPPED_FRAMES, levelOfDetail.getLevel());
+    assertEquals(2, levelOfDetail.getTicksPerFrame());
+
+    // Discrete playback never skips ticks, so keyframes are not held for longer
+    levelOfDetail.setPlaybackType(PlaybackType.DISCRETE);
+    assertEquals(PlaybackType.DISCRETE, levelOfDetail.getPlaybackType());
+    assertEquals(1, levelOfDetail.getTicksPerFrame());
+
+    // Nor is the frame budget doubled, so these frames are still too slow to restore detail
+    assertNull(recordUntilChange(9));
+
+    levelOfDetail.setPlaybackType(PlaybackType.CONTINUOUS);
+    assertEquals(2, levelOfDetail.getTicksPerFrame());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void setPlaybackTypeNull() {
+    levelOfDetail.setPlaybackType(null);
+  }
+
+  @Test
+  public void tempoScalesBaseDelay() {
+    // Without a base delay, the tick delay is left as it was set
+    assertEquals(10, levelOfDetail.applyTempo(2));
+    assertEquals(0, levelOfDetail.getBaseDelay());
+
+    // The base delay is scaled by the current speed factor, including when it is set
+    levelOfDetail.setBaseDelay(30);
+    assertEquals(15, levelOfDetail.getTickDelay());
+    assertEquals(30, levelOfDetail.applyTempo(1));
+    assertEquals(12, levelOfDetail.applyTempo(2.5));
+    assertEquals(1, levelOfDetail.applyTempo(1000));
+    assertEquals(30, levelOfDetail.getBaseDelay());
+
+    // Frames cover two ticks while continuous playback drops frames
+    levelOfDetail.applyTempo(1);
+    for (int i = 1; i < DetailLevel.values().length; i++) {
+      recordUntilChange(50);
+    }
+    assertEquals(30, levelOfDetail.getTickDelay());
+    assertEquals(60, levelOfDetail.getFrameDelay());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setBaseDelayNonPositive() {
+    levelOfDetail.setBaseDelay(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void applyTempoNonPositive() {
+    levelOfDetail.applyTempo(0);
+  }
+
+  @Test
+  public void keepsFullDetailWithoutTickDelay() {
+    levelOfDetail = new EasyAnimatorLevelOfDetail();
+    assertNull(recordUntilChange(1000));
+  }
+
+  @Test
+  public void setThresholds() {
+    levelOfDetail.setThresholds(Double.POSITIVE_INFINITY, 0.1);
+    assertEquals(Double.POSITIVE_INFINITY, levelOfDetail.getDegradeThreshold(), 0);
+    assertEquals(0.1, levelOfDetail.getRestoreThreshold(), 0);
+    assertNull(recordUntilChange(1000));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setThresholdsInverted() {
+    levelOfDetail.setThresholds(0.5, 1.0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setThresholdsNonPositive() {
+    levelOfDetail.setThresholds(1.0, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setTickDelayNonPositive() {
+    levelOfDetail.setTickDelay(0);
+  }
+}
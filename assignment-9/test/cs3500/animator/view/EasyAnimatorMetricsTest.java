@@ -0,0 +1,268 @@
+package cs3500.animator.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.animator.model.BasicEasyAnimator;
+
+import cs3500.animator.util.AnimationReader;
+
+import cs3500.animator.view.renderers.VisualShapeRenderer.DetailLevel;
+
+import java.io.StringReader;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link EasyAnimatorMetrics} class.
+ */
+public class EasyAnimatorMetricsTest {
+
+  private EasyAnimatorLevelOfDetail levelOfDetail;
+  private EasyAnimatorMetrics metrics;
+
+  // Feature listener which logs the operations carried out with it and the thread they ran on
+  private static final class MockFeatures implements InteractiveFeatures {
+
+    private final StringBuilder log = new StringBuilder();
+
+    // Logs the given operation
+    private void log(String operation) {
+      log.append(operation).append(SwingUtilities.isEventDispatchThread() ? " on EDT\n" : "\n");
+    }
+
+    @Override
+    public void togglePlayPause() {
+      log("togglePlayPause");
+    }
+
+    @Override
+    public void restart() {
+      log("restart");
+    }
+
+    @Override
+    public void toggleLooping() {
+      log("toggleLooping");
+    }
+
+    @Override
+    public void toggleOutline() {
+      log("toggleOutline");
+    }
+
+    @Override
+    public void toggleDiscretePlayback() {
+      log("toggleDiscretePlayback");
+    }
+
+    @Override
+    public void setDelay(int delay) {
+      if (delay <= 0) {
+        throw new IllegalArgumentException("Tick delay is non-positive.");
+      }
+      log("setDelay " + delay);
+    }
+
+    @Override
+    public DetailLevel getDetailLevel() {
+      return DetailLevel.FULL;
+    }
+
+    @Override
+    public void setDetailThresholds(double degradeThreshold, double restoreThreshold) {
+      log("setDetailThresholds");
+    }
+
+    @Override
+    public double getDegradeThreshold() {
+      return 0;
+    }
+
+    @Override
+    public double getRestoreThreshold() {
+      return 0;
+    }
+  }
+
+  @Before
+  public void setUp() {
+    levelOfDetail = new EasyAnimatorLevelOfDetail();
+    metrics = new EasyAnimatorMetrics(levelOfDetail);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void constructorNullLevelOfDetail() {
+    new EasyAnimatorMetrics(null);
+  }
+
+  @Test
+  public void frameTimePercentiles() {
+    assertEquals(0, metrics.getFrameTimeMedianMillis(), 0);
+    assertEquals(0, metrics.getFrameTimeMaxMillis(), 0);
+
+    // Frames taking 1 to 100 milliseconds, recorded in a shuffled order
+    for (int i = 0; i < 100; i++) {
+      metrics.recordFrame((i * 37 % 100 + 1) * 1_000_000L, -1);
+    }
+    assertEquals(100, metrics.getFramesRendered());
+    assertEquals(50, metrics.getFrameTimeMedianMillis(), 50 / 16.0);
+    assertEquals(90, metrics.getFrameTime90thPercentileMillis(), 90 / 16.0);
+    assertEquals(99, metrics.getFrameTime99thPercentileMillis(), 99 / 16.0);
+    assertEquals(100, metrics.getFrameTimeMaxMillis(), 0);
+  }
+
+  @Test
+  public void frameTimePercentilesExactBelow16Micros() {
+    for (int i = 0; i < 10; i++) {
+      metrics.recordFrame(3_000, -1);
+    }
+    metrics.recordFrame(15_000, -1);
+    assertEquals(0.003, metrics.getFrameTimeMedianMillis(), 1e-9);
+    assertEquals(0.015, metrics.getFrameTime99thPercentileMillis(), 1e-9);
+  }
+
+  @Test
+  public void allocatedBytesPerFrame() {
+    assertEquals(-1, metrics.getAllocatedBytesPerFrame());
+
+    metrics.recordFrame(1000, 100);
+    metrics.recordFrame(1000, 300);
+    metrics.recordFrame(1000, -1);
+    assertEquals(200, metrics.getAllocatedBytesPerFrame());
+    assertEquals(3, metrics.getFramesRendered());
+  }
+
+  @Test
+  public void threadAllocatedBytesGrow() {
+    long before = EasyAnimatorMetrics.getThreadAllocatedBytes();
+    if (before >= 0) {
+      int[] allocation = new int[1 << 16];
+      assertTrue(EasyAnimatorMetrics.getThreadAllocatedBytes() - before >= allocation.length * 4L);
+    }
+  }
+
+  @Test
+  public void droppedFramesAndReset() {
+    metrics.recordDroppedFrames(2);
+    metrics.recordDroppedFrames(0);
+    metrics.recordDroppedFrames(1);
+    metrics.recordFrame(5_000_000, 64);
+    assertEquals(3, metrics.getDroppedFrames());
+
+    metrics.resetStatistics();
+    assertEquals(0, metrics.getDroppedFrames());
+    assertEquals(0, metrics.getFramesRendered());
+    assertEquals(0, metrics.getFrameTimeMedianMillis(), 0);
+    assertEquals(0, metrics.getFrameTimeMaxMillis(), 0);
+    assertEquals(-1, metrics.getAllocatedBytesPerFrame());
+  }
+
+  @Test
+  public void ticksPerSecond() throws InterruptedException {
+    assertEquals(0, metrics.getTargetTicksPerSecond(), 0);
+    levelOfDetail.setTickDelay(20);
+    assertEquals(20, metrics.getDelay());
+    assertEquals(50, metrics.getTargetTicksPerSecond(), 1e-9);
+
+    // Move forward two ticks at a time until a full window has passed
+    long start = System.nanoTime();
+    int tick = 0;
+    while (System.nanoTime() - start < 1_100_000_000L) {
+      tick += 2;
+      metrics.recordTick(tick);
+      Thread.sleep(10);
+    }
+    double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+    assertEquals(tick, metrics.getCurrentTick());
+    assertTrue(metrics.getAchievedTicksPerSecond() > 0);
+    assertTrue(metrics.getAchievedTicksPerSecond() <= 2 * tick / (elapsedSeconds - 0.1));
+  }
+
+  @Test
+  public void delayHoldsThroughTempoChanges() {
+    levelOfDetail.setBaseDelay(20);
+    levelOfDetail.applyTempo(1);
+
+    // A delay set remotely is the base delay, so the next timer tick applying the tempo keeps it
+    levelOfDetail.setBaseDelay(500);
+    assertEquals(500, metrics.getDelay());
+    levelOfDetail.applyTempo(1);
+    assertEquals(500, metrics.getDelay());
+    levelOfDetail.applyTempo(2);
+    assertEquals(250, metrics.getDelay());
+    assertEquals(500, levelOfDetail.getBaseDelay());
+  }
+
+  @Test
+  public void modelAndDetailLevel() {
+    metrics.setModel(AnimationReader.parseFile(new StringReader("canvas 0 0 10 10\n"
+        + "shape R rectangle\n"
+        + "motion R 0 0 0 5 5 255 0 0 5 5 5 5 5 255 0 0\n"
+        + "motion R 5 5 5 5 5 255 0 0 10 5 5 5 5 255 0 0\n"
+        + "shape E ellipse\n"
+        + "motion E 0 0 0 5 5 255 0 0 5 5 5 5 5 255 0 0\n"), BasicEasyAnimator.builder()));
+    assertEquals(2, metrics.getNumShapes());
+    assertEquals(3, metrics.getNumMotions());
+    assertEquals("FULL", metrics.getDetailLevel());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void operationNotInteractive() {
+    metrics.restart();
+  }
+
+  @Test
+  public void operationsRunOnEventThread() {
+    MockFeatures features = new MockFeatures();
+    metrics.setFeatures(features);
+
+    metrics.togglePlayPause();
+    metrics.restart();
+    metrics.toggleLooping();
+    metrics.toggleOutline();
+    metrics.toggleDiscretePlayback();
+    metrics.setDelay(25);
+    assertEquals("togglePlayPause on EDT\n"
+        + "restart on EDT\n"
+        + "toggleLooping on EDT\n"
+        + "toggleOutline on EDT\n"
+        + "toggleDiscretePlayback on EDT\n"
+        + "setDelay 25 on EDT\n", features.log.toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void operationRethrows() {
+    metrics.setFeatures(new MockFeatures());
+    metrics.setDelay(0);
+  }
+
+  @Test
+  public void registeredAsMBean() throws Exception {
+    MockFeatures features = new MockFeatures();
+    metrics.setFeatures(features);
+    metrics.recordDroppedFrames(4);
+
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName("cs3500.animator:type=EasyAnimatorMetricsTest");
+    server.registerMBean(metrics, name);
+    try {
+      assertEquals(4L, server.getAttribute(name, "DroppedFrames"));
+      assertEquals("FULL", server.getAttribute(name, "DetailLevel"));
+      server.setAttribute(name, new Attribute("Delay", 40));
+      server.invoke(name, "restart", new Object[0], new String[0]);
+    } finally {
+      server.unregisterMBean(name);
+    }
+    assertEquals("setDelay 40 on EDT\nrestart on EDT\n", features.log.toString());
+  }
+}
@@ -0,0 +1,162 @@
+package cs3500.animator.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorModel;
+
+import cs3500.animator.model.attributes.Color;
+import cs3500.animator.model.attributes.Dimensions2D;
+import cs3500.animator.model.attributes.Position2D;
+
+import cs3500.animator.model.motions.Motion2D;
+
+import cs3500.animator.model.shapes.AnimatedCross;
+import cs3500.animator.model.shapes.AnimatedEllipse;
+import cs3500.animator.model.shapes.AnimatedRectangle;
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.util.AnimationReader;
+
+import cs3500.animator.view.renderers.AnimatedShape2DVisualRenderer;
+
+import java.io.StringReader;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link EasyAnimatorShapeIndex} class.
+ */
+public class EasyAnimatorShapeIndexTest {
+
+  // A lives from 0 to 10, B from 5 to 8, C from 12 to 20, and D is drawn before B from 3 to 15
+  private static final String ANIMATION = "canvas 0 0 100 100\n"
+      + "shape A rectangle\n"
+      + "motion A 0 0 0 10 10 255 0 0 10 10 10 10 10 255 0 0\n"
+      + "shape D ellipse\n"
+      + "motion D 3 0 0 10 10 0 255 0 15 0 0 10 10 0 255 0\n"
+      + "shape B rectangle\n"
+      + "motion B 5 0 0 10 10 0 0 255 8 5 5 10 10 0 0 255\n"
+      + "shape C cross\n"
+      + "motion C 12 0 0 10 10 0 0 0 20 0 0 20 20 0 0 0\n";
+
+  private EasyAnimatorModel<AnimatedShape2D, Motion2D> model;
+  private EasyAnimatorShapeIndex<AnimatedRectangle, AnimatedEllipse, AnimatedCross> index;
+
+  @Before
+  public void setUp() {
+    model = AnimationReader.parseFile(new StringReader(ANIMATION), BasicEasyAnimator.builder());
+    index = new EasyAnimatorShapeIndex<>(new AnimatedShape2DVisualRenderer());
+  }
+
+  // Returns the names of the shapes visible at the index's tick in drawing order, with changed
+  // shapes marked by an asterisk
+  private String visibleShapes() {
+    StringBuilder names = new StringBuilder();
+    for (int i = index.nextVisible(0); i >= 0; i = index.nextVisible(i + 1)) {
+      names.append(((AnimatedShape2D) index.getShape(i)).getName())
+          .append(index.isChanged(i) ? "* " : " ");
+    }
+    return names.toString().trim();
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void constructorNullRenderer() {
+    new EasyAnimatorShapeIndex<AnimatedRectangle, AnimatedEllipse, AnimatedCross>(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void seekNullModel() {
+    index.seek(null, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void seekNegativeTick() {
+    index.seek(model, -1);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void getShapeBeforeSeek() {
+    index.getShape(0);
+  }
+
+  @Test
+  public void visibleInDrawingOrder() {
+    index.seek(model, 0);
+    assertEquals("A*", visibleShapes());
+    index.seek(model, 6);
+    assertEquals("A* D* B*", visibleShapes());
+    assertEquals(3, index.getNumVisible());
+
+    // Shapes stay visible in their end state once they have ended, and stop changing
+    index.seek(model, 30);
+    assertEquals("A* D* B* C*", visibleShapes());
+    index.seek(model, 31);
+    assertEquals("A D B C", visibleShapes());
+    assertEquals(4, index.getNumVisible());
+    assertEquals(0, index.getNumChanged());
+  }
+
+  @Test
+  public void changedSincePreviousTick() {
+    index.seek(model, 8);
+    assertEquals("A* D* B*", visibleShapes());
+
+    // B ended at the previous tick, so only A and D have changed since
+    index.seek(model, 9);
+    assertEquals("A* D* B", visibleShapes());
+    assertEquals(2, index.getNumChanged());
+    index.seek(model, 12);
+    assertEquals("A* D* B C*", visibleShapes());
+    index.seek(model, 13);
+    assertEquals("A D* B C*", visibleShapes());
+
+    // Nothing changes when the tick stays the same
+    index.seek(model, 13);
+    assertEquals("A D B C", visibleShapes());
+    assertEquals(0, index.getNumChanged());
+    assertFalse(index.isChanged(-1));
+  }
+
+  @Test
+  public void seekBackwards() {
+    index.seek(model, 20);
+    index.seek(model, 4);
+    assertEquals("A* D*", visibleShapes());
+    index.seek(model, 5);
+    assertEquals("A* D* B*", visibleShapes());
+  }
+
+  @Test
+  public void rebuiltWhenModelChanges() {
+    index.seek(model, 4);
+    assertEquals("A* D*", visibleShapes());
+
+    AnimatedShape2D shape = new AnimatedRectangle("E");
+    shape.addMotion(Motion2D.builder()
+        .setStartTick(2)
+        .setEndTick(6)
+        .setStartPosition(new Position2D(0, 0))
+        .setStartDimensions(new Dimensions2D(10, 10))
+        .setStartColor(new Color(0, 0, 0))
+        .build());
+    model.addShape(shape);
+    index.seek(model, 4);
+    assertEquals("A* D* E*", visibleShapes());
+
+    model.removeShape("A");
+    index.seek(model, 4);
+    assertEquals("D* E*", visibleShapes());
+  }
+
+  @Test
+  public void malformedShapesNeverVisible() {
+    model.addShape(new AnimatedEllipse("Empty"));
+    index.seek(model, 30);
+    assertEquals("A* D* B* C*", visibleShapes());
+    assertTrue(index.nextVisible(4) < 0);
+  }
+}
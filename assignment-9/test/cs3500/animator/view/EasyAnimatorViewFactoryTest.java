@@ -12,8 +12,10 @@ public class EasyAnimatorViewFactoryTest {
   @Test
   public void create() {
     assertTrue(EasyAnimatorViewFactory.create("svg") instanceof EasyAnimatorSVGView);
+    assertTrue(EasyAnimatorViewFactory.create("svg-compact") instanceof EasyAnimatorSVGView);
     assertTrue(EasyAnimatorViewFactory.create("text") instanceof EasyAnimatorTextualView);
     assertTrue(EasyAnimatorViewFactory.create("visual") instanceof EasyAnimatorVisualView);
+    assertTrue(EasyAnimatorViewFactory.create("visual-active") instanceof EasyAnimatorActiveView);
     assertTrue(EasyAnimatorViewFactory.create("interactive")
         instanceof EasyAnimatorInteractiveView);
   }
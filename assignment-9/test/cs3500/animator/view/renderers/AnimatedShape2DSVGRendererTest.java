@@ -1,6 +1,7 @@
 package cs3500.animator.view.renderers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import cs3500.animator.model.motions.Motion2D;
 
@@ -87,6 +88,104 @@ public class AnimatedShape2DSVGRendererTest {
     );
   }
 
+  @Test
+  public void visitRectangleCached() throws IOException {
+    shapeRenderer.visitRectangle(rectangle);
+    String firstRender = output.toString();
+
+    // Unmodified shape renders identically from cache
+    output = new StringBuilder();
+    shapeRenderer.setOutput(output);
+    shapeRenderer.visitRectangle((AnimatedRectangle) rectangle.clone());
+    assertEquals(firstRender, output.toString());
+
+    // Modified shape is re-rendered
+    rectangle.removeMotion(motion2);
+    output = new StringBuilder();
+    shapeRenderer.setOutput(output);
+    shapeRenderer.visitRectangle(rectangle);
+    assertEquals(
+        "<rect id=\"R\" x=\"0\" y=\"0\" width=\"10\" height=\"10\" fill=\"rgb(0,0,0)\" "
+            + "visibility=\"hidden\">\n"
+            + "<animate attributeType=\"xml\" attributeName=\"visibility\" begin=\"50ms\" "
+            + "dur=\"1ms\" from=\"hidden\" to=\"visible\" fill=\"freeze\"/>\n"
+            + "<animate attributeType=\"xml\" attributeName=\"x\" begin=\"50ms\" dur=\"100ms\" "
+            + "from=\"0\" to=\"10\" fill=\"freeze\"/>\n"
+            + "<animate attributeType=\"xml\" attributeName=\"y\" begin=\"50ms\" dur=\"100ms\" "
+            + "from=\"0\" to=\"10\" fill=\"freeze\"/>\n"
+            + "<animate attributeType=\"xml\" attributeName=\"width\" begin=\"50ms\" dur=\"100ms\" "
+            + "from=\"10\" to=\"20\" fill=\"freeze\"/>\n"
+            + "<animate attributeType=\"xml\" attributeName=\"height\" begin=\"50ms\" "
+            + "dur=\"100ms\" from=\"10\" to=\"20\" fill=\"freeze\"/>\n"
+            + "<animate attributeType=\"xml\" attributeName=\"fill\" begin=\"50ms\" dur=\"100ms\" "
+            + "from=\"rgb(0,0,0)\" to=\"rgb(255,255,255)\" fill=\"freeze\"/>\n"
+            + "</rect>\n",
+        output.toString()
+    );
+
+    // Changed tick delay is re-rendered
+    output = new StringBuilder();
+    shapeRenderer.setOutput(output);
+    shapeRenderer.setTickDelay(20);
+    shapeRenderer.visitRectangle(rectangle);
+    assertTrue(output.toString().contains("begin=\"100ms\" dur=\"200ms\""));
+  }
+
+  @Test
+  public void cachePrunedToLastRender() throws IOException {
+    shapeRenderer.visitRectangle(rectangle);
+    shapeRenderer.visitEllipse(ellipse);
+    assertEquals(2, shapeRenderer.getNumCached());
+
+    // Both shapes were visited in the previous render, so both stay cached
+    shapeRenderer.setOutput(new StringBuilder());
+    assertEquals(2, shapeRenderer.getNumCached());
+    shapeRenderer.visitRectangle(rectangle);
+
+    // The ellipse was not visited in the previous render, so it is dropped
+    shapeRenderer.setOutput(new StringBuilder());
+    assertEquals(1, shapeRenderer.getNumCached());
+
+    // A render visiting no shapes leaves nothing cached after it
+    StringBuilder pruned = new StringBuilder();
+    shapeRenderer.setOutput(new StringBuilder());
+    shapeRenderer.setOutput(pruned);
+    assertEquals(0, shapeRenderer.getNumCached());
+
+    // Pruned shapes render as before
+    shapeRenderer.visitEllipse(ellipse);
+    StringBuilder fresh = new StringBuilder();
+    AnimatedShape2DSVGRenderer freshRenderer = new AnimatedShape2DSVGRenderer();
+    freshRenderer.setOutput(fresh);
+    freshRenderer.setTickDelay(10);
+    freshRenderer.visitEllipse(ellipse);
+    assertEquals(fresh.toString(), pruned.toString());
+  }
+
+  @Test
+  public void visitRectangleCompact() throws IOException {
+    shapeRenderer = new AnimatedShape2DSVGRenderer(true);
+    shapeRenderer.setOutput(output);
+    shapeRenderer.setTickDelay(10);
+    shapeRenderer.visitRectangle(rectangle);
+    assertEquals(
+        "<rect id=\"R\" width=\"10\" height=\"10\" fill=\"#000\" visibility=\"hidden\">\n"
+            + "<set attributeName=\"visibility\" to=\"visible\" begin=\"50ms\"/>\n"
+            + "<animateMotion begin=\"50ms\" dur=\"100ms\" path=\"M0,0L10,10\" "
+            + "fill=\"freeze\"/>\n"
+            + "<animate attributeName=\"width\" begin=\"50ms\" dur=\"100ms\" from=\"10\" "
+            + "to=\"20\" fill=\"freeze\"/>\n"
+            + "<animate attributeName=\"height\" begin=\"50ms\" dur=\"100ms\" from=\"10\" "
+            + "to=\"20\" fill=\"freeze\"/>\n"
+            + "<animate attributeName=\"fill\" begin=\"50ms\" dur=\"100ms\" from=\"#000\" "
+            + "to=\"#fff\" fill=\"freeze\"/>\n"
+            + "<animate attributeName=\"fill\" begin=\"150ms\" dur=\"50ms\" from=\"#fff\" "
+            + "to=\"#000\" fill=\"freeze\"/>\n"
+            + "</rect>\n",
+        output.toString()
+    );
+  }
+
   @Test(expected = NullPointerException.class)
   public void visitNullRectangle() throws IOException {
     shapeRenderer.visitRectangle(null);
@@ -152,6 +251,41 @@ public class AnimatedShape2DSVGRendererTest {
     );
   }
 
+  @Test
+  public void visitEllipseCompact() throws IOException {
+    ellipse.removeMotion(motion2);
+    ellipse.addMotion(Motion2D.builder()
+        .setStartTick(15)
+        .setEndTick(20)
+        .setStartPosition(new Position2D(10, 10))
+        .setStartDimensions(new Dimensions2D(20, 20))
+        .setStartColor(new Color(255, 255, 255))
+        .setEndColor(new Color(18, 52, 86))
+        .build());
+
+    shapeRenderer = new AnimatedShape2DSVGRenderer(true);
+    shapeRenderer.setOutput(output);
+    shapeRenderer.setTickDelay(10);
+    shapeRenderer.visitEllipse(ellipse);
+    assertEquals(
+        "<ellipse id=\"E\" cx=\"5\" cy=\"5\" rx=\"5\" ry=\"5\" fill=\"#000\" "
+            + "visibility=\"hidden\">\n"
+            + "<set attributeName=\"visibility\" to=\"visible\" begin=\"50ms\"/>\n"
+            + "<animateMotion begin=\"50ms\" dur=\"100ms\" path=\"M0,0L15,15\" "
+            + "fill=\"freeze\"/>\n"
+            + "<animate attributeName=\"rx\" begin=\"50ms\" dur=\"100ms\" from=\"5\" "
+            + "to=\"10\" fill=\"freeze\"/>\n"
+            + "<animate attributeName=\"ry\" begin=\"50ms\" dur=\"100ms\" from=\"5\" "
+            + "to=\"10\" fill=\"freeze\"/>\n"
+            + "<animate attributeName=\"fill\" begin=\"50ms\" dur=\"100ms\" from=\"#000\" "
+            + "to=\"#fff\" fill=\"freeze\"/>\n"
+            + "<animate attributeName=\"fill\" begin=\"150ms\" dur=\"50ms\" from=\"#fff\" "
+            + "to=\"#123456\" fill=\"freeze\"/>\n"
+            + "</ellipse>\n",
+        output.toString()
+    );
+  }
+
   @Test(expected = NullPointerException.class)
   public void visitNullEllipse() throws IOException {
     shapeRenderer.visitEllipse(null);
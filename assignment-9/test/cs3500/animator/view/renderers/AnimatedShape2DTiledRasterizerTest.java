@@ -0,0 +1,115 @@
+package cs3500.animator.view.renderers;
+
+import static org.junit.Assert.assertEquals;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorImmutableModel;
+
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.util.AnimationReader;
+
+import cs3500.animator.view.renderers.VisualShapeRenderer.RenderType;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+
+import java.awt.image.BufferedImage;
+
+import java.io.InputStreamReader;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * Tests the functionality of the {@link AnimatedShape2DTiledRasterizer} class.
+ */
+public class AnimatedShape2DTiledRasterizerTest {
+
+  private static final EasyAnimatorImmutableModel<AnimatedShape2D> MODEL =
+      AnimationReader.parseFile(
+          new InputStreamReader(
+              AnimatedShape2DTiledRasterizerTest.class.getResourceAsStream("/smalldemo-cross.txt")
+          ),
+          BasicEasyAnimator.builder()
+      );
+
+  // Renders the given tick of the model serially with a single visual renderer
+  private static BufferedImage renderSerially(int tick, RenderType renderType) throws Exception {
+    AnimatedShape2DVisualRenderer renderer = new AnimatedShape2DVisualRenderer();
+    renderer.setRenderType(renderType);
+    renderer.setTick(tick);
+
+    BufferedImage image =
+        new BufferedImage(MODEL.getWidth(), MODEL.getHeight(), BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(Color.WHITE);
+    graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+    graphics.translate(-MODEL.getLeftmostX(), -MODEL.getTopmostY());
+    renderer.setOutput(graphics);
+    for (AnimatedShape2D shape : MODEL.getShapes()) {
+      shape.accept(renderer);
+    }
+    graphics.dispose();
+
+    return image;
+  }
+
+  // Asserts that tiled rendering matches serial rendering at every tick of the model
+  private static void assertMatchesSerial(AnimatedShape2DTiledRasterizer rasterizer,
+      RenderType renderType) throws Exception {
+    rasterizer.setRenderType(renderType);
+    BufferedImage tiled =
+        new BufferedImage(MODEL.getWidth(), MODEL.getHeight(), BufferedImage.TYPE_INT_RGB);
+
+    for (int tick = 0; tick < MODEL.getNumTicks(); tick += 3) {
+      BufferedImage serial = renderSerially(tick, renderType);
+      rasterizer.render(MODEL, tick, tiled, Color.WHITE);
+
+      for (int y = 0; y < serial.getHeight(); y++) {
+        for (int x = 0; x < serial.getWidth(); x++) {
+          assertEquals(serial.getRGB(x, y), tiled.getRGB(x, y));
+        }
+      }
+    }
+  }
+
+  // Checks that the rasterizer with the given tile size matches the serial renderer when run on a
+  // pool of its own, which is shut down afterwards
+  private static void assertMatchesSerialOnPool(int tileSize, RenderType renderType)
+      throws Exception {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      assertMatchesSerial(new AnimatedShape2DTiledRasterizer(tileSize, pool), renderType);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void renderMatchesSerialFill() throws Exception {
+    assertMatchesSerialOnPool(16, RenderType.FILL);
+  }
+
+  @Test
+  public void renderMatchesSerialOutline() throws Exception {
+    assertMatchesSerialOnPool(37, RenderType.OUTLINE);
+  }
+
+  @Test
+  public void renderMatchesSerialDefaultTiles() throws Exception {
+    assertMatchesSerial(new AnimatedShape2DTiledRasterizer(), RenderType.FILL);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructorNonPositiveTileSize() {
+    new AnimatedShape2DTiledRasterizer(0, ForkJoinPool.commonPool());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void renderNegativeTick() {
+    new AnimatedShape2DTiledRasterizer().render(MODEL, -1,
+        new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), Color.WHITE);
+  }
+}
@@ -0,0 +1,308 @@
+package cs3500.animator.view.renderers;
+
+import static org.junit.Assert.assertEquals;
+
+import cs3500.animator.model.BasicEasyAnimator;
+import cs3500.animator.model.EasyAnimatorModel;
+
+import cs3500.animator.model.motions.Motion2D;
+
+import cs3500.animator.model.shapes.AnimatedShape2D;
+
+import cs3500.animator.util.AnimationReader;
+
+import cs3500.animator.view.renderers.VisualShapeRenderer.DetailLevel;
+import cs3500.animator.view.renderers.VisualShapeRenderer.PlaybackType;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+
+import java.awt.image.BufferedImage;
+
+import java.io.StringReader;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the tick navigation and detail levels of the {@link AnimatedShape2DVisualRenderer} class.
+ */
+public class AnimatedShape2DVisualRendererTest {
+
+  // Discrete ticks are 2, 5, 9, 12 and 20
+  private static final String ANIMATION = "canvas 0 0 100 100\n"
+      + "shape R rectangle\n"
+      + "motion R 2 0 0 10 10 255 0 0 5 10 10 10 10 255 0 0\n"
+      + "motion R 5 10 10 10 10 255 0 0 12 20 20 10 10 255 0 0\n"
+      + "shape C ellipse\n"
+      + "motion C 5 0 0 10 10 0 0 255 9 0 0 10 10 0 0 255\n"
+      + "motion C 9 0 0 10 10 0 0 255 20 0 0 10 10 0 0 255\n";
+
+  private EasyAnimatorModel<AnimatedShape2D, Motion2D> model;
+  private AnimatedShape2DVisualRenderer renderer;
+
+  @Before
+  public void setUp() {
+    model = AnimationReader.parseFile(new StringReader(ANIMATION), BasicEasyAnimator.builder());
+    renderer = new AnimatedShape2DVisualRenderer();
+  }
+
+  @Test
+  public void nextTickContinuous() {
+    assertEquals(1, renderer.nextTick());
+    assertEquals(2, renderer.nextTick());
+    assertEquals(1, renderer.previousTick());
+    assertEquals(0, renderer.previousTick());
+    assertEquals(0, renderer.previousTick());
+  }
+
+  @Test
+  public void nextTickDiscrete() {
+    renderer.setDiscreteTicks(model);
+    renderer.setPlaybackType(PlaybackType.DISCRETE);
+
+    int[] expected = {2, 5, 9, 12, 20, 21, 22};
+    for (int tick : expected) {
+      assertEquals(tick, renderer.nextTick());
+    }
+
+    // Looping back to the start plays the discrete ticks again
+    renderer.resetTick();
+    assertEquals(2, renderer.nextTick());
+  }
+
+  @Test
+  public void previousTickDiscrete() {
+    renderer.setDiscreteTicks(model);
+    renderer.setPlaybackType(PlaybackType.DISCRETE);
+
+    renderer.setTick(25);
+    int[] expected = {20, 12, 9, 5, 2, 0, 0};
+    for (int tick : expected) {
+      assertEquals(tick, renderer.previousTick());
+    }
+  }
+
+  @Test
+  public void setTickDiscrete() {
+    renderer.setDiscreteTicks(model);
+    renderer.setPlaybackType(PlaybackType.DISCRETE);
+
+    // Seeking between discrete ticks moves to neighbouring ones
+    renderer.setTick(7);
+    assertEquals(9, renderer.nextTick());
+    renderer.setTick(7);
+    assertEquals(5, renderer.previousTick());
+
+    // Seeking onto a discrete tick moves past it
+    renderer.setTick(12);
+    assertEquals(20, renderer.nextTick());
+    renderer.setTick(12);
+    assertEquals(9, renderer.previousTick());
+  }
+
+  @Test
+  public void setDiscreteTicksAfterModelChanges() {
+    renderer.setDiscreteTicks(model);
+    renderer.setPlaybackType(PlaybackType.DISCRETE);
+    model.addMotion("C", Motion2D.builder()
+        .setStartTick(20)
+        .setEndTick(30)
+        .setStartPosition(model.getShapes().get(1).getPosition(20))
+        .setEndPosition(model.getShapes().get(1).getPosition(20))
+        .setStartDimensions(model.getShapes().get(1).getDimensions(20))
+        .setEndDimensions(model.getShapes().get(1).getDimensions(20))
+        .setStartColor(model.getShapes().get(1).getColor(20))
+        .setEndColor(model.getShapes().get(1).getColor(20))
+        .build());
+
+    // Shape version changed, so the new end tick is found
+    renderer.setDiscreteTicks(model);
+    renderer.setTick(20);
+    assertEquals(30, renderer.nextTick());
+  }
+
+  @Test
+  public void nextTickDroppedFrames() {
+    renderer.setDetailLevel(DetailLevel.DROPPED_FRAMES);
+    assertEquals(2, renderer.nextTick());
+    assertEquals(4, renderer.nextTick());
+
+    // Discrete playback is not affected
+    renderer.setDiscreteTicks(model);
+    renderer.setPlaybackType(PlaybackType.DISCRETE);
+    assertEquals(5, renderer.nextTick());
+    assertEquals(9, renderer.nextTick());
+  }
+
+  // Renders the given animation at the given tick and detail level
+  private static BufferedImage render(String animation, int tick, DetailLevel level)
+      throws Exception {
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> model =
+        AnimationReader.parseFile(new StringReader(animation), BasicEasyAnimator.builder());
+    AnimatedShape2DVisualRenderer renderer = new AnimatedShape2DVisualRenderer();
+    renderer.setDetailLevel(level);
+    renderer.setTick(tick);
+
+    BufferedImage image = new BufferedImage(20, 20, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    renderer.setOutput(graphics);
+    for (AnimatedShape2D shape : model.getShapes()) {
+      shape.accept(renderer);
+    }
+    graphics.dispose();
+    return image;
+  }
+
+  @Test
+  public void antialiasingLeftToOutput() {
+    BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+
+    // The output's own hint is kept at full detail, so antialiasing is not turned on by default
+    Object defaultHint = graphics.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+    renderer.setOutput(graphics);
+    assertEquals(defaultHint, graphics.getRenderingHint(RenderingHints.KEY_ANTIALIASING));
+
+    graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    renderer.setOutput(graphics);
+    assertEquals(RenderingHints.VALUE_ANTIALIAS_ON,
+        graphics.getRenderingHint(RenderingHints.KEY_ANTIALIASING));
+
+    // Antialiasing is turned off at low detail, then given back when detail is raised again
+    renderer.setDetailLevel(DetailLevel.NO_ANTIALIASING);
+    assertEquals(RenderingHints.VALUE_ANTIALIAS_OFF,
+        graphics.getRenderingHint(RenderingHints.KEY_ANTIALIASING));
+    renderer.setDetailLevel(DetailLevel.SIMPLE_CROSSES);
+    assertEquals(RenderingHints.VALUE_ANTIALIAS_ON,
+        graphics.getRenderingHint(RenderingHints.KEY_ANTIALIASING));
+    graphics.dispose();
+  }
+
+  @Test
+  public void subpixelShapesSkipped() throws Exception {
+    String animation = "canvas 0 0 20 20\n"
+        + "shape R rectangle\n"
+        + "motion R 0 2 2 1 10 255 0 0 10 2 2 0 10 255 0 0\n";
+
+    // Shape 0.6 pixels wide is still drawn with rounding at full detail
+    assertEquals(0xff0000, render(animation, 4, DetailLevel.FULL).getRGB(2, 5) & 0xffffff);
+    assertEquals(0, render(animation, 4, DetailLevel.NO_SUBPIXEL_SHAPES).getRGB(2, 5) & 0xffffff);
+  }
+
+  @Test
+  public void crossesDrawnAsRectangles() throws Exception {
+    String animation = "canvas 0 0 20 20\n"
+        + "shape X cross\n"
+        + "motion X 0 0 0 12 12 0 255 0 1 0 0 12 12 0 255 0\n";
+
+    // Corners of the bounding box are only filled once crosses are simplified
+    assertEquals(0, render(animation, 0, DetailLevel.NO_SUBPIXEL_SHAPES).getRGB(1, 1) & 0xffffff);
+    assertEquals(0x00ff00,
+        render(animation, 0, DetailLevel.SIMPLE_CROSSES).getRGB(1, 1) & 0xffffff);
+    assertEquals(0x00ff00, render(animation, 0, DetailLevel.FULL).getRGB(6, 6) & 0xffffff);
+  }
+
+  // Renders the given animation at the given tick, either batched or not
+  private static BufferedImage render(String animation, int tick, boolean batching,
+      AnimatedShape2DVisualRenderer[] renderer) throws Exception {
+    EasyAnimatorModel<AnimatedShape2D, Motion2D> model =
+        AnimationReader.parseFile(new StringReader(animation), BasicEasyAnimator.builder());
+    renderer[0] = new AnimatedShape2DVisualRenderer(batching);
+    renderer[0].setDetailLevel(DetailLevel.NO_ANTIALIASING);
+    renderer[0].setTick(tick);
+
+    BufferedImage image = new BufferedImage(40, 40, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    renderer[0].setOutput(graphics);
+    for (AnimatedShape2D shape : model.getShapes()) {
+      shape.accept(renderer[0]);
+    }
+    renderer[0].flush();
+    graphics.dispose();
+    return image;
+  }
+
+  @Test
+  public void batchingKeepsOverlapOrder() throws Exception {
+    // Red shapes A and C sandwich blue B, which overlaps both, while red D overlaps nothing and
+    // green E overlaps only D
+    String animation = "canvas 0 0 40 40\n"
+        + "shape A rectangle\n"
+        + "motion A 0 0 0 10 10 255 0 0 1 0 0 10 10 255 0 0\n"
+        + "shape B rectangle\n"
+        + "motion B 0 5 5 10 10 0 0 255 1 5 5 10 10 0 0 255\n"
+        + "shape C rectangle\n"
+        + "motion C 0 10 10 10 10 255 0 0 1 10 10 10 10 255 0 0\n"
+        + "shape D rectangle\n"
+        + "motion D 0 25 25 5 5 255 0 0 1 25 25 5 5 255 0 0\n"
+        + "shape E ellipse\n"
+        + "motion E 0 28 28 8 8 0 255 0 1 28 28 8 8 0 255 0\n";
+
+    AnimatedShape2DVisualRenderer[] renderer = new AnimatedShape2DVisualRenderer[1];
+    BufferedImage expected = render(animation, 0, false, renderer);
+    assertEquals(0, renderer[0].getDrawCallsSaved());
+    BufferedImage actual = render(animation, 0, true, renderer);
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+      }
+    }
+
+    // C overlaps B, so it starts a new red batch, which D joins
+    assertEquals(0x0000ff, actual.getRGB(7, 7) & 0xffffff);
+    assertEquals(0xff0000, actual.getRGB(12, 12) & 0xffffff);
+    assertEquals(1, renderer[0].getDrawCallsSaved());
+  }
+
+  @Test
+  public void batchingDrawsOnFlush() throws Exception {
+    AnimatedShape2DVisualRenderer batched = new AnimatedShape2DVisualRenderer(true);
+    batched.setTick(2);
+    BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = image.createGraphics();
+    batched.setOutput(graphics);
+    for (AnimatedShape2D shape : model.getShapes()) {
+      shape.accept(batched);
+    }
+    assertEquals(0, image.getRGB(5, 5) & 0xffffff);
+
+    batched.flush();
+    graphics.dispose();
+    assertEquals(0xff0000, image.getRGB(5, 5) & 0xffffff);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void setDetailLevelNull() {
+    renderer.setDetailLevel(null);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void nextTickDiscreteWithoutTicks() {
+    renderer.setPlaybackType(PlaybackType.DISCRETE);
+    renderer.nextTick();
+  }
+
+  @Test
+  public void startAndEndTicks() {
+    AnimatedShape2D ellipse = model.getShapes().get(1);
+    assertEquals(5, renderer.getStartTick(ellipse));
+    assertEquals(20, renderer.getEndTick(ellipse));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void startTickInvalidShape() {
+    renderer.getStartTick(visitor -> {
+    });
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void endTickNull() {
+    renderer.getEndTick(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setTickNegative() {
+    renderer.setTick(-1);
+  }
+}